@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.entity.DocumentEntity;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The batch settings to ArangoDB: the multi-document operations, E.g.: {@code insertDocuments}, send up to
+ * {@link #size()} documents per request, and, when {@link #isImport()} is enabled, the bulk inserts go through
+ * the import API instead.
+ */
+final class ArangoDBBatch {
+
+    static final int DEFAULT_SIZE = 1_000;
+
+    static final ArangoDBBatch DEFAULT = new ArangoDBBatch(DEFAULT_SIZE, false);
+
+    private static final Pattern POSITION = Pattern.compile("at position (\\d+)");
+
+    private final int size;
+
+    private final boolean importing;
+
+    ArangoDBBatch(int size, boolean importing) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + size);
+        }
+        this.size = size;
+        this.importing = importing;
+    }
+
+    /**
+     * @return the maximum number of documents in a request
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return true when the bulk inserts use {@code importDocuments}
+     */
+    boolean isImport() {
+        return importing;
+    }
+
+    /**
+     * Splits the values into chunks of up to {@link #size()} values
+     *
+     * @param values the values
+     * @param <T>    the value type
+     * @return the chunks
+     * @throws NullPointerException when values is null
+     */
+    <T> List<List<T>> chunks(Iterable<T> values) {
+        requireNonNull(values, "values is required");
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(size);
+        for (T value : values) {
+            chunk.add(value);
+            if (chunk.size() == size) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(size);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Maps the result of a multi-document operation back to the values sent, which the server answers in the
+     * same order, with either the document or the error of each one.
+     *
+     * @param values  the values sent
+     * @param result  the result of the operation
+     * @param success the callback of each value written
+     * @param failure the callback of each value that failed
+     * @param <T>     the value type
+     */
+    static <T> void results(List<T> values, MultiDocumentEntity<? extends DocumentEntity> result,
+                            BiConsumer<T, DocumentEntity> success, BiConsumer<T, ErrorEntity> failure) {
+        Iterator<T> iterator = values.iterator();
+        for (Object document : result.getDocumentsAndErrors()) {
+            if (!iterator.hasNext()) {
+                return;
+            }
+            T value = iterator.next();
+            if (document instanceof ErrorEntity error) {
+                failure.accept(value, error);
+            } else if (document instanceof DocumentEntity entity) {
+                success.accept(value, entity);
+            }
+        }
+    }
+
+    /**
+     * Returns the error details of an import, the import API does not return the documents, only the position
+     * and the reason of each error.
+     *
+     * @param result the import result
+     * @return the error details
+     */
+    static Collection<String> errors(DocumentImportEntity result) {
+        Integer errors = result.getErrors();
+        if (errors == null || errors == 0) {
+            return List.of();
+        }
+        Collection<String> details = result.getDetails();
+        if (details == null || details.isEmpty()) {
+            return List.of(errors + " documents failed to import");
+        }
+        return details;
+    }
+
+    /**
+     * Returns the positions, in the request, of the documents reported by the import error details,
+     * E.g.: {@code at position 2: creating document failed with error 'unique constraint violated'}
+     *
+     * @param details the error details
+     * @return the positions
+     */
+    static Set<Integer> positions(Collection<String> details) {
+        Set<Integer> positions = new HashSet<>();
+        for (String detail : details) {
+            Matcher matcher = POSITION.matcher(detail);
+            if (matcher.find()) {
+                positions.add(Integer.parseInt(matcher.group(1)));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Creates the exception that reports the documents that failed at a batch
+     *
+     * @param operation the operation name
+     * @param errors    the error of each document
+     * @return the exception
+     */
+    static ArangoDBException failure(String operation, List<String> errors) {
+        return new ArangoDBException("There are " + errors.size() + " documents that failed to " + operation
+                + ": " + String.join("; ", errors));
+    }
+
+    static String describe(ErrorEntity error) {
+        return error.getErrorNum() + " " + error.getErrorMessage();
+    }
+
+    static ArangoDBBatch of(Settings settings) {
+        requireNonNull(settings, "settings is required");
+        int size = settings.get(ArangoDBConfigurations.BATCH_SIZE, Integer.class).orElse(DEFAULT_SIZE);
+        boolean importing = settings.get(ArangoDBConfigurations.BATCH_IMPORT, Boolean.class).orElse(false);
+        return new ArangoDBBatch(size, importing);
+    }
+}
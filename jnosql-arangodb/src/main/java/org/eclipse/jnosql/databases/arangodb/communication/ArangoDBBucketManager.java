@@ -15,9 +15,14 @@
 package org.eclipse.jnosql.databases.arangodb.communication;
 
 
+import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDB;
 import com.arangodb.DbName;
 import com.arangodb.entity.BaseDocument;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentImportOptions;
+import com.arangodb.model.OverwriteMode;
+import com.arangodb.model.TtlIndexOptions;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
@@ -28,9 +33,14 @@ import jakarta.json.bind.Jsonb;
 
 
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import static java.util.Optional.ofNullable;
@@ -38,9 +48,10 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 
 /**
- * The ArangoDB implementation to {@link BucketManager} it does not support TTL methods:
- * <p>{@link BucketManager#put(Iterable, Duration)}</p>
- * <p>{@link BucketManager#put(Iterable, Duration)}</p>
+ * The ArangoDB implementation to {@link BucketManager}.
+ * A put replaces the key in a single request, and a put with TTL keeps the expiration time, in seconds since epoch,
+ * at the TTL attribute, which has a TTL index so ArangoDB removes the expired keys. The removal runs in background,
+ * thus the reads also skip the expired keys.
  */
 public class ArangoDBBucketManager implements BucketManager {
 
@@ -49,16 +60,41 @@ public class ArangoDBBucketManager implements BucketManager {
     private static final Function<BaseDocument, String> TO_JSON = e -> e.getAttribute(VALUE).toString();
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
+    /**
+     * The default attribute of the expiration time
+     */
+    static final String TTL_ATTRIBUTE = "expireAt";
+
+    private static final DocumentCreateOptions REPLACE = new DocumentCreateOptions()
+            .overwriteMode(OverwriteMode.replace);
+
     private final ArangoDB arangoDB;
 
     private final String bucketName;
     private final String namespace;
 
+    private final ArangoDBBatch batch;
+
+    private final String ttlAttribute;
+
+    private final Clock clock;
+
+    private final AtomicBoolean ttlIndex = new AtomicBoolean();
 
-    ArangoDBBucketManager(ArangoDB arangoDB, String bucketName, String namespace) {
+
+    ArangoDBBucketManager(ArangoDB arangoDB, String bucketName, String namespace, ArangoDBBatch batch,
+                          String ttlAttribute) {
+        this(arangoDB, bucketName, namespace, batch, ttlAttribute, Clock.systemUTC());
+    }
+
+    ArangoDBBucketManager(ArangoDB arangoDB, String bucketName, String namespace, ArangoDBBatch batch,
+                          String ttlAttribute, Clock clock) {
         this.arangoDB = arangoDB;
         this.bucketName = bucketName;
         this.namespace = namespace;
+        this.batch = batch;
+        this.ttlAttribute = ttlAttribute;
+        this.clock = clock;
     }
 
     @Override
@@ -70,14 +106,7 @@ public class ArangoDBBucketManager implements BucketManager {
     public <K, V> void put(K key, V value) throws NullPointerException {
         Objects.requireNonNull(key, "Key is required");
         Objects.requireNonNull(value, "value is required");
-        BaseDocument baseDocument = new BaseDocument();
-        baseDocument.setKey(key.toString());
-        baseDocument.addAttribute(VALUE, JSONB.toJson(value));
-        if (arangoDB.db(DbName.of(bucketName)).collection(namespace).documentExists(key.toString())) {
-            arangoDB.db(DbName.of(bucketName)).collection(namespace).deleteDocument(key.toString());
-        }
-        arangoDB.db(DbName.of(bucketName)).collection(namespace)
-                .insertDocument(baseDocument);
+        collection().insertDocument(toDocument(key, value, null), REPLACE);
     }
 
     @Override
@@ -87,18 +116,40 @@ public class ArangoDBBucketManager implements BucketManager {
 
 
     @Override
-    public  void put(Iterable<KeyValueEntity> keyValueEntities) throws NullPointerException {
-        keyValueEntities.forEach(this::put);
+    public void put(Iterable<KeyValueEntity> keyValueEntities) throws NullPointerException {
+        Objects.requireNonNull(keyValueEntities, "keyValueEntities is required");
+        put(keyValueEntities, (Long) null);
+    }
+
+    private void put(Iterable<KeyValueEntity> keyValueEntities, Long expireAt) {
+        List<String> errors = new ArrayList<>();
+        for (List<KeyValueEntity> chunk : batch.chunks(keyValueEntities)) {
+            List<BaseDocument> documents = chunk.stream()
+                    .map(e -> toDocument(e.key(), e.value(), expireAt))
+                    .collect(toList());
+            if (batch.isImport()) {
+                DocumentImportOptions options = new DocumentImportOptions()
+                        .onDuplicate(DocumentImportOptions.OnDuplicate.replace)
+                        .details(true);
+                errors.addAll(ArangoDBBatch.errors(collection().importDocuments(documents, options)));
+            } else {
+                ArangoDBBatch.results(chunk, collection().insertDocuments(documents, REPLACE), (e, d) -> {
+                }, (e, error) -> errors.add(e.key() + ": " + ArangoDBBatch.describe(error)));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw ArangoDBBatch.failure("put", errors);
+        }
     }
 
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         Objects.requireNonNull(key, "Key is required");
-        BaseDocument entity = arangoDB.db(DbName.of(bucketName)).collection(namespace)
-                .getDocument(key.toString(), BaseDocument.class);
+        BaseDocument entity = collection().getDocument(key.toString(), BaseDocument.class);
 
         return ofNullable(entity)
+                .filter(this::isAlive)
                 .map(TO_JSON)
                 .map(ValueJSON::of);
 
@@ -106,28 +157,77 @@ public class ArangoDBBucketManager implements BucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return stream(keys.spliterator(), false)
+        Objects.requireNonNull(keys, "Keys is required");
+        List<String> ids = stream(keys.spliterator(), false)
                 .map(Object::toString)
-                .map(k -> arangoDB.db(DbName.of(bucketName)).collection(namespace)
-                        .getDocument(k, BaseDocument.class))
-                .filter(Objects::nonNull)
-                .map(TO_JSON)
-                .map(ValueJSON::of)
                 .collect(toList());
+        List<Value> values = new ArrayList<>(ids.size());
+        for (List<String> chunk : batch.chunks(ids)) {
+            collection().getDocuments(chunk, BaseDocument.class).getDocuments().stream()
+                    .filter(Objects::nonNull)
+                    .filter(this::isAlive)
+                    .map(TO_JSON)
+                    .map(ValueJSON::of)
+                    .forEach(values::add);
+        }
+        return values;
     }
 
     @Override
     public <K> void delete(K key) throws NullPointerException {
-        arangoDB.db(DbName.of(bucketName)).collection(namespace).deleteDocument(key.toString());
+        collection().deleteDocument(key.toString());
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
         Objects.requireNonNull(keys, "Keys is required");
+        List<String> ids = stream(keys.spliterator(), false)
+                .map(Object::toString)
+                .collect(toList());
+        for (List<String> chunk : batch.chunks(ids)) {
+            collection().deleteDocuments(chunk);
+        }
+    }
+
+    private ArangoCollection collection() {
+        return arangoDB.db(DbName.of(bucketName)).collection(namespace);
+    }
+
+    private BaseDocument toDocument(Object key, Object value, Long expireAt) {
+        BaseDocument baseDocument = new BaseDocument();
+        baseDocument.setKey(key.toString());
+        baseDocument.addAttribute(VALUE, JSONB.toJson(value));
+        if (expireAt != null) {
+            baseDocument.addAttribute(ttlAttribute, expireAt);
+        }
+        return baseDocument;
+    }
 
-        arangoDB.db(DbName.of(bucketName)).collection(namespace)
-                .deleteDocuments(stream(keys.spliterator(), false)
-                        .map(Object::toString).collect(toList()));
+    private boolean isAlive(BaseDocument document) {
+        Object expireAt = document.getAttribute(ttlAttribute);
+        if (expireAt instanceof Number number) {
+            return number.longValue() > clock.instant().getEpochSecond();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the expiration time, in seconds since epoch, rounded up, so a key does not expire before the TTL.
+     */
+    private long expireAt(Duration ttl) {
+        Instant expiration = clock.instant().plus(ttl);
+        return expiration.getNano() > 0 ? expiration.getEpochSecond() + 1 : expiration.getEpochSecond();
+    }
+
+    private void ensureTtlIndex() {
+        if (ttlIndex.compareAndSet(false, true)) {
+            try {
+                collection().ensureTtlIndex(List.of(ttlAttribute), new TtlIndexOptions().expireAfter(0));
+            } catch (RuntimeException exception) {
+                ttlIndex.set(false);
+                throw exception;
+            }
+        }
     }
 
     @Override
@@ -136,13 +236,19 @@ public class ArangoDBBucketManager implements BucketManager {
     }
 
     @Override
-    public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        throw new UnsupportedOperationException("ArangoDB does not support TTL");
+    public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) throws NullPointerException {
+        Objects.requireNonNull(keyValueEntities, "keyValueEntities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        ensureTtlIndex();
+        put(keyValueEntities, expireAt(ttl));
     }
 
     @Override
-    public void put(KeyValueEntity entity, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        throw new UnsupportedOperationException("ArangoDB does not support TTL");
+    public void put(KeyValueEntity entity, Duration ttl) throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        ensureTtlIndex();
+        collection().insertDocument(toDocument(entity.key(), entity.value(), expireAt(ttl)), REPLACE);
     }
 
 }
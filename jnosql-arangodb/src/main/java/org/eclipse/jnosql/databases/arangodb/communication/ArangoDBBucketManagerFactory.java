@@ -37,8 +37,21 @@ public class ArangoDBBucketManagerFactory implements BucketManagerFactory {
 
     private final ArangoDB arangoDB;
 
+    private final ArangoDBSchema schema;
+
+    private final ArangoDBBatch batch;
+
+    private final String ttlAttribute;
+
     ArangoDBBucketManagerFactory(ArangoDB arangoDB) {
+        this(arangoDB, ArangoDBBatch.DEFAULT, ArangoDBBucketManager.TTL_ATTRIBUTE);
+    }
+
+    ArangoDBBucketManagerFactory(ArangoDB arangoDB, ArangoDBBatch batch, String ttlAttribute) {
         this.arangoDB = arangoDB;
+        this.schema = new ArangoDBSchema(arangoDB);
+        this.batch = batch;
+        this.ttlAttribute = ttlAttribute;
     }
 
     @Override
@@ -47,8 +60,8 @@ public class ArangoDBBucketManagerFactory implements BucketManagerFactory {
     }
 
     public ArangoDBBucketManager getBucketManager(String bucketName, String namespace) {
-        ArangoDBUtil.checkCollection(bucketName, arangoDB, namespace);
-        return new ArangoDBBucketManager(arangoDB, bucketName, namespace);
+        schema.collection(bucketName, namespace);
+        return new ArangoDBBucketManager(arangoDB, bucketName, namespace, batch, ttlAttribute);
     }
 
     @Override
@@ -66,7 +66,45 @@ public enum ArangoDBConfigurations implements Supplier<String> {
     /**
      *Set hosts split by comma
      */
-    HOST_LIST("jnosql.arangodb.acquire.host.list");
+    HOST_LIST("jnosql.arangodb.acquire.host.list"),
+    /**
+     * The maximum number of documents sent in a request by the batch operations, E.g.: insert(Iterable).
+     * By default, 1000.
+     */
+    BATCH_SIZE("jnosql.arangodb.batch.size"),
+    /**
+     * When true, the batch inserts use the import API, the bulk load of ArangoDB, which is faster but does not
+     * return the generated _key, _id and _rev. By default, false.
+     */
+    BATCH_IMPORT("jnosql.arangodb.batch.import"),
+    /**
+     * The attribute that keeps the expiration time, in seconds since epoch, of the keys put with TTL on the
+     * key-value API. The collection gets a TTL index on it. By default, expireAt.
+     */
+    TTL_ATTRIBUTE("jnosql.arangodb.ttl.attribute"),
+    /**
+     * The number of documents the server returns per round trip of a query cursor.
+     * By default, the server default, 1000.
+     */
+    QUERY_BATCH_SIZE("jnosql.arangodb.query.batch.size"),
+    /**
+     * When true, the queries run as streaming cursors, so the server produces the results on demand instead of
+     * keeping the whole result set in memory. By default, false.
+     */
+    QUERY_STREAM("jnosql.arangodb.query.stream"),
+    /**
+     * The time to live, in seconds, of a query cursor on the server since its last use.
+     */
+    QUERY_TTL("jnosql.arangodb.query.ttl"),
+    /**
+     * The maximum memory, in bytes, a query might use on the server.
+     */
+    QUERY_MEMORY_LIMIT("jnosql.arangodb.query.memory.limit"),
+    /**
+     * When true, the queries ask for the server query-result cache, which helps hot read-only queries when the
+     * server cache mode is "demand". By default, the server decides.
+     */
+    QUERY_CACHE("jnosql.arangodb.query.cache");
     private final String configuration;
 
     ArangoDBConfigurations(String configuration) {
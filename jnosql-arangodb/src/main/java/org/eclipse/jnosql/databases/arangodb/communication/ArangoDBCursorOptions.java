@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.model.AqlQueryOptions;
+import org.eclipse.jnosql.communication.Settings;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default cursor options of the queries that do not bring their own {@link AqlQueryOptions},
+ * E.g.: {@link ArangoDBDocumentManager#select(org.eclipse.jnosql.communication.document.DocumentQuery)}.
+ * A value not defined is left to the server default. The {@code cache} option enables the server query-result
+ * cache, which only helps the read-only queries the server allows to cache, and only when the server cache mode is
+ * {@code demand}.
+ */
+final class ArangoDBCursorOptions {
+
+    static final ArangoDBCursorOptions DEFAULT = new ArangoDBCursorOptions(null, null, null, null, null);
+
+    private final Integer batchSize;
+
+    private final Boolean stream;
+
+    private final Integer ttl;
+
+    private final Long memoryLimit;
+
+    private final Boolean cache;
+
+    ArangoDBCursorOptions(Integer batchSize, Boolean stream, Integer ttl, Long memoryLimit, Boolean cache) {
+        this.batchSize = batchSize;
+        this.stream = stream;
+        this.ttl = ttl;
+        this.memoryLimit = memoryLimit;
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a new {@link AqlQueryOptions} with the default values, a new instance each call because
+     * {@link AqlQueryOptions} is mutable.
+     *
+     * @return the {@link AqlQueryOptions}
+     */
+    AqlQueryOptions create() {
+        return new AqlQueryOptions()
+                .batchSize(batchSize)
+                .stream(stream)
+                .ttl(ttl)
+                .memoryLimit(memoryLimit)
+                .cache(cache);
+    }
+
+    static ArangoDBCursorOptions of(Settings settings) {
+        requireNonNull(settings, "settings is required");
+        return new ArangoDBCursorOptions(
+                settings.get(ArangoDBConfigurations.QUERY_BATCH_SIZE, Integer.class).orElse(null),
+                settings.get(ArangoDBConfigurations.QUERY_STREAM, Boolean.class).orElse(null),
+                settings.get(ArangoDBConfigurations.QUERY_TTL, Integer.class).orElse(null),
+                settings.get(ArangoDBConfigurations.QUERY_MEMORY_LIMIT, Long.class).orElse(null),
+                settings.get(ArangoDBConfigurations.QUERY_CACHE, Boolean.class).orElse(null));
+    }
+}
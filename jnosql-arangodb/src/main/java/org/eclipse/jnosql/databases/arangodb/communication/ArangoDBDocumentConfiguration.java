@@ -38,7 +38,8 @@ public final class ArangoDBDocumentConfiguration extends ArangoDBConfiguration
         requireNonNull(settings, "settings is required");
 
         ArangoDB arangoDB = getArangoDB(settings);
-        return new ArangoDBDocumentManagerFactory(arangoDB);
+        return new ArangoDBDocumentManagerFactory(arangoDB, ArangoDBBatch.of(settings),
+                ArangoDBCursorOptions.of(settings));
     }
 
 }
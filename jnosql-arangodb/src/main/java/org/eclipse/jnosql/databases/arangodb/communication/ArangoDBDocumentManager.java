@@ -14,9 +14,11 @@
  */
 package org.eclipse.jnosql.databases.arangodb.communication;
 
+import com.arangodb.model.AqlQueryOptions;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 
 import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
 
 
 import java.util.Map;
@@ -25,6 +27,8 @@ import java.util.stream.Stream;
 /**
  * The ArangoDB implementation of {@link DocumentManager} it does not support to TTL methods:
  * <p>{@link DocumentManager#insert(DocumentEntity)}</p>
+ * The query results are streams over an ArangoDB cursor, which fetches the documents in batches on demand.
+ * A stream that is not consumed until the end should be closed, E.g.: with try-with-resources, to release the cursor.
  */
 public interface ArangoDBDocumentManager extends DocumentManager {
 
@@ -63,4 +67,43 @@ public interface ArangoDBDocumentManager extends DocumentManager {
      * @throws NullPointerException when either query or values are null
      */
     <T> Stream<T> aql(String query, Class<T> typeClass);
+
+    /**
+     * Executes ArangoDB query language, AQL, with the cursor options, E.g.: batchSize, stream, ttl, memoryLimit
+     * and fullCount. The result has the documents and the cursor statistics, E.g.: the full count.
+     * <p>FOR u IN users FILTER u.status == @status RETURN u </p>
+     *
+     * @param query   the query
+     * @param values  the named queries
+     * @param options the cursor options
+     * @return the query result, that should be closed when its stream is not consumed until the end
+     * @throws NullPointerException when either query, values or options are null
+     */
+    ArangoDBQueryResult<DocumentEntity> aql(String query, Map<String, Object> values, AqlQueryOptions options);
+
+    /**
+     * Executes ArangoDB query language, AQL, with the cursor options, E.g.: batchSize, stream, ttl, memoryLimit
+     * and fullCount. The result has the documents and the cursor statistics, E.g.: the full count.
+     * <p>FOR u IN users FILTER u.status == @status RETURN u </p>
+     *
+     * @param query     the query
+     * @param values    named query
+     * @param options   the cursor options
+     * @param typeClass The type of the result
+     * @param <T>       the type
+     * @return the query result, that should be closed when its stream is not consumed until the end
+     * @throws NullPointerException when either query, values, options or typeClass are null
+     */
+    <T> ArangoDBQueryResult<T> aql(String query, Map<String, Object> values, AqlQueryOptions options, Class<T> typeClass);
+
+    /**
+     * Returns the documents of the query with the cursor options, E.g.: batchSize, stream, ttl, memoryLimit
+     * and fullCount. The result has the documents and the cursor statistics, E.g.: the full count.
+     *
+     * @param query   the query
+     * @param options the cursor options
+     * @return the query result, that should be closed when its stream is not consumed until the end
+     * @throws NullPointerException when either query or options are null
+     */
+    ArangoDBQueryResult<DocumentEntity> select(DocumentQuery query, AqlQueryOptions options);
 }
@@ -24,14 +24,25 @@ public final class ArangoDBDocumentManagerFactory implements DocumentManagerFact
 
     private final ArangoDB arangoDB;
 
+    private final ArangoDBBatch batch;
+
+    private final ArangoDBCursorOptions cursorOptions;
+
     ArangoDBDocumentManagerFactory(ArangoDB arangoDB) {
+        this(arangoDB, ArangoDBBatch.DEFAULT, ArangoDBCursorOptions.DEFAULT);
+    }
+
+    ArangoDBDocumentManagerFactory(ArangoDB arangoDB, ArangoDBBatch batch, ArangoDBCursorOptions cursorOptions) {
         this.arangoDB = arangoDB;
+        this.batch = batch;
+        this.cursorOptions = cursorOptions;
     }
 
     @Override
     public ArangoDBDocumentManager apply(String database) {
-        ArangoDBUtil.checkDatabase(database, arangoDB);
-        return new DefaultArangoDBDocumentManager(database, arangoDB);
+        ArangoDBSchema schema = new ArangoDBSchema(arangoDB);
+        schema.database(database);
+        return new DefaultArangoDBDocumentManager(database, arangoDB, schema, batch, cursorOptions);
     }
 
     @Override
@@ -32,6 +32,8 @@ public final class ArangoDBKeyValueConfiguration extends ArangoDBConfiguration
     @Override
     public ArangoDBBucketManagerFactory apply(Settings settings) {
         ArangoDB arangoDB = getArangoDB(settings);
-        return new ArangoDBBucketManagerFactory(arangoDB);
+        String ttlAttribute = settings.get(ArangoDBConfigurations.TTL_ATTRIBUTE, String.class)
+                .orElse(ArangoDBBucketManager.TTL_ATTRIBUTE);
+        return new ArangoDBBucketManagerFactory(arangoDB, ArangoDBBatch.of(settings), ttlAttribute);
     }
 }
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.model.AqlQueryOptions;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The result of a query with {@link AqlQueryOptions}: the documents as a stream over the cursor, which fetches them
+ * in batches on demand, and the cursor statistics, E.g.: the number of documents without the LIMIT when the query
+ * runs with {@link AqlQueryOptions#fullCount(Boolean)}. The statistics come with the first batch, so they are
+ * available before the stream is consumed. Closing the result, or its stream, closes the cursor.
+ *
+ * @param <T> the type of the documents
+ */
+public final class ArangoDBQueryResult<T> implements AutoCloseable {
+
+    private final ArangoCursor<?> cursor;
+
+    private final Stream<T> stream;
+
+    ArangoDBQueryResult(ArangoCursor<?> cursor, Stream<T> stream) {
+        this.cursor = requireNonNull(cursor, "cursor is required");
+        this.stream = requireNonNull(stream, "stream is required");
+    }
+
+    /**
+     * Returns the documents of the query, a single use stream over the cursor
+     *
+     * @return the documents
+     */
+    public Stream<T> stream() {
+        return stream;
+    }
+
+    /**
+     * Returns the number of documents the query matches without the LIMIT of its last top level
+     *
+     * @return the full count, or empty when the query ran without {@link AqlQueryOptions#fullCount(Boolean)}
+     */
+    public Optional<Long> fullCount() {
+        return stats().map(CursorEntity.Stats::getFullCount);
+    }
+
+    /**
+     * Returns the number of documents of the result
+     *
+     * @return the count, or empty when the query ran without {@link AqlQueryOptions#count(Boolean)}
+     */
+    public Optional<Integer> count() {
+        return Optional.ofNullable(cursor.getCount());
+    }
+
+    /**
+     * Returns the statistics of the query execution, E.g.: the documents scanned and filtered and the execution time
+     *
+     * @return the statistics, or empty when the server does not return them
+     */
+    public Optional<CursorEntity.Stats> stats() {
+        return Optional.ofNullable(cursor.getStats());
+    }
+
+    /**
+     * Returns a result with the same cursor, whose documents are converted by the mapper
+     *
+     * @param mapper the mapper
+     * @param <R>    the new type
+     * @return the new result
+     * @throws NullPointerException when mapper is null
+     */
+    public <R> ArangoDBQueryResult<R> map(Function<? super T, ? extends R> mapper) {
+        requireNonNull(mapper, "mapper is required");
+        return new ArangoDBQueryResult<>(cursor, stream.map(mapper));
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    @Override
+    public String toString() {
+        return "ArangoDBQueryResult{" +
+                "count=" + cursor.getCount() +
+                ", stats=" + cursor.getStats() +
+                '}';
+    }
+}
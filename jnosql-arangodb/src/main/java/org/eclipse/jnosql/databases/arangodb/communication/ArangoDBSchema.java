@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.DbName;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The registry of the databases and collections already known to exist on ArangoDB.
+ * The registry is filled lazily: the first use of a database or a collection checks it and creates it when it is
+ * absent, after that, the name is kept and the server is not asked again.
+ * When two clients create the same name at the same time the server answers with the duplicate name error,
+ * that is taken as the name exists.
+ */
+final class ArangoDBSchema {
+
+    static final int DUPLICATE_NAME = 1207;
+
+    static final int CONFLICT = 409;
+
+    static final int COLLECTION_NOT_FOUND = 1203;
+
+    static final int DATABASE_NOT_FOUND = 1228;
+
+    private final ArangoDB arangoDB;
+
+    private final Set<String> databases = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Set<String>> collections = new ConcurrentHashMap<>();
+
+    ArangoDBSchema(ArangoDB arangoDB) {
+        this.arangoDB = requireNonNull(arangoDB, "arangoDB is required");
+    }
+
+    /**
+     * Makes sure the database exists, creating it when it is absent
+     *
+     * @param database the database name
+     * @throws NullPointerException when database is null
+     */
+    void database(String database) {
+        requireNonNull(database, "database is required");
+        if (databases.contains(database)) {
+            return;
+        }
+        ArangoDatabase arangoDatabase = arangoDB.db(DbName.of(database));
+        if (!arangoDatabase.exists()) {
+            try {
+                arangoDatabase.create();
+            } catch (com.arangodb.ArangoDBException exception) {
+                if (!isDuplicate(exception)) {
+                    throw exception;
+                }
+            }
+        }
+        databases.add(database);
+    }
+
+    /**
+     * Makes sure both the database and the collection exist, creating them when they are absent
+     *
+     * @param database   the database name
+     * @param collection the collection name
+     * @throws NullPointerException when either database or collection is null
+     */
+    void collection(String database, String collection) {
+        requireNonNull(database, "database is required");
+        requireNonNull(collection, "collection is required");
+        Set<String> known = collections.computeIfAbsent(database, d -> ConcurrentHashMap.newKeySet());
+        if (known.contains(collection)) {
+            return;
+        }
+        database(database);
+        ArangoCollection arangoCollection = arangoDB.db(DbName.of(database)).collection(collection);
+        if (!arangoCollection.exists()) {
+            try {
+                arangoCollection.create();
+            } catch (com.arangodb.ArangoDBException exception) {
+                if (!isDuplicate(exception)) {
+                    throw exception;
+                }
+            }
+        }
+        known.add(collection);
+    }
+
+    /**
+     * Removes the collection and its database from the registry, so the next use checks them again on the server.
+     * E.g.: when the collection was dropped by another client.
+     *
+     * @param database   the database name
+     * @param collection the collection name
+     */
+    void forget(String database, String collection) {
+        databases.remove(database);
+        Set<String> known = collections.get(database);
+        if (known != null) {
+            known.remove(collection);
+        }
+    }
+
+    static boolean isNotFound(com.arangodb.ArangoDBException exception) {
+        Integer errorNum = exception.getErrorNum();
+        return errorNum != null && (errorNum == COLLECTION_NOT_FOUND || errorNum == DATABASE_NOT_FOUND);
+    }
+
+    static boolean isDuplicate(com.arangodb.ArangoDBException exception) {
+        Integer errorNum = exception.getErrorNum();
+        Integer responseCode = exception.getResponseCode();
+        return (errorNum != null && errorNum == DUPLICATE_NAME)
+                || (responseCode != null && responseCode == CONFLICT);
+    }
+}
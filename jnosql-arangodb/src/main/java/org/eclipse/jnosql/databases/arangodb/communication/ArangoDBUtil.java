@@ -16,23 +16,18 @@ package org.eclipse.jnosql.databases.arangodb.communication;
 
 
 import com.arangodb.ArangoDB;
-import com.arangodb.DbName;
 import com.arangodb.entity.BaseDocument;
-import com.arangodb.entity.CollectionEntity;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -53,9 +48,6 @@ public final class ArangoDBUtil {
     private static final Function<Object, String> KEY_DOCUMENT = d -> cast(d).name();
     private static final Function<Object, Object> VALUE_DOCUMENT = d -> ValueUtil.convert(cast(d).value());
 
-
-    private static final Logger LOGGER = Logger.getLogger(ArangoDBUtil.class.getName());
-
     private static final Function<Map.Entry<?, ?>, Document> ENTRY_DOCUMENT = entry ->
             Document.of(entry.getKey().toString(), entry.getValue());
 
@@ -65,25 +57,11 @@ public final class ArangoDBUtil {
 
     static void checkDatabase(String database, ArangoDB arangoDB) {
         Objects.requireNonNull(database, "database is required");
-        try {
-            Collection<String> databases = arangoDB.getDatabases();
-            if (!databases.contains(database)) {
-                arangoDB.createDatabase(DbName.of(database));
-            }
-        } catch (ArangoDBException e) {
-            LOGGER.log(Level.WARNING, "Failed to create database: " + database, e);
-        }
+        new ArangoDBSchema(arangoDB).database(database);
     }
 
     public static void checkCollection(String bucketName, ArangoDB arangoDB, String namespace) {
-        checkDatabase(bucketName, arangoDB);
-        List<String> collections = arangoDB.db(DbName.of(bucketName))
-                .getCollections().stream()
-                .map(CollectionEntity::getName)
-                .collect(toList());
-        if (!collections.contains(namespace)) {
-            arangoDB.db(DbName.of(bucketName)).createCollection(namespace);
-        }
+        new ArangoDBSchema(arangoDB).collection(bucketName, namespace);
     }
 
 
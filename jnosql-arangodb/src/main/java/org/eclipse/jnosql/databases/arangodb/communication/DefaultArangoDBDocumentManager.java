@@ -19,17 +19,30 @@ import com.arangodb.ArangoDB;
 import com.arangodb.DbName;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentImportEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.model.DocumentImportOptions;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -48,9 +61,23 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
 
     private final ArangoDB arangoDB;
 
+    private final ArangoDBSchema schema;
+
+    private final ArangoDBBatch batch;
+
+    private final ArangoDBCursorOptions cursorOptions;
+
     DefaultArangoDBDocumentManager(String database, ArangoDB arangoDB) {
+        this(database, arangoDB, new ArangoDBSchema(arangoDB), ArangoDBBatch.DEFAULT, ArangoDBCursorOptions.DEFAULT);
+    }
+
+    DefaultArangoDBDocumentManager(String database, ArangoDB arangoDB, ArangoDBSchema schema, ArangoDBBatch batch,
+                                   ArangoDBCursorOptions cursorOptions) {
         this.database = database;
         this.arangoDB = arangoDB;
+        this.schema = schema;
+        this.batch = batch;
+        this.cursorOptions = cursorOptions;
     }
 
     @Override
@@ -61,10 +88,9 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public DocumentEntity insert(DocumentEntity entity) throws NullPointerException {
         String collectionName = entity.name();
-        checkCollection(collectionName);
         BaseDocument baseDocument = ArangoDBUtil.getBaseDocument(entity);
-        DocumentCreateEntity<BaseDocument> arandoDocument = arangoDB.db(DbName.of(database))
-                .collection(collectionName).insertDocument(baseDocument);
+        DocumentCreateEntity<BaseDocument> arandoDocument = inCollection(collectionName,
+                () -> arangoDB.db(DbName.of(database)).collection(collectionName).insertDocument(baseDocument));
         updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
         return entity;
     }
@@ -72,14 +98,14 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public DocumentEntity update(DocumentEntity entity) {
         String collectionName = entity.name();
-        checkCollection(collectionName);
         String id = entity.find(ID, String.class)
                 .orElseThrow(() -> new IllegalArgumentException("The document does not provide" +
                         " the _id column"));
         feedKey(entity, id);
         BaseDocument baseDocument = ArangoDBUtil.getBaseDocument(entity);
-        DocumentUpdateEntity<BaseDocument> arandoDocument = arangoDB.db(DbName.of(database))
-                .collection(collectionName).updateDocument(baseDocument.getKey(), baseDocument);
+        DocumentUpdateEntity<BaseDocument> arandoDocument = inCollection(collectionName,
+                () -> arangoDB.db(DbName.of(database)).collection(collectionName)
+                        .updateDocument(baseDocument.getKey(), baseDocument));
         updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
         return entity;
     }
@@ -88,9 +114,30 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
+        List<DocumentEntity> documents = StreamSupport.stream(entities.spliterator(), false)
                 .collect(Collectors.toList());
+        for (DocumentEntity entity : documents) {
+            String id = entity.find(ID, String.class)
+                    .orElseThrow(() -> new IllegalArgumentException("The document does not provide" +
+                            " the _id column"));
+            feedKey(entity, id);
+        }
+        List<String> errors = new ArrayList<>();
+        byCollection(documents).forEach((collectionName, values) -> {
+            for (List<DocumentEntity> chunk : batch.chunks(values)) {
+                List<BaseDocument> baseDocuments = chunk.stream().map(ArangoDBUtil::getBaseDocument)
+                        .collect(Collectors.toList());
+                MultiDocumentEntity<DocumentUpdateEntity<BaseDocument>> result = inCollection(collectionName,
+                        () -> arangoDB.db(DbName.of(database)).collection(collectionName)
+                                .updateDocuments(baseDocuments));
+                ArangoDBBatch.results(chunk, result, this::updateEntity,
+                        (entity, error) -> errors.add(describe(collectionName, entity, error)));
+            }
+        });
+        if (!errors.isEmpty()) {
+            throw ArangoDBBatch.failure("update", errors);
+        }
+        return documents;
     }
 
     @Override
@@ -108,21 +155,24 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
+        return select(query, cursorOptions.create()).stream();
+    }
 
+    @Override
+    public ArangoDBQueryResult<DocumentEntity> select(DocumentQuery query, AqlQueryOptions options) {
+        requireNonNull(query, "query is required");
+        requireNonNull(options, "options is required");
         AQLQueryResult result = QueryAQLConverter.select(query);
         ArangoCursor<BaseDocument> documents = arangoDB.db(DbName.of(database)).query(result.getQuery(),
-                result.getValues(), null, BaseDocument.class);
-
-        return StreamSupport.stream(documents.spliterator(), false)
-                .map(ArangoDBUtil::toEntity);
+                result.getValues(), options, BaseDocument.class);
+        return result(documents).map(ArangoDBUtil::toEntity);
     }
 
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "document collection is required");
-        String aql = "RETURN LENGTH(" + documentCollection + ")";
-        ArangoCursor<Object> query = arangoDB.db(DbName.of(database)).query(aql, emptyMap(), null, Object.class);
-        return StreamSupport.stream(query.spliterator(), false).findFirst().map(Long.class::cast).orElse(0L);
+        Long count = arangoDB.db(DbName.of(database)).collection(documentCollection).count().getCount();
+        return count == null ? 0L : count;
     }
 
 
@@ -130,10 +180,18 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     public Stream<DocumentEntity> aql(String query, Map<String, Object> values) throws NullPointerException {
         requireNonNull(query, "query is required");
         requireNonNull(values, "values is required");
-        ArangoCursor<BaseDocument> result = arangoDB.db(DbName.of(database)).query(query, values, null, BaseDocument.class);
-        return StreamSupport.stream(result.spliterator(), false)
-                .map(ArangoDBUtil::toEntity);
+        return aql(query, values, cursorOptions.create()).stream();
+    }
 
+    @Override
+    public ArangoDBQueryResult<DocumentEntity> aql(String query, Map<String, Object> values,
+                                                   AqlQueryOptions options) {
+        requireNonNull(query, "query is required");
+        requireNonNull(values, "values is required");
+        requireNonNull(options, "options is required");
+        ArangoCursor<BaseDocument> result = arangoDB.db(DbName.of(database)).query(query, values, options,
+                BaseDocument.class);
+        return result(result).map(ArangoDBUtil::toEntity);
     }
 
     @Override
@@ -141,16 +199,25 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         requireNonNull(query, "query is required");
         requireNonNull(values, "values is required");
         requireNonNull(typeClass, "typeClass is required");
-        ArangoCursor<T> result = arangoDB.db(DbName.of(database)).query(query, values, null, typeClass);
-        return StreamSupport.stream(result.spliterator(), false);
+        return aql(query, values, cursorOptions.create(), typeClass).stream();
+    }
+
+    @Override
+    public <T> ArangoDBQueryResult<T> aql(String query, Map<String, Object> values, AqlQueryOptions options,
+                                          Class<T> typeClass) {
+        requireNonNull(query, "query is required");
+        requireNonNull(values, "values is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(typeClass, "typeClass is required");
+        ArangoCursor<T> result = arangoDB.db(DbName.of(database)).query(query, values, options, typeClass);
+        return result(result);
     }
 
     @Override
     public <T> Stream<T> aql(String query, Class<T> typeClass) {
         requireNonNull(query, "query is required");
         requireNonNull(typeClass, "typeClass is required");
-        ArangoCursor<T> result = arangoDB.db(DbName.of(database)).query(query, emptyMap(), null, typeClass);
-        return StreamSupport.stream(result.spliterator(), false);
+        return aql(query, emptyMap(), cursorOptions.create(), typeClass).stream();
     }
 
 
@@ -160,8 +227,22 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     }
 
 
-    private void checkCollection(String collectionName) {
-        ArangoDBUtil.checkCollection(database, arangoDB, collectionName);
+    /**
+     * Runs the operation once the collection is known to exist. When the server says the collection,
+     * or its database, is gone, e.g.: it was dropped by another client, it creates them again and retries once.
+     */
+    private <T> T inCollection(String collectionName, Supplier<T> operation) {
+        schema.collection(database, collectionName);
+        try {
+            return operation.get();
+        } catch (com.arangodb.ArangoDBException exception) {
+            if (!ArangoDBSchema.isNotFound(exception)) {
+                throw exception;
+            }
+            schema.forget(database, collectionName);
+            schema.collection(database, collectionName);
+            return operation.get();
+        }
     }
 
     private boolean checkCondition(Optional<DocumentCondition> query) {
@@ -177,9 +258,59 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
+        List<DocumentEntity> documents = StreamSupport.stream(entities.spliterator(), false)
+                .collect(Collectors.toList());
+        List<String> errors = new ArrayList<>();
+        byCollection(documents).forEach((collectionName, values) -> {
+            for (List<DocumentEntity> chunk : batch.chunks(values)) {
+                if (batch.isImport()) {
+                    importDocuments(collectionName, chunk, errors);
+                } else {
+                    insertDocuments(collectionName, chunk, errors);
+                }
+            }
+        });
+        if (!errors.isEmpty()) {
+            throw ArangoDBBatch.failure("insert", errors);
+        }
+        return documents;
+    }
+
+    private void insertDocuments(String collectionName, List<DocumentEntity> chunk, List<String> errors) {
+        List<BaseDocument> baseDocuments = chunk.stream().map(ArangoDBUtil::getBaseDocument)
                 .collect(Collectors.toList());
+        MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> result = inCollection(collectionName,
+                () -> arangoDB.db(DbName.of(database)).collection(collectionName).insertDocuments(baseDocuments));
+        ArangoDBBatch.results(chunk, result, this::updateEntity,
+                (entity, error) -> errors.add(describe(collectionName, entity, error)));
+    }
+
+    /**
+     * The import API does not return the documents, so only the documents that bring the _key have the _id
+     * written back, and none has the _rev.
+     */
+    private void importDocuments(String collectionName, List<DocumentEntity> chunk, List<String> errors) {
+        List<BaseDocument> baseDocuments = chunk.stream().map(ArangoDBUtil::getBaseDocument)
+                .collect(Collectors.toList());
+        DocumentImportOptions options = new DocumentImportOptions()
+                .onDuplicate(DocumentImportOptions.OnDuplicate.error)
+                .details(true);
+        DocumentImportEntity result = inCollection(collectionName,
+                () -> arangoDB.db(DbName.of(database)).collection(collectionName)
+                        .importDocuments(baseDocuments, options));
+        Collection<String> failures = ArangoDBBatch.errors(result);
+        Set<Integer> positions = ArangoDBBatch.positions(failures);
+        failures.forEach(failure -> errors.add(collectionName + ": " + failure));
+        if (!failures.isEmpty() && positions.isEmpty()) {
+            return;
+        }
+        for (int index = 0; index < chunk.size(); index++) {
+            DocumentEntity entity = chunk.get(index);
+            if (!positions.contains(index)) {
+                entity.find(KEY, String.class)
+                        .ifPresent(key -> entity.add(Document.of(ID, collectionName + '/' + key)));
+            }
+        }
     }
 
     @Override
@@ -191,12 +322,41 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
                 .collect(Collectors.toList());
     }
 
+    private void updateEntity(DocumentEntity entity, com.arangodb.entity.DocumentEntity document) {
+        updateEntity(entity, document.getKey(), document.getId(), document.getRev());
+    }
+
     private void updateEntity(DocumentEntity entity, String key, String id, String rev) {
         entity.add(Document.of(KEY, key));
         entity.add(Document.of(ID, id));
         entity.add(Document.of(REV, rev));
     }
 
+    /**
+     * Returns the cursor as a stream that fetches the batches on demand, closing the stream closes the cursor,
+     * which releases it on the server when the stream was not consumed until the end.
+     */
+    private static <T> ArangoDBQueryResult<T> result(ArangoCursor<T> cursor) {
+        return new ArangoDBQueryResult<>(cursor, StreamSupport.stream(cursor.spliterator(), false).onClose(() -> {
+            try {
+                cursor.close();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }));
+    }
+
+    private static Map<String, List<DocumentEntity>> byCollection(List<DocumentEntity> entities) {
+        return entities.stream().collect(Collectors.groupingBy(DocumentEntity::name, LinkedHashMap::new,
+                Collectors.toList()));
+    }
+
+    private static String describe(String collectionName, DocumentEntity entity, ErrorEntity error) {
+        String document = entity.find(KEY, String.class).map(key -> collectionName + '/' + key)
+                .orElse(collectionName);
+        return document + ": " + ArangoDBBatch.describe(error);
+    }
+
     private static void feedKey(DocumentEntity entity, String id) {
         if (entity.find(KEY).isEmpty()) {
             String[] values = id.split("/");
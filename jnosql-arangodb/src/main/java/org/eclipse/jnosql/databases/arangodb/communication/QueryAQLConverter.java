@@ -29,9 +29,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Converts the document queries to AQL. Every value, including the LIMIT offset and count, is a bind parameter,
+ * so the queries of the same shape, E.g.: the pages of a listing, have the same AQL text, which the server can
+ * reuse, and the text is created once per shape and kept in a cache.
+ */
 final class QueryAQLConverter {
 
+    static final String SKIP_PARAM = "skip";
+    static final String LIMIT_PARAM = "limit";
+
+    private static final int CACHE_SIZE = 1_000;
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
     private static final String FILTER = " FILTER ";
     private static final String LIMIT = " LIMIT ";
     private static final String IN = " IN ";
@@ -81,8 +94,49 @@ final class QueryAQLConverter {
                                           long firstResult,
                                           long maxResult,
                                           String conclusion, boolean delete) {
+        Map<String, Object> params = new HashMap<>();
+        boolean hasSkip = firstResult > 0 && maxResult > 0;
+        boolean hasLimit = maxResult > 0;
+        if (hasSkip) {
+            params.put(SKIP_PARAM, firstResult);
+        }
+        if (hasLimit) {
+            params.put(LIMIT_PARAM, maxResult);
+        }
+        StringBuilder shape = new StringBuilder(documentCollection).append('|').append(delete).append('|');
+        documentCondition.ifPresent(condition -> shape(condition, shape, params));
+        shape.append('|');
+        for (Sort sort : sorts) {
+            shape.append(sort.property()).append(sort.isAscending() ? '+' : '-').append(',');
+        }
+        shape.append('|').append(hasSkip).append('|').append(hasLimit);
+
+        String key = shape.toString();
+        String aql = CACHE.get(key);
+        if (aql == null) {
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            aql = CACHE.computeIfAbsent(key, k -> aql(documentCollection, documentCondition, sorts, hasSkip,
+                    hasLimit, conclusion, delete));
+        }
+        return new AQLQueryResult(aql, params);
+    }
+
+    private static String aql(String documentCollection,
+                              Optional<DocumentCondition> documentCondition,
+                              List<Sort> sorts,
+                              boolean hasSkip,
+                              boolean hasLimit,
+                              String conclusion, boolean delete) {
         StringBuilder aql = new StringBuilder();
         Map<String, Object> params = new HashMap<>();
+        if (hasSkip) {
+            params.put(SKIP_PARAM, null);
+        }
+        if (hasLimit) {
+            params.put(LIMIT_PARAM, null);
+        }
         char entity = Character.toLowerCase(documentCollection.charAt(0));
         aql.append("FOR ").append(entity).append(IN).append(documentCollection);
 
@@ -94,18 +148,46 @@ final class QueryAQLConverter {
             sort(sorts, aql, entity);
         }
 
-        if (firstResult > 0 && maxResult > 0) {
-            aql.append(LIMIT).append(firstResult)
-                    .append(", ").append(maxResult);
-        } else if (maxResult > 0) {
-            aql.append(LIMIT).append(maxResult);
+        if (hasSkip) {
+            aql.append(LIMIT).append(PARAM_APPENDER).append(SKIP_PARAM)
+                    .append(", ").append(PARAM_APPENDER).append(LIMIT_PARAM);
+        } else if (hasLimit) {
+            aql.append(LIMIT).append(PARAM_APPENDER).append(LIMIT_PARAM);
         }
 
         aql.append(conclusion).append(entity);
         if (delete) {
             aql.append(IN).append(documentCollection);
         }
-        return new AQLQueryResult(aql.toString(), params);
+        return aql.toString();
+    }
+
+    /**
+     * Appends the shape of the condition, the conditions and the document names without the values, and binds the
+     * values in the same order, and with the same names, the AQL creation does.
+     */
+    private static void shape(DocumentCondition condition, StringBuilder shape, Map<String, Object> params) {
+        Document document = condition.document();
+        switch (condition.condition()) {
+            case AND:
+            case OR:
+                shape.append(condition.condition()).append('(');
+                for (DocumentCondition dc : document.get(new TypeReference<List<DocumentCondition>>() {
+                })) {
+                    shape(dc, shape, params);
+                    shape.append(',');
+                }
+                shape.append(')');
+                return;
+            case NOT:
+                shape.append(condition.condition()).append('(');
+                shape(document.get(DocumentCondition.class), shape, params);
+                shape.append(')');
+                return;
+            default:
+                shape.append(condition.condition()).append(':').append(document.name());
+                bind(params, document, condition.condition() == org.eclipse.jnosql.communication.Condition.IN);
+        }
     }
 
     private static void sort(List<Sort> sorts, StringBuilder aql, char entity) {
@@ -185,14 +267,19 @@ final class QueryAQLConverter {
 
     private static void appendCondition(StringBuilder aql, Map<String, Object> params,
                                         char entity, Document document, String condition) {
-        String nameParam = getNameParam(document.name(), params);
+        String nameParam = bind(params, document, IN.equals(condition));
         aql.append(SEPARATOR).append(entity).append('.').append(document.name())
                 .append(condition).append(PARAM_APPENDER).append(nameParam);
-        if (IN.equals(condition)) {
+    }
+
+    private static String bind(Map<String, Object> params, Document document, boolean in) {
+        String nameParam = getNameParam(document.name(), params);
+        if (in) {
             params.put(nameParam, ValueUtil.convertToList(document.value()));
         } else {
             params.put(nameParam, document.get());
         }
+        return nameParam;
     }
 
     private static String getNameParam(String name, Map<String, Object> params) {
@@ -201,7 +288,7 @@ final class QueryAQLConverter {
         String paramName = parameter;
         int counter = 1;
         while (params.containsKey(paramName)) {
-            paramName = parameter + '_' + counter;
+            paramName = parameter + '_' + counter++;
         }
 
         return paramName;
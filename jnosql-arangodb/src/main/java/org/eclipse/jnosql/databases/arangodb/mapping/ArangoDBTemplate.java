@@ -16,6 +16,8 @@ package org.eclipse.jnosql.databases.arangodb.mapping;
 
 
 
+import com.arangodb.model.AqlQueryOptions;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryResult;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 
 import java.util.Map;
@@ -63,5 +65,37 @@ public interface ArangoDBTemplate extends JNoSQLDocumentTemplate {
      */
     <T> Stream<T> aql(String query, Class<T> typeClass);
 
+    /**
+     * Executes ArangoDB query language, AQL, with the cursor options, E.g.: batchSize, stream, ttl, memoryLimit
+     * and fullCount. The result has the entities, read in batches on demand, and the cursor statistics, E.g.: the
+     * full count. Closing the result closes the cursor.
+     * <p>FOR u IN users FILTER u.status == @status RETURN u </p>
+     *
+     * @param <T>     entity class
+     * @param query   the query
+     * @param values  the named queries
+     * @param options the cursor options
+     * @return the query result
+     * @throws NullPointerException when either query, values or options are null
+     */
+    <T> ArangoDBQueryResult<T> aql(String query, Map<String, Object> values, AqlQueryOptions options);
+
+    /**
+     * Executes ArangoDB query language, AQL, with the cursor options, E.g.: batchSize, stream, ttl, memoryLimit
+     * and fullCount. The result has the entities, read in batches on demand, and the cursor statistics, E.g.: the
+     * full count. Closing the result closes the cursor.
+     * <p>FOR u IN users FILTER u.status == @status RETURN u </p>
+     *
+     * @param query     the query
+     * @param values    named query
+     * @param options   the cursor options
+     * @param typeClass The type of the result
+     * @param <T>       the type
+     * @return the query result
+     * @throws NullPointerException when either query, values, options or typeClass are null
+     */
+    <T> ArangoDBQueryResult<T> aql(String query, Map<String, Object> values, AqlQueryOptions options,
+                                   Class<T> typeClass);
+
 
 }
@@ -15,12 +15,14 @@
 package org.eclipse.jnosql.databases.arangodb.mapping;
 
 
+import com.arangodb.model.AqlQueryOptions;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryResult;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.document.AbstractDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
@@ -113,4 +115,18 @@ class DefaultArangoDBTemplate extends AbstractDocumentTemplate implements Arango
     public <T> Stream<T> aql(String query, Class<T> typeClass) {
         return manager.get().aql(query, typeClass);
     }
+
+    @Override
+    public <T> ArangoDBQueryResult<T> aql(String query, Map<String, Object> values, AqlQueryOptions options) {
+        requireNonNull(query, "query is required");
+        requireNonNull(values, "values is required");
+        requireNonNull(options, "options is required");
+        return manager.get().aql(query, values, options).map(d -> (T) converter.toEntity(d));
+    }
+
+    @Override
+    public <T> ArangoDBQueryResult<T> aql(String query, Map<String, Object> values, AqlQueryOptions options,
+                                          Class<T> typeClass) {
+        return manager.get().aql(query, values, options, typeClass);
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.DbName;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentImportOptions;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArangoDBBatchTest {
+
+    private static final String DATABASE = "database";
+
+    private static final String COLLECTION = "person";
+
+    private ArangoDB arangoDB;
+
+    private ArangoCollection collection;
+
+    @BeforeEach
+    void setUp() {
+        arangoDB = Mockito.mock(ArangoDB.class);
+        ArangoDatabase database = Mockito.mock(ArangoDatabase.class);
+        collection = Mockito.mock(ArangoCollection.class);
+        when(arangoDB.db(DbName.of(DATABASE))).thenReturn(database);
+        when(database.collection(COLLECTION)).thenReturn(collection);
+        when(database.exists()).thenReturn(true);
+        when(collection.exists()).thenReturn(true);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSizeIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new ArangoDBBatch(0, false));
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        ArangoDBBatch batch = ArangoDBBatch.of(Settings.builder()
+                .put(ArangoDBConfigurations.BATCH_SIZE.get(), "50")
+                .put(ArangoDBConfigurations.BATCH_IMPORT.get(), "true")
+                .build());
+        assertEquals(50, batch.size());
+        assertTrue(batch.isImport());
+
+        ArangoDBBatch defaultBatch = ArangoDBBatch.of(Settings.builder().build());
+        assertEquals(ArangoDBBatch.DEFAULT_SIZE, defaultBatch.size());
+        assertFalse(defaultBatch.isImport());
+    }
+
+    @Test
+    void shouldSplitChunks() {
+        ArangoDBBatch batch = new ArangoDBBatch(3, false);
+        List<List<Integer>> chunks = batch.chunks(IntStream.range(0, 7).boxed().collect(Collectors.toList()));
+        assertThat(chunks).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6));
+        assertThat(batch.chunks(List.of())).isEmpty();
+    }
+
+    @Test
+    void shouldReadImportPositions() {
+        Set<Integer> positions = ArangoDBBatch.positions(List.of(
+                "at position 2: creating document failed with error 'unique constraint violated'",
+                "at position 10: invalid document type",
+                "unknown error"));
+        assertThat(positions).containsExactlyInAnyOrder(2, 10);
+    }
+
+    @Test
+    void shouldInsertInChunksAndWriteBackKeys() {
+        when(collection.insertDocuments(anyCollection())).thenAnswer(invocation -> {
+            Collection<BaseDocument> documents = invocation.getArgument(0);
+            List<Object> results = new ArrayList<>();
+            for (BaseDocument document : documents) {
+                String key = document.getAttribute("name").toString();
+                results.add(created(key));
+            }
+            return multi(results);
+        });
+        DefaultArangoDBDocumentManager manager = manager(new ArangoDBBatch(2, false));
+        List<DocumentEntity> entities = entities(5);
+
+        Iterable<DocumentEntity> result = manager.insert(entities);
+
+        assertThat(result).containsExactlyElementsOf(entities);
+        verify(collection, times(3)).insertDocuments(anyCollection());
+        verify(collection, never()).insertDocument(any());
+        for (DocumentEntity entity : entities) {
+            String name = entity.find("name", String.class).orElseThrow();
+            assertEquals(name, entity.find("_key", String.class).orElseThrow());
+            assertEquals(COLLECTION + "/" + name, entity.find("_id", String.class).orElseThrow());
+            assertEquals("rev-" + name, entity.find("_rev", String.class).orElseThrow());
+        }
+    }
+
+    @Test
+    void shouldMapDocumentErrors() {
+        ErrorEntity error = Mockito.mock(ErrorEntity.class);
+        when(error.getErrorNum()).thenReturn(1210);
+        when(error.getErrorMessage()).thenReturn("unique constraint violated");
+        MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> result = multi(List.of(created("name-0"), error));
+        when(collection.insertDocuments(anyCollection())).thenAnswer(invocation -> result);
+        DefaultArangoDBDocumentManager manager = manager(ArangoDBBatch.DEFAULT);
+        List<DocumentEntity> entities = entities(2);
+        entities.get(1).add("_key", "duplicated");
+
+        ArangoDBException exception = assertThrows(ArangoDBException.class, () -> manager.insert(entities));
+
+        assertThat(exception.getMessage()).contains("person/duplicated", "1210", "unique constraint violated");
+        assertEquals("name-0", entities.get(0).find("_key", String.class).orElseThrow());
+        assertTrue(entities.get(1).find("_rev").isEmpty());
+    }
+
+    @Test
+    void shouldImportDocuments() {
+        DocumentImportEntity result = new DocumentImportEntity();
+        result.setCreated(1);
+        result.setErrors(1);
+        result.setDetails(List.of("at position 1: creating document failed with error 'unique constraint violated'"));
+        when(collection.importDocuments(anyCollection(), any(DocumentImportOptions.class))).thenReturn(result);
+        DefaultArangoDBDocumentManager manager = manager(new ArangoDBBatch(10, true));
+        List<DocumentEntity> entities = entities(2);
+        entities.get(0).add("_key", "ada");
+        entities.get(1).add("_key", "duplicated");
+
+        ArangoDBException exception = assertThrows(ArangoDBException.class, () -> manager.insert(entities));
+
+        assertThat(exception.getMessage()).contains("at position 1");
+        verify(collection, never()).insertDocuments(anyCollection());
+        assertEquals("person/ada", entities.get(0).find("_id", String.class).orElseThrow());
+        assertTrue(entities.get(1).find("_id").isEmpty());
+    }
+
+    private DefaultArangoDBDocumentManager manager(ArangoDBBatch batch) {
+        return new DefaultArangoDBDocumentManager(DATABASE, arangoDB, new ArangoDBSchema(arangoDB), batch,
+                ArangoDBCursorOptions.DEFAULT);
+    }
+
+    private static List<DocumentEntity> entities(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> DocumentEntity.of(COLLECTION, List.of(Document.of("name", "name-" + index))))
+                .collect(Collectors.toList());
+    }
+
+    private static DocumentCreateEntity<BaseDocument> created(String key) {
+        DocumentCreateEntity<BaseDocument> created = Mockito.mock(DocumentCreateEntity.class);
+        when(created.getKey()).thenReturn(key);
+        when(created.getId()).thenReturn(COLLECTION + "/" + key);
+        when(created.getRev()).thenReturn("rev-" + key);
+        return created;
+    }
+
+    private static <T> MultiDocumentEntity<T> multi(List<Object> documentsAndErrors) {
+        MultiDocumentEntity<T> result = new MultiDocumentEntity<>();
+        result.setDocumentsAndErrors(documentsAndErrors);
+        return result;
+    }
+}
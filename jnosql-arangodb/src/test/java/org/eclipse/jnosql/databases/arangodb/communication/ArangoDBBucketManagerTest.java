@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.DbName;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.OverwriteMode;
+import com.arangodb.model.TtlIndexOptions;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArangoDBBucketManagerTest {
+
+    private static final String BUCKET = "bucket";
+
+    private static final String NAMESPACE = "namespace";
+
+    private static final Instant NOW = Instant.parse("2023-05-01T10:00:00Z");
+
+    private ArangoCollection collection;
+
+    private ArangoDBBucketManager manager;
+
+    @BeforeEach
+    void setUp() {
+        ArangoDB arangoDB = Mockito.mock(ArangoDB.class);
+        ArangoDatabase database = Mockito.mock(ArangoDatabase.class);
+        collection = Mockito.mock(ArangoCollection.class);
+        when(arangoDB.db(DbName.of(BUCKET))).thenReturn(database);
+        when(database.collection(NAMESPACE)).thenReturn(collection);
+        manager = new ArangoDBBucketManager(arangoDB, BUCKET, NAMESPACE, ArangoDBBatch.DEFAULT,
+                ArangoDBBucketManager.TTL_ATTRIBUTE, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldPutInSingleRequest() {
+        manager.put("otavio", "value");
+
+        ArgumentCaptor<BaseDocument> document = ArgumentCaptor.forClass(BaseDocument.class);
+        ArgumentCaptor<DocumentCreateOptions> options = ArgumentCaptor.forClass(DocumentCreateOptions.class);
+        verify(collection).insertDocument(document.capture(), options.capture());
+        assertEquals("otavio", document.getValue().getKey());
+        assertNull(document.getValue().getAttribute(ArangoDBBucketManager.TTL_ATTRIBUTE));
+        assertEquals(OverwriteMode.replace, options.getValue().getOverwriteMode());
+        verify(collection, never()).documentExists(anyString());
+        verify(collection, never()).deleteDocument(anyString());
+        verify(collection, never()).ensureTtlIndex(any(), any());
+    }
+
+    @Test
+    void shouldPutWithTTL() {
+        manager.put(KeyValueEntity.of("otavio", "value"), Duration.ofMillis(1_500));
+        manager.put(KeyValueEntity.of("soro", "value"), Duration.ofSeconds(10));
+
+        ArgumentCaptor<BaseDocument> document = ArgumentCaptor.forClass(BaseDocument.class);
+        verify(collection, times(2)).insertDocument(document.capture(), any(DocumentCreateOptions.class));
+        assertEquals(NOW.getEpochSecond() + 2, document.getAllValues().get(0)
+                .getAttribute(ArangoDBBucketManager.TTL_ATTRIBUTE));
+        assertEquals(NOW.getEpochSecond() + 10, document.getAllValues().get(1)
+                .getAttribute(ArangoDBBucketManager.TTL_ATTRIBUTE));
+        verify(collection, times(1)).ensureTtlIndex(eq(List.of(ArangoDBBucketManager.TTL_ATTRIBUTE)),
+                any(TtlIndexOptions.class));
+    }
+
+    @Test
+    void shouldPutIterableWithTTL() {
+        MultiDocumentEntity<Object> result = new MultiDocumentEntity<>();
+        result.setDocumentsAndErrors(List.of());
+        when(collection.insertDocuments(anyCollection(), any(DocumentCreateOptions.class)))
+                .thenAnswer(invocation -> result);
+
+        manager.put(List.of(KeyValueEntity.of("otavio", "value"), KeyValueEntity.of("soro", "value")),
+                Duration.ofSeconds(30));
+
+        ArgumentCaptor<Collection<BaseDocument>> documents = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<DocumentCreateOptions> options = ArgumentCaptor.forClass(DocumentCreateOptions.class);
+        verify(collection).insertDocuments(documents.capture(), options.capture());
+        assertEquals(OverwriteMode.replace, options.getValue().getOverwriteMode());
+        assertThat(documents.getValue()).hasSize(2).allMatch(d ->
+                Long.valueOf(NOW.getEpochSecond() + 30).equals(d.getAttribute(ArangoDBBucketManager.TTL_ATTRIBUTE)));
+        verify(collection).ensureTtlIndex(any(), any());
+    }
+
+    @Test
+    void shouldSkipExpiredKeys() {
+        when(collection.getDocument("expired", BaseDocument.class))
+                .thenReturn(document("expired", NOW.getEpochSecond()));
+        when(collection.getDocument("alive", BaseDocument.class))
+                .thenReturn(document("alive", NOW.getEpochSecond() + 1));
+        when(collection.getDocument("forever", BaseDocument.class))
+                .thenReturn(document("forever", null));
+
+        assertFalse(manager.get("expired").isPresent());
+        assertTrue(manager.get("alive").isPresent());
+        assertEquals("value", manager.get("forever").map(v -> v.get(String.class)).orElseThrow());
+    }
+
+    private static BaseDocument document(String key, Long expireAt) {
+        BaseDocument document = new BaseDocument(new HashMap<>(Map.of("_value", "\"value\"")));
+        document.setKey(key);
+        if (expireAt != null) {
+            document.addAttribute(ArangoDBBucketManager.TTL_ATTRIBUTE, expireAt);
+        }
+        return document;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.DbName;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.CollectionPropertiesEntity;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.model.AqlQueryOptions;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArangoDBCursorOptionsTest {
+
+    private static final String DATABASE = "database";
+
+    private ArangoDatabase database;
+
+    private ArangoCursor<BaseDocument> cursor;
+
+    private DefaultArangoDBDocumentManager manager;
+
+    @BeforeEach
+    void setUp() {
+        ArangoDB arangoDB = Mockito.mock(ArangoDB.class);
+        database = Mockito.mock(ArangoDatabase.class);
+        cursor = Mockito.mock(ArangoCursor.class);
+        when(arangoDB.db(DbName.of(DATABASE))).thenReturn(database);
+        when(cursor.spliterator()).thenReturn(List.<BaseDocument>of().spliterator());
+        when(database.query(anyString(), anyMap(), any(AqlQueryOptions.class), eq(BaseDocument.class)))
+                .thenReturn(cursor);
+        ArangoDBCursorOptions cursorOptions = new ArangoDBCursorOptions(100, true, 30, 1_024L, null);
+        manager = new DefaultArangoDBDocumentManager(DATABASE, arangoDB, new ArangoDBSchema(arangoDB),
+                ArangoDBBatch.DEFAULT, cursorOptions);
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        AqlQueryOptions options = ArangoDBCursorOptions.of(Settings.builder()
+                .put(ArangoDBConfigurations.QUERY_BATCH_SIZE.get(), "500")
+                .put(ArangoDBConfigurations.QUERY_STREAM.get(), "true")
+                .put(ArangoDBConfigurations.QUERY_TTL.get(), "60")
+                .put(ArangoDBConfigurations.QUERY_MEMORY_LIMIT.get(), "1048576")
+                .put(ArangoDBConfigurations.QUERY_CACHE.get(), "true")
+                .build()).create();
+        assertEquals(500, options.getBatchSize());
+        assertTrue(options.getStream());
+        assertEquals(60, options.getTtl());
+        assertEquals(1_048_576L, options.getMemoryLimit());
+        assertTrue(options.getCache());
+    }
+
+    @Test
+    void shouldLeaveUndefinedToServer() {
+        AqlQueryOptions options = ArangoDBCursorOptions.of(Settings.builder().build()).create();
+        assertNull(options.getBatchSize());
+        assertNull(options.getStream());
+        assertNull(options.getTtl());
+        assertNull(options.getMemoryLimit());
+        assertNull(options.getCache());
+    }
+
+    @Test
+    void shouldUseDefaultOptionsOnSelect() {
+        manager.select(DocumentQuery.select().from("person").build()).count();
+
+        ArgumentCaptor<AqlQueryOptions> options = ArgumentCaptor.forClass(AqlQueryOptions.class);
+        verify(database).query(anyString(), anyMap(), options.capture(), eq(BaseDocument.class));
+        assertEquals(100, options.getValue().getBatchSize());
+        assertTrue(options.getValue().getStream());
+        assertEquals(30, options.getValue().getTtl());
+        assertEquals(1_024L, options.getValue().getMemoryLimit());
+    }
+
+    @Test
+    void shouldUseOptionsOnAQL() {
+        AqlQueryOptions options = new AqlQueryOptions().fullCount(true);
+        manager.aql("FOR p IN person RETURN p", Map.of(), options).stream().count();
+
+        ArgumentCaptor<AqlQueryOptions> captor = ArgumentCaptor.forClass(AqlQueryOptions.class);
+        verify(database).query(anyString(), anyMap(), captor.capture(), eq(BaseDocument.class));
+        assertSame(options, captor.getValue());
+    }
+
+    @Test
+    void shouldCloseCursorWhenStreamIsClosed() throws IOException {
+        try (Stream<DocumentEntity> entities = manager.select(DocumentQuery.select().from("person").build())) {
+            verify(cursor, never()).close();
+        }
+        verify(cursor).close();
+    }
+
+    @Test
+    void shouldReturnTheCursorStatistics() throws IOException {
+        CursorEntity.Stats stats = Mockito.mock(CursorEntity.Stats.class);
+        when(stats.getFullCount()).thenReturn(250L);
+        when(cursor.getStats()).thenReturn(stats);
+        when(cursor.getCount()).thenReturn(10);
+        DocumentQuery query = DocumentQuery.select().from("person").limit(10).build();
+
+        try (ArangoDBQueryResult<DocumentEntity> result = manager.select(query, new AqlQueryOptions().fullCount(true)
+                .count(true))) {
+            assertEquals(Optional.of(250L), result.fullCount());
+            assertEquals(Optional.of(10), result.count());
+            assertEquals(0L, result.stream().count());
+        }
+        verify(cursor).close();
+    }
+
+    @Test
+    void shouldReturnEmptyStatisticsWhenTheCursorHasNone() {
+        when(cursor.getCount()).thenReturn(null);
+        ArangoDBQueryResult<DocumentEntity> result = manager.aql("FOR p IN person RETURN p", Map.of(),
+                new AqlQueryOptions());
+        assertEquals(Optional.empty(), result.fullCount());
+        assertEquals(Optional.empty(), result.count());
+    }
+
+    @Test
+    void shouldCountWithoutAQL() {
+        ArangoCollection collection = Mockito.mock(ArangoCollection.class);
+        CollectionPropertiesEntity properties = new CollectionPropertiesEntity();
+        properties.setCount(42L);
+        when(database.collection("person")).thenReturn(collection);
+        when(collection.count()).thenReturn(properties);
+
+        assertEquals(42L, manager.count("person"));
+        verify(database, never()).query(anyString(), anyMap(), any(), any());
+    }
+}
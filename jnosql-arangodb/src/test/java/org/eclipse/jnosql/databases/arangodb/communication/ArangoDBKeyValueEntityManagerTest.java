@@ -23,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -118,4 +119,23 @@ public class ArangoDBKeyValueEntityManagerTest {
         Iterable<Value> users = values;
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReplaceValue() {
+        keyValueEntityManager.put("otavio", userOtavio);
+        keyValueEntityManager.put("otavio", userSoro);
+        Optional<Value> otavio = keyValueEntityManager.get("otavio");
+        assertTrue(otavio.isPresent());
+        assertEquals(userSoro, otavio.get().get(User.class));
+    }
+
+    @Test
+    public void shouldPutWithTTL() throws InterruptedException {
+        keyValueEntityManager.put(keyValueOtavio, Duration.ofSeconds(1));
+        keyValueEntityManager.put(List.of(keyValueSoro), Duration.ofMinutes(1));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        Thread.sleep(2_000L);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+        assertTrue(keyValueEntityManager.get("soro").isPresent());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.DbName;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.DocumentCreateEntity;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArangoDBSchemaTest {
+
+    private static final String DATABASE = "database";
+
+    private static final String COLLECTION = "person";
+
+    private ArangoDB arangoDB;
+
+    private ArangoDatabase database;
+
+    private ArangoCollection collection;
+
+    private ArangoDBSchema schema;
+
+    @BeforeEach
+    void setUp() {
+        arangoDB = Mockito.mock(ArangoDB.class);
+        database = Mockito.mock(ArangoDatabase.class);
+        collection = Mockito.mock(ArangoCollection.class);
+        when(arangoDB.db(DbName.of(DATABASE))).thenReturn(database);
+        when(database.collection(COLLECTION)).thenReturn(collection);
+        schema = new ArangoDBSchema(arangoDB);
+    }
+
+    @Test
+    void shouldCreateAbsentDatabaseAndCollectionOnce() {
+        when(database.exists()).thenReturn(false);
+        when(collection.exists()).thenReturn(false);
+
+        schema.collection(DATABASE, COLLECTION);
+        schema.collection(DATABASE, COLLECTION);
+        schema.database(DATABASE);
+
+        verify(database, times(1)).exists();
+        verify(database, times(1)).create();
+        verify(collection, times(1)).exists();
+        verify(collection, times(1)).create();
+    }
+
+    @Test
+    void shouldNotCreateExistingCollection() {
+        when(database.exists()).thenReturn(true);
+        when(collection.exists()).thenReturn(true);
+
+        schema.collection(DATABASE, COLLECTION);
+
+        verify(database, never()).create();
+        verify(collection, never()).create();
+        verify(arangoDB, never()).getDatabases();
+        verify(database, never()).getCollections();
+    }
+
+    @Test
+    void shouldTolerateDuplicateName() {
+        when(database.exists()).thenReturn(true);
+        when(collection.exists()).thenReturn(false);
+        com.arangodb.ArangoDBException duplicate = error(ArangoDBSchema.DUPLICATE_NAME);
+        when(collection.create()).thenThrow(duplicate);
+
+        schema.collection(DATABASE, COLLECTION);
+        schema.collection(DATABASE, COLLECTION);
+
+        verify(collection, times(1)).create();
+    }
+
+    @Test
+    void shouldTolerateConflict() {
+        when(database.exists()).thenReturn(false);
+        when(database.create()).thenThrow(new com.arangodb.ArangoDBException("duplicate name",
+                ArangoDBSchema.CONFLICT));
+
+        schema.database(DATABASE);
+        schema.database(DATABASE);
+
+        verify(database, times(1)).create();
+    }
+
+    @Test
+    void shouldPropagateOtherErrors() {
+        when(database.exists()).thenReturn(false);
+        com.arangodb.ArangoDBException forbidden = error(11);
+        when(database.create()).thenThrow(forbidden);
+
+        assertThrows(com.arangodb.ArangoDBException.class, () -> schema.database(DATABASE));
+        assertThrows(com.arangodb.ArangoDBException.class, () -> schema.database(DATABASE));
+        verify(database, times(2)).create();
+    }
+
+    @Test
+    void shouldCheckAgainAfterForget() {
+        when(database.exists()).thenReturn(true);
+        when(collection.exists()).thenReturn(true);
+
+        schema.collection(DATABASE, COLLECTION);
+        schema.forget(DATABASE, COLLECTION);
+        schema.collection(DATABASE, COLLECTION);
+
+        verify(database, times(2)).exists();
+        verify(collection, times(2)).exists();
+    }
+
+    @Test
+    void shouldNotCheckCollectionOnEachInsert() {
+        when(database.exists()).thenReturn(true);
+        when(collection.exists()).thenReturn(true);
+        DocumentCreateEntity<BaseDocument> created = Mockito.mock(DocumentCreateEntity.class);
+        when(created.getKey()).thenReturn("ada");
+        when(created.getId()).thenReturn(COLLECTION + "/ada");
+        when(created.getRev()).thenReturn("1");
+        when(collection.insertDocument(any(BaseDocument.class))).thenReturn(created);
+        DefaultArangoDBDocumentManager manager = new DefaultArangoDBDocumentManager(DATABASE, arangoDB, schema,
+                ArangoDBBatch.DEFAULT, ArangoDBCursorOptions.DEFAULT);
+
+        for (int index = 0; index < 10; index++) {
+            manager.insert(DocumentEntity.of(COLLECTION, List.of(Document.of("name", "Ada"))));
+        }
+
+        verify(collection, times(10)).insertDocument(any(BaseDocument.class));
+        verify(collection, times(1)).exists();
+        verify(database, times(1)).exists();
+    }
+
+    @Test
+    void shouldRecreateDroppedCollection() {
+        when(database.exists()).thenReturn(true);
+        when(collection.exists()).thenReturn(true, false);
+        DocumentCreateEntity<BaseDocument> created = Mockito.mock(DocumentCreateEntity.class);
+        when(created.getKey()).thenReturn("ada");
+        when(created.getId()).thenReturn(COLLECTION + "/ada");
+        when(created.getRev()).thenReturn("1");
+        com.arangodb.ArangoDBException notFound = error(ArangoDBSchema.COLLECTION_NOT_FOUND);
+        when(collection.insertDocument(any(BaseDocument.class)))
+                .thenThrow(notFound)
+                .thenReturn(created);
+        DefaultArangoDBDocumentManager manager = new DefaultArangoDBDocumentManager(DATABASE, arangoDB, schema,
+                ArangoDBBatch.DEFAULT, ArangoDBCursorOptions.DEFAULT);
+
+        DocumentEntity entity = manager.insert(DocumentEntity.of(COLLECTION, List.of(Document.of("name", "Ada"))));
+
+        assertEquals("ada", entity.find("_key", String.class).orElseThrow());
+        verify(collection, times(1)).create();
+        verify(collection, times(2)).insertDocument(any(BaseDocument.class));
+    }
+
+    private static com.arangodb.ArangoDBException error(int errorNum) {
+        com.arangodb.ArangoDBException exception = Mockito.mock(com.arangodb.ArangoDBException.class);
+        when(exception.getErrorNum()).thenReturn(errorNum);
+        return exception;
+    }
+}
@@ -26,6 +26,8 @@ import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
 import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
 import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
 public class QueryAQLConverterTest {
@@ -111,7 +113,8 @@ public class QueryAQLConverterTest {
         String aql = convert.getQuery();
         Map<String, Object> values = convert.getValues();
         assertEquals("value", values.get("name"));
-        assertEquals("FOR c IN collection FILTER  c.name == @name LIMIT 5 RETURN c", aql);
+        assertEquals(5L, values.get(QueryAQLConverter.LIMIT_PARAM));
+        assertEquals("FOR c IN collection FILTER  c.name == @name LIMIT @limit RETURN c", aql);
 
     }
 
@@ -125,7 +128,9 @@ public class QueryAQLConverterTest {
         String aql = convert.getQuery();
         Map<String, Object> values = convert.getValues();
         assertEquals("value", values.get("name"));
-        assertEquals("FOR c IN collection FILTER  c.name == @name LIMIT 1, 5 RETURN c", aql);
+        assertEquals(1L, values.get(QueryAQLConverter.SKIP_PARAM));
+        assertEquals(5L, values.get(QueryAQLConverter.LIMIT_PARAM));
+        assertEquals("FOR c IN collection FILTER  c.name == @name LIMIT @skip, @limit RETURN c", aql);
     }
 
     @Test
@@ -160,4 +165,49 @@ public class QueryAQLConverterTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReuseAQLOfTheSameShape() {
+        AQLQueryResult first = QueryAQLConverter.select(select().from("collection")
+                .where("name").eq("Otavio").orderBy("age").desc().skip(10).limit(10).build());
+        AQLQueryResult second = QueryAQLConverter.select(select().from("collection")
+                .where("name").eq("Lucas").orderBy("age").desc().skip(20).limit(5).build());
+
+        assertSame(first.getQuery(), second.getQuery());
+        assertEquals("Lucas", second.getValues().get("name"));
+        assertEquals(20L, second.getValues().get(QueryAQLConverter.SKIP_PARAM));
+        assertEquals(5L, second.getValues().get(QueryAQLConverter.LIMIT_PARAM));
+    }
+
+    @Test
+    public void shouldNotReuseAQLOfAnotherShape() {
+        AQLQueryResult ascending = QueryAQLConverter.select(select().from("collection")
+                .where("name").eq("Otavio").orderBy("age").asc().build());
+        AQLQueryResult descending = QueryAQLConverter.select(select().from("collection")
+                .where("name").eq("Otavio").orderBy("age").desc().build());
+        AQLQueryResult greater = QueryAQLConverter.select(select().from("collection")
+                .where("name").gt("Otavio").orderBy("age").desc().build());
+
+        assertNotEquals(ascending.getQuery(), descending.getQuery());
+        assertNotEquals(descending.getQuery(), greater.getQuery());
+    }
+
+    @Test
+    public void shouldNameRepeatedFields() {
+        DocumentQuery query = select().from("collection")
+                .where("name").eq("Otavio")
+                .or("name").eq("Lucas")
+                .or("name").eq("Ada")
+                .or("limit").eq(10)
+                .limit(5).build();
+
+        AQLQueryResult convert = QueryAQLConverter.select(query);
+        Map<String, Object> values = convert.getValues();
+        assertEquals("Otavio", values.get("name"));
+        assertEquals("Lucas", values.get("name_1"));
+        assertEquals("Ada", values.get("name_2"));
+        assertEquals(10, values.get("limit_1"));
+        assertEquals(5L, values.get(QueryAQLConverter.LIMIT_PARAM));
+        assertEquals("FOR c IN collection FILTER  c.name == @name OR  c.name == @name_1 OR  c.name == @name_2"
+                + " OR  c.limit == @limit_1 LIMIT @limit RETURN c", convert.getQuery());
+    }
+}
@@ -14,9 +14,11 @@
  */
 package org.eclipse.jnosql.databases.arangodb.mapping;
 
+import com.arangodb.model.AqlQueryOptions;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryResult;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.mapping.Convert;
@@ -41,6 +43,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 
@@ -105,5 +109,26 @@ public class DefaultArangoDBTemplateTest {
         Mockito.verify(manager).aql("FOR p IN Person FILTER p.name = @name RETURN p", String.class);
     }
 
+    @Test
+    public void shouldFindAQLWithOptions() {
+        Map<String, Object> params = Collections.singletonMap("name", "Ada");
+        AqlQueryOptions options = new AqlQueryOptions().batchSize(100).stream(true);
+        ArangoDBQueryResult<DocumentEntity> documents = Mockito.mock(ArangoDBQueryResult.class);
+        ArangoDBQueryResult<Object> entities = Mockito.mock(ArangoDBQueryResult.class);
+        when(manager.aql("FOR p IN Person FILTER p.name = @name RETURN p", params, options)).thenReturn(documents);
+        when(documents.map(any())).thenReturn(entities);
+
+        assertSame(entities, template.aql("FOR p IN Person FILTER p.name = @name RETURN p", params, options));
+    }
+
+    @Test
+    public void shouldFindAQLWithOptionsAndType() {
+        Map<String, Object> params = Collections.singletonMap("name", "Ada");
+        AqlQueryOptions options = new AqlQueryOptions().fullCount(true);
+        template.aql("FOR p IN Person FILTER p.name = @name RETURN p", params, options, String.class);
+        Mockito.verify(manager).aql("FOR p IN Person FILTER p.name = @name RETURN p", params, options,
+                String.class);
+    }
+
 
 }
\ No newline at end of file
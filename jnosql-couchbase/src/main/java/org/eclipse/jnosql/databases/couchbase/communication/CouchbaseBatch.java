@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs the key-value operations of an {@link Iterable}, E.g.: get a list of ids, through the reactive API,
+ * so up to {@link #parallelism()} operations are in flight at the same time instead of one round trip per value.
+ */
+final class CouchbaseBatch {
+
+    static final int DEFAULT_PARALLELISM = 16;
+
+    static final CouchbaseBatch DEFAULT = new CouchbaseBatch(DEFAULT_PARALLELISM);
+
+    private final int parallelism;
+
+    CouchbaseBatch(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The batch parallelism must be greater than zero: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return the maximum number of operations in flight
+     */
+    int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Executes the operation of each value and returns the results in the same order of the values, an
+     * operation that completes empty, E.g.: a document not found, has no result.
+     * The first error cancels the operations in flight and is thrown.
+     *
+     * @param values    the values
+     * @param operation the operation of each value
+     * @param <T>       the value type
+     * @param <R>       the result type
+     * @return the results in the same order of the values
+     * @throws NullPointerException when there is null parameter
+     */
+    <T, R> List<R> execute(Iterable<T> values, Function<T, Mono<R>> operation) {
+        requireNonNull(values, "values is required");
+        requireNonNull(operation, "operation is required");
+        List<R> results = Flux.fromIterable(values)
+                .flatMapSequential(operation, parallelism)
+                .collectList()
+                .block();
+        return results == null ? List.of() : results;
+    }
+
+    /**
+     * Executes the operation of each value when the result does not matter, so the operations complete in any
+     * order. The first error cancels the operations in flight and is thrown.
+     *
+     * @param values    the values
+     * @param operation the operation of each value
+     * @param <T>       the value type
+     * @throws NullPointerException when there is null parameter
+     */
+    <T> void run(Iterable<T> values, Function<T, Mono<?>> operation) {
+        requireNonNull(values, "values is required");
+        requireNonNull(operation, "operation is required");
+        Flux.fromIterable(values)
+                .flatMap(operation, parallelism)
+                .then()
+                .block();
+    }
+}
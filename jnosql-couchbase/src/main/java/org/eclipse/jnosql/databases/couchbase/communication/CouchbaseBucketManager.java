@@ -18,20 +18,18 @@ package org.eclipse.jnosql.databases.couchbase.communication;
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Collection;
-import com.couchbase.client.java.Scope;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.UpsertOptions;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.jnosql.communication.driver.ValueUtil.convert;
 
 /**
@@ -49,14 +47,20 @@ public class CouchbaseBucketManager implements BucketManager {
 
     private final String scopeName;
 
+    private final CouchbaseBatch batch;
 
-    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName) {
+    private final CouchbaseBucketReadiness readiness;
+
+
+    CouchbaseBucketManager(Bucket bucket, String bucketName, Collection collection,
+                           CouchbaseBatch batch, CouchbaseBucketReadiness readiness) {
         this.bucket = bucket;
+        this.batch = batch;
+        this.readiness = readiness;
         this.bucketName = bucketName;
-        this.collectionName = collectionName;
-        this.scopeName = scopeName;
-        Scope scope = bucket.scope(scopeName);
-        this.collection = scope.collection(collectionName);
+        this.collection = collection;
+        this.collectionName = collection.name();
+        this.scopeName = collection.scopeName();
     }
 
     @Override
@@ -91,14 +95,17 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
-        keyValueEntities.forEach(this::put);
+        waitBucketBeReadyAndDo(() -> batch.run(keyValueEntities, entity -> collection.reactive()
+                .upsert(entity.key(String.class), convert(Value.of(entity.value())))));
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
         requireNonNull(ttl, "ttl is required");
-        keyValueEntities.forEach(k -> this.put(k, ttl));
+        UpsertOptions options = UpsertOptions.upsertOptions().expiry(ttl);
+        waitBucketBeReadyAndDo(() -> batch.run(keyValueEntities, entity -> collection.reactive()
+                .upsert(entity.key(String.class), convert(Value.of(entity.value())), options)));
     }
 
     @Override
@@ -117,11 +124,10 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        return stream(keys.spliterator(), false)
-                .map(this::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(toList());
+        return waitBucketBeReadyAndGet(() -> batch.execute(keys, key -> collection.reactive()
+                .get(key.toString())
+                .<Value>map(CouchbaseValue::new)
+                .onErrorResume(DocumentNotFoundException.class, exp -> Mono.empty())));
     }
 
     @Override
@@ -131,13 +137,13 @@ public class CouchbaseBucketManager implements BucketManager {
     }
 
     private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
+        readiness.await();
         runnable.run();
     }
 
 
     private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
+        readiness.await();
         return supplier.get();
     }
 
@@ -145,7 +151,7 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        keys.forEach(this::delete);
+        waitBucketBeReadyAndDo(() -> batch.run(keys, key -> collection.reactive().remove(key.toString())));
     }
 
     @Override
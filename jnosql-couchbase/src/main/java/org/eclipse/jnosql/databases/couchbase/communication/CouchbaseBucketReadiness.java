@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.cnc.Event;
+import com.couchbase.client.core.cnc.EventSubscription;
+import com.couchbase.client.core.cnc.events.core.BucketClosedEvent;
+import com.couchbase.client.core.cnc.events.core.BucketOpenFailedEvent;
+import com.couchbase.client.java.Bucket;
+
+import java.time.Duration;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tracks whether a {@link Bucket} is ready, so {@link Bucket#waitUntilReady(Duration)} runs at the first use
+ * instead of before every operation. The SDK events that close the bucket, or that fail to open it, make the next
+ * use wait again.
+ */
+final class CouchbaseBucketReadiness implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(CouchbaseBucketReadiness.class.getName());
+
+    private final Bucket bucket;
+
+    private final Duration timeout;
+
+    private final EventSubscription subscription;
+
+    private volatile boolean ready;
+
+    CouchbaseBucketReadiness(Bucket bucket) {
+        this.bucket = requireNonNull(bucket, "bucket is required");
+        this.timeout = bucket.environment().timeoutConfig().kvDurableTimeout();
+        this.subscription = bucket.environment().eventBus().subscribe(this::onEvent);
+    }
+
+    /**
+     * Waits until the bucket is ready when it is not known to be, otherwise it returns right away.
+     */
+    void await() {
+        if (ready) {
+            return;
+        }
+        synchronized (this) {
+            if (!ready) {
+                bucket.waitUntilReady(timeout);
+                ready = true;
+            }
+        }
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    void onEvent(Event event) {
+        if (event instanceof BucketClosedEvent closed && bucket.name().equals(closed.name())
+                || event instanceof BucketOpenFailedEvent) {
+            LOGGER.log(Level.FINEST, "The bucket " + bucket.name() + " is not ready: " + event.description());
+            ready = false;
+        }
+    }
+
+    @Override
+    public void close() {
+        subscription.unsubscribe();
+    }
+}
@@ -15,11 +15,14 @@
 package org.eclipse.jnosql.databases.couchbase.communication;
 
 
+import com.couchbase.client.java.query.QueryScanConsistency;
 import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Settings;
 
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -43,6 +46,12 @@ public abstract class CouchbaseConfiguration {
     protected String collection;
     protected Set<String> collections = new LinkedHashSet<>();
 
+    protected Integer batchParallelism;
+
+    protected QueryScanConsistency queryScanConsistency;
+
+    protected Boolean queryReadonly;
+
 
     protected void update(Settings settings) {
         this.host = getHost(settings);
@@ -52,6 +61,9 @@ public abstract class CouchbaseConfiguration {
         this.collections = getCollections(settings);
         this.index = getIndex(settings);
         this.collection = getCollection(settings);
+        this.batchParallelism = getBatchParallelism(settings);
+        this.queryScanConsistency = getQueryScanConsistency(settings);
+        this.queryReadonly = getQueryReadonly(settings);
     }
 
     protected String getUser(Settings settings) {
@@ -75,6 +87,23 @@ public abstract class CouchbaseConfiguration {
                 .map(Object::toString).orElse(null);
     }
 
+    private Integer getBatchParallelism(Settings settings) {
+        return settings.get(CouchbaseConfigurations.BATCH_PARALLELISM, Integer.class)
+                .orElse(null);
+    }
+
+    private QueryScanConsistency getQueryScanConsistency(Settings settings) {
+        return settings.get(CouchbaseConfigurations.QUERY_SCAN_CONSISTENCY)
+                .map(Object::toString)
+                .map(s -> QueryScanConsistency.valueOf(s.trim().toUpperCase(Locale.US)))
+                .orElse(null);
+    }
+
+    private Boolean getQueryReadonly(Settings settings) {
+        return settings.get(CouchbaseConfigurations.QUERY_READONLY, Boolean.class)
+                .orElse(null);
+    }
+
     private Set<String> getCollections(Settings settings) {
         Set<String> collections = new LinkedHashSet<>();
         settings.get(CouchbaseConfigurations.COLLECTIONS)
@@ -142,6 +171,30 @@ public abstract class CouchbaseConfiguration {
         this.collection = collection;
     }
 
+    /**
+     * Set the maximum number of key-value operations in flight of an operation with many keys or entities
+     * @param batchParallelism the batch parallelism
+     */
+    public void setBatchParallelism(int batchParallelism) {
+        this.batchParallelism = batchParallelism;
+    }
+
+    /**
+     * Set the scan consistency of the N1QL queries
+     * @param queryScanConsistency the scan consistency
+     */
+    public void setQueryScanConsistency(QueryScanConsistency queryScanConsistency) {
+        this.queryScanConsistency = queryScanConsistency;
+    }
+
+    /**
+     * Set whether the N1QL queries created from a document query are readonly
+     * @param queryReadonly the readonly
+     */
+    public void setQueryReadonly(boolean queryReadonly) {
+        this.queryReadonly = queryReadonly;
+    }
+
     /**
      * add collection in the settings
      *
@@ -159,7 +212,9 @@ public abstract class CouchbaseConfiguration {
      */
     public CouchbaseSettings toCouchbaseSettings() {
         return new CouchbaseSettings(this.host, this.user, this.password,
-                this.scope, this.index, this.collection, this.collections.stream().toList());
+                this.scope, this.index, this.collection, this.collections.stream().toList(),
+                Optional.ofNullable(this.batchParallelism).orElse(CouchbaseBatch.DEFAULT_PARALLELISM),
+                this.queryScanConsistency, this.queryReadonly);
     }
 
     @Override
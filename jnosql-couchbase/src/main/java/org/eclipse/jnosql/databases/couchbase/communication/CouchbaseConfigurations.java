@@ -61,7 +61,22 @@ public enum CouchbaseConfigurations implements Supplier<String> {
      * At the start-up of a {@link CouchbaseConfiguration}, it will read this property to check if the index does exist,
      * if not it will create combined by scope and the database.
      */
-    INDEX("jnosql.couchbase.index");
+    INDEX("jnosql.couchbase.index"),
+    /**
+     * The maximum number of key-value operations in flight when an operation takes many keys or entities,
+     * E.g.: a get of a list of keys. By default, 16.
+     */
+    BATCH_PARALLELISM("jnosql.couchbase.batch.parallelism"),
+    /**
+     * The scan consistency of the N1QL queries: not_bounded or request_plus.
+     * By default, the server default, not_bounded.
+     */
+    QUERY_SCAN_CONSISTENCY("jnosql.couchbase.query.scan.consistency"),
+    /**
+     * When true, the N1QL queries created from a document query are sent as readonly.
+     * By default, the server default, false.
+     */
+    QUERY_READONLY("jnosql.couchbase.query.readonly");
 
     private final String configuration;
 
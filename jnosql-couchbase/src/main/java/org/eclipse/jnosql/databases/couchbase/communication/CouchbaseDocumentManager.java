@@ -46,4 +46,28 @@ public interface CouchbaseDocumentManager extends DocumentManager {
      */
     Stream<DocumentEntity> n1qlQuery(String n1ql) throws NullPointerException;
 
+    /**
+     * Updates only the given documents of the entity through a sub-document mutation, so only these documents go
+     * through the network instead of the whole entity. Each document is an upsert, and a document the entity
+     * does not have is set as null.
+     *
+     * @param entity    the entity
+     * @param documents the document names to update
+     * @return the entity
+     * @throws NullPointerException        when there is null parameter
+     * @throws CouchbaseNoKeyFoundException when the entity does not have the id
+     */
+    DocumentEntity update(DocumentEntity entity, Iterable<String> documents);
+
+    /**
+     * Applies sub-document mutations to a document, E.g.: increments a counter or appends to an array, without
+     * reading or sending the whole document. The mutations are atomic, either all or none are applied.
+     *
+     * @param collection the collection
+     * @param id         the document id
+     * @param mutations  the mutations
+     * @throws NullPointerException when there is null parameter
+     */
+    void mutateIn(String collection, String id, Iterable<CouchbaseMutation> mutations);
+
 }
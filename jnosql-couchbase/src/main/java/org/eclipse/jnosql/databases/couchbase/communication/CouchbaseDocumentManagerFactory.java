@@ -18,27 +18,41 @@ package org.eclipse.jnosql.databases.couchbase.communication;
 import com.couchbase.client.java.Cluster;
 import org.eclipse.jnosql.communication.document.DocumentManagerFactory;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CouchbaseDocumentManagerFactory implements DocumentManagerFactory {
 
 
     private final CouchbaseSettings settings;
     private final Cluster cluster;
+
+    private final CouchbaseBatch batch;
+
+    private final CouchbaseQueryOptions queryOptions;
+
+    private final Map<String, CouchbaseBucketReadiness> readiness = new ConcurrentHashMap<>();
+
     CouchbaseDocumentManagerFactory(CouchbaseSettings settings) {
         this.settings = settings;
         this.cluster = settings.getCluster();
+        this.batch = new CouchbaseBatch(settings.getBatchParallelism());
+        this.queryOptions = CouchbaseQueryOptions.of(settings);
     }
 
     @Override
     public CouchbaseDocumentManager apply(String database)  {
         Objects.requireNonNull(database, "database is required");
-        return new DefaultCouchbaseDocumentManager(cluster, database);
+        CouchbaseBucketReadiness bucketReadiness = readiness.computeIfAbsent(database,
+                name -> new CouchbaseBucketReadiness(cluster.bucket(name)));
+        return new DefaultCouchbaseDocumentManager(cluster, database, batch, bucketReadiness, queryOptions);
     }
 
 
     @Override
     public void close() {
+        readiness.values().forEach(CouchbaseBucketReadiness::close);
         cluster.close();
     }
 }
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.kv.MutateInSpec;
+import org.eclipse.jnosql.communication.document.Document;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A sub-document mutation of a Couchbase document, it changes a single path of the document, so only the path and
+ * the value go through the network instead of the whole document.
+ *
+ * @see CouchbaseDocumentManager#mutateIn(String, String, Iterable)
+ */
+public final class CouchbaseMutation {
+
+    private final Type type;
+
+    private final String path;
+
+    private final Object value;
+
+    private CouchbaseMutation(Type type, String path, Object value) {
+        this.type = type;
+        this.path = path;
+        this.value = value;
+    }
+
+    /**
+     * @return the path of the mutation, E.g.: {@code address.city}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the value of the mutation
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    MutateInSpec toSpec() {
+        switch (type) {
+            case REPLACE:
+                return MutateInSpec.replace(path, value);
+            case UPSERT:
+                return MutateInSpec.upsert(path, value);
+            case ARRAY_APPEND:
+                return MutateInSpec.arrayAppend(path, (List<?>) value);
+            case INCREMENT:
+                return MutateInSpec.increment(path, (Long) value);
+            default:
+                throw new UnsupportedOperationException("There is not support to the mutation " + type);
+        }
+    }
+
+    /**
+     * Replaces the value of a path that must exist
+     *
+     * @param path  the path
+     * @param value the value
+     * @return a {@link CouchbaseMutation} instance
+     * @throws NullPointerException when path is null
+     */
+    public static CouchbaseMutation replace(String path, Object value) {
+        requireNonNull(path, "path is required");
+        return new CouchbaseMutation(Type.REPLACE, path, value);
+    }
+
+    /**
+     * Replaces the value of a path, from a {@link Document}, that must exist
+     *
+     * @param document the document
+     * @return a {@link CouchbaseMutation} instance
+     * @throws NullPointerException when document is null
+     */
+    public static CouchbaseMutation replace(Document document) {
+        requireNonNull(document, "document is required");
+        return replace(document.name(), EntityConverter.convert(document));
+    }
+
+    /**
+     * Sets the value of a path, it creates the path when it does not exist
+     *
+     * @param path  the path
+     * @param value the value
+     * @return a {@link CouchbaseMutation} instance
+     * @throws NullPointerException when path is null
+     */
+    public static CouchbaseMutation upsert(String path, Object value) {
+        requireNonNull(path, "path is required");
+        return new CouchbaseMutation(Type.UPSERT, path, value);
+    }
+
+    /**
+     * Sets the value of a path from a {@link Document}, it creates the path when it does not exist
+     *
+     * @param document the document
+     * @return a {@link CouchbaseMutation} instance
+     * @throws NullPointerException when document is null
+     */
+    public static CouchbaseMutation upsert(Document document) {
+        requireNonNull(document, "document is required");
+        return upsert(document.name(), EntityConverter.convert(document));
+    }
+
+    /**
+     * Appends values at the end of the array of a path
+     *
+     * @param path   the path
+     * @param values the values
+     * @return a {@link CouchbaseMutation} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static CouchbaseMutation arrayAppend(String path, Object... values) {
+        requireNonNull(path, "path is required");
+        requireNonNull(values, "values is required");
+        return new CouchbaseMutation(Type.ARRAY_APPEND, path, Arrays.asList(values));
+    }
+
+    /**
+     * Increments the number of a path, a negative delta decrements it, the path is created with the delta
+     * when it does not exist
+     *
+     * @param path  the path
+     * @param delta the delta
+     * @return a {@link CouchbaseMutation} instance
+     * @throws NullPointerException when path is null
+     */
+    public static CouchbaseMutation increment(String path, long delta) {
+        requireNonNull(path, "path is required");
+        return new CouchbaseMutation(Type.INCREMENT, path, delta);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CouchbaseMutation that = (CouchbaseMutation) o;
+        return type == that.type && Objects.equals(path, that.path) && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, path, value);
+    }
+
+    @Override
+    public String toString() {
+        return "CouchbaseMutation{" +
+                "type=" + type +
+                ", path='" + path + '\'' +
+                ", value=" + value +
+                '}';
+    }
+
+    private enum Type {
+        REPLACE, UPSERT, ARRAY_APPEND, INCREMENT
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link QueryOptions} of the N1QL queries. The queries created from a
+ * {@link org.eclipse.jnosql.communication.document.DocumentQuery} are prepared, {@code adhoc(false)}, because
+ * {@link N1QLBuilder} creates the same text to the same shape, and they are the ones that might be
+ * {@code readonly}, since they are always a select. A value not defined is left to the server default.
+ */
+final class CouchbaseQueryOptions {
+
+    static final CouchbaseQueryOptions DEFAULT = new CouchbaseQueryOptions(null, null);
+
+    private final QueryScanConsistency scanConsistency;
+
+    private final Boolean readonly;
+
+    CouchbaseQueryOptions(QueryScanConsistency scanConsistency, Boolean readonly) {
+        this.scanConsistency = scanConsistency;
+        this.readonly = readonly;
+    }
+
+    /**
+     * Creates the options of a N1QL query written by the user, a new instance each call because
+     * {@link QueryOptions} is mutable.
+     *
+     * @param params the named parameters
+     * @return the {@link QueryOptions}
+     */
+    QueryOptions create(JsonObject params) {
+        QueryOptions options = QueryOptions.queryOptions().parameters(params);
+        if (scanConsistency != null) {
+            options.scanConsistency(scanConsistency);
+        }
+        return options;
+    }
+
+    /**
+     * Creates the options of a N1QL query from {@link N1QLBuilder}
+     *
+     * @param params the named parameters
+     * @return the {@link QueryOptions}
+     */
+    QueryOptions prepared(JsonObject params) {
+        QueryOptions options = create(params).adhoc(false);
+        if (readonly != null) {
+            options.readonly(readonly);
+        }
+        return options;
+    }
+
+    static CouchbaseQueryOptions of(CouchbaseSettings settings) {
+        requireNonNull(settings, "settings is required");
+        return new CouchbaseQueryOptions(settings.getQueryScanConsistency().orElse(null),
+                settings.getQueryReadonly().orElse(null));
+    }
+}
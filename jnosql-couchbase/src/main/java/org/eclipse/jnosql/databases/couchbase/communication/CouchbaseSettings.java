@@ -24,6 +24,7 @@ import com.couchbase.client.java.manager.collection.CollectionSpec;
 import com.couchbase.client.java.manager.collection.ScopeSpec;
 import com.couchbase.client.java.manager.query.QueryIndex;
 import com.couchbase.client.java.manager.query.QueryIndexManager;
+import com.couchbase.client.java.query.QueryScanConsistency;
 
 import java.util.Collections;
 import java.util.List;
@@ -55,9 +56,16 @@ public final class CouchbaseSettings {
     private final String collection;
     private final List<String> collections;
 
+    private final int batchParallelism;
+
+    private final QueryScanConsistency queryScanConsistency;
+
+    private final Boolean queryReadonly;
+
     CouchbaseSettings(String host, String user, String password,
                       String scope, String index, String collection,
-                      List<String> collections) {
+                      List<String> collections, int batchParallelism,
+                      QueryScanConsistency queryScanConsistency, Boolean queryReadonly) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -65,6 +73,9 @@ public final class CouchbaseSettings {
         this.index = index;
         this.collection = collection;
         this.collections = collections;
+        this.batchParallelism = batchParallelism;
+        this.queryScanConsistency = queryScanConsistency;
+        this.queryReadonly = queryReadonly;
     }
 
 
@@ -125,6 +136,33 @@ public final class CouchbaseSettings {
         return Collections.unmodifiableList(collections);
     }
 
+    /**
+     * Returns the batch parallelism {@link CouchbaseConfigurations#BATCH_PARALLELISM}
+     *
+     * @return the batch parallelism {@link CouchbaseConfigurations#BATCH_PARALLELISM}
+     */
+    public int getBatchParallelism() {
+        return batchParallelism;
+    }
+
+    /**
+     * Returns the scan consistency {@link CouchbaseConfigurations#QUERY_SCAN_CONSISTENCY}
+     *
+     * @return the scan consistency {@link CouchbaseConfigurations#QUERY_SCAN_CONSISTENCY}
+     */
+    public Optional<QueryScanConsistency> getQueryScanConsistency() {
+        return Optional.ofNullable(queryScanConsistency);
+    }
+
+    /**
+     * Returns the readonly {@link CouchbaseConfigurations#QUERY_READONLY}
+     *
+     * @return the readonly {@link CouchbaseConfigurations#QUERY_READONLY}
+     */
+    public Optional<Boolean> getQueryReadonly() {
+        return Optional.ofNullable(queryReadonly);
+    }
+
     /**
      * Returns the scope {@link CouchbaseConfigurations#INDEX}
      *
@@ -223,12 +261,16 @@ public final class CouchbaseSettings {
         return Objects.equals(host, that.host) && Objects.equals(user, that.user)
                 && Objects.equals(password, that.password) && Objects.equals(scope, that.scope)
                 && Objects.equals(index, that.index) && Objects.equals(collection, that.collection)
-                && Objects.equals(collections, that.collections);
+                && Objects.equals(collections, that.collections)
+                && batchParallelism == that.batchParallelism
+                && queryScanConsistency == that.queryScanConsistency
+                && Objects.equals(queryReadonly, that.queryReadonly);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, index, collection, collections);
+        return Objects.hash(host, user, password, scope, index, collection, collections, batchParallelism,
+                queryScanConsistency, queryReadonly);
     }
 
     @Override
@@ -241,6 +283,9 @@ public final class CouchbaseSettings {
                 ", index='" + index + '\'' +
                 ", collection='" + collection + '\'' +
                 ", collections=" + collections +
+                ", batchParallelism=" + batchParallelism +
+                ", queryScanConsistency=" + queryScanConsistency +
+                ", queryReadonly=" + queryReadonly +
                 '}';
     }
 }
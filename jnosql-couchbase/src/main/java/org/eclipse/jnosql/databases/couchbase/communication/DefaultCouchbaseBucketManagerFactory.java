@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -42,32 +43,55 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
     static final String SET = ":set";
     static final String LIST = ":list";
 
+    private static final String SEPARATOR = ":";
+
     private final CouchbaseSettings settings;
     private final Cluster cluster;
 
+    private final CouchbaseBatch batch;
+
+    private final Map<String, CouchbaseBucketReadiness> readiness = new ConcurrentHashMap<>();
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final Map<String, Collection> collections = new ConcurrentHashMap<>();
+
+    private final Map<String, Collection> structures = new ConcurrentHashMap<>();
+
 
     DefaultCouchbaseBucketManagerFactory(CouchbaseSettings settings) {
+        this(settings, settings.getCluster());
+    }
+
+    DefaultCouchbaseBucketManagerFactory(CouchbaseSettings settings, Cluster cluster) {
         this.settings = settings;
-        this.cluster = this.settings.getCluster();
+        this.cluster = cluster;
+        this.batch = new CouchbaseBatch(settings.getBatchParallelism());
     }
 
 
     @Override
     public CouchbaseBucketManager apply(String bucketName) {
         requireNonNull(bucketName, "bucket is required");
-        Bucket bucket = cluster.bucket(bucketName);
-        String scopeName = settings.getScope().orElseGet(() -> bucket.defaultScope().name());
-        String collection = settings.getCollection().orElseGet(() -> bucket.defaultCollection().name());
-        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection);
+        Bucket bucket = bucket(bucketName);
+        Collection collection = collections.computeIfAbsent(bucketName, name -> {
+            String scopeName = settings.getScope().orElseGet(() -> bucket.defaultScope().name());
+            String collectionName = settings.getCollection().orElseGet(() -> bucket.defaultCollection().name());
+            return bucket.scope(scopeName).collection(collectionName);
+        });
+        return new CouchbaseBucketManager(bucket, bucketName, collection, batch, readiness(bucket));
     }
 
     @Override
     public BucketManager getBucketManager(String bucketName, String collection) {
         requireNonNull(bucketName, "bucketName is required");
         requireNonNull(collection, "collection is required");
-        Bucket bucket = cluster.bucket(bucketName);
-        String scopeName = settings.getScope().orElseGet(() -> bucket.defaultScope().name());
-        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection);
+        Bucket bucket = bucket(bucketName);
+        Collection handle = collections.computeIfAbsent(bucketName + SEPARATOR + collection, name -> {
+            String scopeName = settings.getScope().orElseGet(() -> bucket.defaultScope().name());
+            return bucket.scope(scopeName).collection(collection);
+        });
+        return new CouchbaseBucketManager(bucket, bucketName, handle, batch, readiness(bucket));
     }
 
     @Override
@@ -80,8 +104,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
             throw new UnsupportedOperationException("Couchbase Map does not support a not String key instead of: "
                     + keyValue);
         }
-        Bucket bucket = this.cluster.bucket(bucketName);
-        Collection collection = bucket.collection(bucketName);
+        Collection collection = structures(bucketName);
         return (Map<K, V>)
                 new com.couchbase.client.java.datastructures.CouchbaseMap<>(bucketName + ":map",
                         collection, valueValue,
@@ -102,8 +125,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
                     + keyType);
         }
 
-        Bucket bucket = this.cluster.bucket(bucketName);
-        Collection collection = bucket.collection(bucketName);
+        Collection collection = structures(bucketName);
 
         return (Map<K, V>)
                 new com.couchbase.client.java.datastructures.
@@ -116,8 +138,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         requireNonNull(bucketName, "bucketName is required");
         requireNonNull(type, "type is required");
 
-        Bucket bucket = this.cluster.bucket(bucketName);
-        Collection collection = bucket.collection(bucketName);
+        Collection collection = structures(bucketName);
 
         return new com.couchbase.client.java.datastructures.CouchbaseQueue<>(bucketName + QUEUE, collection, type,
                 QueueOptions.queueOptions());
@@ -129,8 +150,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         requireNonNull(bucketName, "bucketName is required");
         requireNonNull(type, "type is required");
 
-        Bucket bucket = this.cluster.bucket(bucketName);
-        Collection collection = bucket.collection(bucketName);
+        Collection collection = structures(bucketName);
 
         return new CouchbaseArraySet<>(bucketName + SET, collection, type, ArraySetOptions.arraySetOptions());
     }
@@ -139,8 +159,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
     public <T> List<T> getList(String bucketName, Class<T> type) {
         requireNonNull(bucketName, "bucketName is required");
         requireNonNull(type, "type is required");
-        Bucket bucket = this.cluster.bucket(bucketName);
-        Collection collection = bucket.collection(bucketName);
+        Collection collection = structures(bucketName);
         return new CouchbaseArrayList<>(bucketName + LIST, collection, type, ArrayListOptions.arrayListOptions());
     }
 
@@ -150,8 +169,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         requireNonNull(bucketName, "bucketName is required");
         requireNonNull(type, "valueValue is required");
         requireNonNull(key, "key is required");
-        Bucket bucket = this.cluster.bucket(bucketName);
-        Collection collection = bucket.collection(bucketName);
+        Collection collection = structures(bucketName);
 
         return new com.couchbase.client.java.datastructures.CouchbaseQueue<>(key + QUEUE, collection, type,
                 QueueOptions.queueOptions());
@@ -163,8 +181,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         requireNonNull(bucketName, "bucketName is required");
         requireNonNull(type, "valueValue is required");
         requireNonNull(key, "key is required");
-        Bucket bucket = this.cluster.bucket(bucketName);
-        Collection collection = bucket.collection(bucketName);
+        Collection collection = structures(bucketName);
 
         return new CouchbaseArraySet<>(key, collection, type, ArraySetOptions.arraySetOptions());
 
@@ -175,14 +192,37 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         requireNonNull(bucketName, "bucketName is required");
         requireNonNull(type, "valueValue is required");
         requireNonNull(key, "key is required");
-        Bucket bucket = this.cluster.bucket(bucketName);
-        Collection collection = bucket.collection(bucketName);
+        Collection collection = structures(bucketName);
         return new CouchbaseArrayList<>(key, collection, type, ArrayListOptions.arrayListOptions());
     }
 
 
+    private Bucket bucket(String bucketName) {
+        return buckets.computeIfAbsent(bucketName, cluster::bucket);
+    }
+
+    /**
+     * The data structures live at the collection named as the bucket.
+     */
+    private Collection structures(String bucketName) {
+        Collection collection = structures.get(bucketName);
+        if (collection == null) {
+            collection = structures.computeIfAbsent(bucketName, name -> bucket(name).collection(name));
+        }
+        return collection;
+    }
+
+    private CouchbaseBucketReadiness readiness(Bucket bucket) {
+        return readiness.computeIfAbsent(bucket.name(), name -> new CouchbaseBucketReadiness(bucket));
+    }
+
     @Override
     public void close() {
+        readiness.values().forEach(CouchbaseBucketReadiness::close);
+        readiness.clear();
+        collections.clear();
+        structures.clear();
+        buckets.clear();
         cluster.close();
     }
 }
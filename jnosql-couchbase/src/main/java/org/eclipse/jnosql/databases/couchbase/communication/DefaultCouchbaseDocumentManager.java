@@ -22,23 +22,27 @@ import com.couchbase.client.java.Collection;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.LookupInSpec;
+import com.couchbase.client.java.kv.MutateInSpec;
 import com.couchbase.client.java.query.QueryOptions;
-import com.couchbase.client.java.query.QueryResult;
+import com.couchbase.client.java.query.ReactiveQueryResult;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -49,15 +53,30 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
 
     private static final Logger LOGGER = Logger.getLogger(DefaultCouchbaseDocumentManager.class.getName());
 
+    /**
+     * The maximum number of paths of a sub-document lookup.
+     */
+    private static final int MAX_LOOKUP_SPECS = 16;
+
     private final Bucket bucket;
     private final String database;
 
     private final Cluster cluster;
 
-    DefaultCouchbaseDocumentManager(Cluster cluster, String database) {
+    private final CouchbaseBatch batch;
+
+    private final CouchbaseBucketReadiness readiness;
+
+    private final CouchbaseQueryOptions queryOptions;
+
+    DefaultCouchbaseDocumentManager(Cluster cluster, String database, CouchbaseBatch batch,
+                                    CouchbaseBucketReadiness readiness, CouchbaseQueryOptions queryOptions) {
         this.bucket = cluster.bucket(database);
         this.database = database;
         this.cluster = cluster;
+        this.batch = batch;
+        this.readiness = readiness;
+        this.queryOptions = queryOptions;
     }
 
     @Override
@@ -96,16 +115,23 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return waitBucketBeReadyAndGet(() -> batch.execute(entities, entity -> {
+            entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
+            JsonObject json = EntityConverter.convert(entity);
+            return bucket.collection(entity.name()).reactive().insert(id(entity), json).thenReturn(entity);
+        }));
     }
 
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl)).collect(Collectors.toList());
+        InsertOptions options = InsertOptions.insertOptions().expiry(ttl);
+        return waitBucketBeReadyAndGet(() -> batch.execute(entities, entity -> {
+            JsonObject json = EntityConverter.convert(entity);
+            return bucket.collection(entity.name()).reactive().insert(id(entity), json, options)
+                    .thenReturn(entity);
+        }));
     }
 
     @Override
@@ -125,8 +151,39 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return waitBucketBeReadyAndGet(() -> batch.execute(entities, entity -> {
+            entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
+            JsonObject json = EntityConverter.convert(entity);
+            return bucket.collection(entity.name()).reactive().upsert(id(entity), json).thenReturn(entity);
+        }));
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity, Iterable<String> documents) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(documents, "documents is required");
+        String id = id(entity);
+        List<CouchbaseMutation> mutations = new ArrayList<>();
+        for (String name : documents) {
+            mutations.add(entity.find(name)
+                    .map(CouchbaseMutation::upsert)
+                    .orElseGet(() -> CouchbaseMutation.upsert(name, null)));
+        }
+        mutateIn(entity.name(), id, mutations);
+        return entity;
+    }
+
+    @Override
+    public void mutateIn(String collection, String id, Iterable<CouchbaseMutation> mutations) {
+        requireNonNull(collection, "collection is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(mutations, "mutations is required");
+        List<MutateInSpec> specs = new ArrayList<>();
+        mutations.forEach(m -> specs.add(m.toSpec()));
+        if (specs.isEmpty()) {
+            return;
+        }
+        waitBucketBeReadyAndDo(() -> bucket.collection(collection).mutateIn(id, specs));
     }
 
     @Override
@@ -135,22 +192,29 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
             Objects.requireNonNull(query, "query is required");
             Collection collection = bucket.collection(query.name());
             DocumentQuery delete = DeleteQueryWrapper.of(query);
-            Stream<DocumentEntity> entities = select(delete);
-            entities.flatMap(d -> d.find(EntityConverter.ID_FIELD).stream())
+            List<String> ids = select(delete)
+                    .flatMap(d -> d.find(EntityConverter.ID_FIELD).stream())
                     .filter(Objects::nonNull)
                     .map(d -> d.get(String.class))
-                    .forEach(collection::remove);
+                    .collect(Collectors.toList());
+            batch.run(ids, id -> collection.reactive().remove(id));
         });
     }
 
+    private static String id(DocumentEntity entity) {
+        return entity.find(EntityConverter.ID_FIELD)
+                .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()))
+                .get(String.class);
+    }
+
     private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
+        readiness.await();
         runnable.run();
     }
 
 
     private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
+        readiness.await();
         return supplier.get();
     }
 
@@ -162,30 +226,54 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
             List<JsonObject> jsons = new ArrayList<>();
             if (n1QLQuery.hasIds()) {
                 Collection collection = bucket.collection(query.name());
-                for (String id : n1QLQuery.getIds()) {
-                    try {
-                        GetResult result = collection.get(id);
-                        jsons.add(result.contentAsObject());
-                    } catch (DocumentNotFoundException exp) {
-                        LOGGER.log(Level.FINEST, "The id was not found: " + id);
-                    }
-                }
+                jsons.addAll(batch.execute(n1QLQuery.getIds(), id -> get(collection, query, id)
+                        .onErrorResume(DocumentNotFoundException.class, exp -> {
+                            LOGGER.log(Level.FINEST, "The id was not found: " + id);
+                            return Mono.empty();
+                        })));
             }
 
+            Stream<JsonObject> rows = jsons.stream();
             if (!n1QLQuery.hasOnlyIds()) {
-                QueryResult result;
-                if (n1QLQuery.hasParameter()) {
-                    result = cluster.query(n1QLQuery.getQuery());
-                } else {
-                    result = cluster.query(n1QLQuery.getQuery(), QueryOptions
-                            .queryOptions().parameters(n1QLQuery.getParams()));
+                rows = Stream.concat(rows, rows(n1QLQuery.getQuery(),
+                        queryOptions.prepared(n1QLQuery.getParams())));
+            }
+            return EntityConverter.convert(rows, database);
+        });
+    }
+
+    /**
+     * Reads a document by id, when the query has a projection of up to {@link #MAX_LOOKUP_SPECS} documents, only
+     * these documents are read through a sub-document lookup.
+     */
+    private Mono<JsonObject> get(Collection collection, DocumentQuery query, String id) {
+        List<String> documents = query.documents();
+        if (documents.isEmpty() || documents.size() > MAX_LOOKUP_SPECS) {
+            return collection.reactive().get(id).map(GetResult::contentAsObject);
+        }
+        List<LookupInSpec> specs = documents.stream().map(LookupInSpec::get).collect(Collectors.toList());
+        return collection.reactive().lookupIn(id, specs).map(result -> {
+            Map<String, Object> projection = new HashMap<>();
+            for (int index = 0; index < documents.size(); index++) {
+                if (result.exists(index)) {
+                    projection.put(documents.get(index), result.contentAs(index, Object.class));
                 }
-                jsons.addAll(result.rowsAsObject());
             }
-            return EntityConverter.convert(jsons, database);
+            projection.put(EntityConverter.COLLECTION_FIELD, query.name());
+            return JsonObject.from(projection);
         });
     }
 
+    /**
+     * Streams the rows of a N1QL query through the reactive API, so the rows are read as the stream is consumed,
+     * and closing the stream cancels the query.
+     */
+    private Stream<JsonObject> rows(String n1ql, QueryOptions options) {
+        return cluster.reactive().query(n1ql, options)
+                .flatMapMany(ReactiveQueryResult::rowsAsObject)
+                .toStream();
+    }
+
     @Override
     public long count(String documentCollection) {
         throw new UnsupportedOperationException("Couchbase does not support count method by document collection");
@@ -197,9 +285,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
         requireNonNull(n1ql, "n1qlQuery is required");
         requireNonNull(params, "params is required");
         return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql, QueryOptions
-                    .queryOptions().parameters(params));
-            return EntityConverter.convert(query.rowsAsObject(), database);
+            return EntityConverter.convert(rows(n1ql, queryOptions.create(params)), database);
         });
     }
 
@@ -208,8 +294,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public Stream<DocumentEntity> n1qlQuery(String n1ql) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
         return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql);
-            return EntityConverter.convert(query.rowsAsObject(), database);
+            return EntityConverter.convert(rows(n1ql, queryOptions.create(JsonObject.create())), database);
         });
     }
 
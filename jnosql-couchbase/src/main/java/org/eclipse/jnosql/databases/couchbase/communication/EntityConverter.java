@@ -46,8 +46,12 @@ final class EntityConverter {
 
 
     static Stream<DocumentEntity> convert(List<JsonObject> result, String database) {
+        return convert(result.stream(), database);
+    }
+
+    static Stream<DocumentEntity> convert(Stream<JsonObject> result, String database) {
         return
-                result.stream()
+                result
                         .map(JsonObject::toMap)
                         .filter(Objects::nonNull)
                         .map(map -> {
@@ -108,6 +112,13 @@ final class EntityConverter {
         return jsonObject;
     }
 
+    static Object convert(Document document) {
+        requireNonNull(document, "document is required");
+        JsonObject jsonObject = JsonObject.create();
+        toJsonObject(jsonObject).accept(document);
+        return jsonObject.get(document.name());
+    }
+
     private static Consumer<Document> toJsonObject(JsonObject jsonObject) {
         return d -> {
             Object value = ValueUtil.convert(d.value());
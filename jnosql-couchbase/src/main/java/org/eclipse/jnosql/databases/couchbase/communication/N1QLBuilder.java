@@ -16,6 +16,7 @@ package org.eclipse.jnosql.databases.couchbase.communication;
 
 import com.couchbase.client.java.json.JsonObject;
 import jakarta.data.repository.Direction;
+import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
@@ -23,12 +24,30 @@ import org.eclipse.jnosql.communication.document.DocumentQuery;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Creates the N1QL of a {@link DocumentQuery}. Every value, including LIMIT and OFFSET, is a named parameter, so the
+ * queries of the same shape, E.g.: the pages of a listing, have the same N1QL text, which the query service can
+ * prepare once, and the text is created once per shape and kept in a cache.
+ * A query whose whole condition is the id, either equals or in, reads the documents by key instead of N1QL; an id
+ * within another condition is a predicate on {@code META().id}.
+ */
 final class N1QLBuilder implements Supplier<N1QLQuery> {
 
+    static final String LIMIT_PARAM = "$limit";
+
+    static final String OFFSET_PARAM = "$offset";
+
+    private static final String META_ID = "META().id";
+
+    private static final int CACHE_SIZE = 1_000;
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
     private final DocumentQuery query;
 
     private final String database;
@@ -43,9 +62,38 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
 
     @Override
     public N1QLQuery get() {
-        StringBuilder n1ql = new StringBuilder();
         JsonObject params = JsonObject.create();
         List<String> ids = new ArrayList<>();
+        StringBuilder shape = new StringBuilder(database).append('.').append(scope).append('.')
+                .append(query.name()).append('|').append(select()).append('|');
+        limit(params);
+        query.condition().ifPresent(c -> {
+            if (isId(c)) {
+                shape.append("ID");
+                ids.addAll(ids(c));
+            } else {
+                condition(c, null, shape, params);
+            }
+        });
+        shape.append('|');
+        query.sorts().forEach(s -> shape.append(s.property()).append(s.isAscending() ? '+' : '-').append(','));
+        shape.append('|').append(query.limit() > 0).append('|').append(query.skip() > 0);
+
+        String key = shape.toString();
+        String n1ql = CACHE.get(key);
+        if (n1ql == null) {
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            n1ql = CACHE.computeIfAbsent(key, k -> n1ql());
+        }
+        return new N1QLQuery(n1ql, params, ids);
+    }
+
+    private String n1ql() {
+        StringBuilder n1ql = new StringBuilder();
+        JsonObject params = JsonObject.create();
+        limit(params);
 
         n1ql.append("select ");
         n1ql.append(select()).append(' ');
@@ -54,19 +102,11 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
                 .append(scope).append(".")
                 .append(query.name());
 
-        query.condition().ifPresent(c -> {
+        query.condition().filter(c -> !isId(c)).ifPresent(c -> {
             n1ql.append(" WHERE ");
-            condition(c, n1ql, params, ids);
+            condition(c, n1ql, new StringBuilder(), params);
         });
 
-        if (query.limit() > 0) {
-            n1ql.append(" LIMIT ").append(query.limit());
-        }
-
-        if (query.skip() > 0) {
-            n1ql.append(" OFFSET ").append(query.skip());
-        }
-
         if (!query.sorts().isEmpty()) {
             n1ql.append(" ORDER BY ");
             String order = query.sorts().stream()
@@ -75,98 +115,164 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
             n1ql.append(order);
         }
 
-        return N1QLQuery.of(n1ql, params, ids);
+        if (query.limit() > 0) {
+            n1ql.append(" LIMIT ").append(LIMIT_PARAM);
+        }
+
+        if (query.skip() > 0) {
+            n1ql.append(" OFFSET ").append(OFFSET_PARAM);
+        }
+        return n1ql.toString();
     }
 
+    private void limit(JsonObject params) {
+        if (query.limit() > 0) {
+            params.put(LIMIT_PARAM, query.limit());
+        }
+        if (query.skip() > 0) {
+            params.put(OFFSET_PARAM, query.skip());
+        }
+    }
 
-    private void condition(DocumentCondition condition, StringBuilder n1ql, JsonObject params, List<String> ids) {
+    /**
+     * Walks the condition, it appends the shape, the conditions and the document names without the values, binds
+     * the values, in the same order and with the same names at every walk, and appends the N1QL when n1ql is not
+     * null. A compound condition within another one is enclosed in parentheses.
+     */
+    private void condition(DocumentCondition condition, StringBuilder n1ql, StringBuilder shape,
+                           JsonObject params) {
         Document document = condition.document();
         switch (condition.condition()) {
             case EQUALS:
-                if (document.name().equals(EntityConverter.ID_FIELD)) {
-                    ids.add(document.get(String.class));
-                } else {
-                    predicate(n1ql, " = ", document, params);
-                }
+                predicate(n1ql, shape, " = ", document, params);
                 return;
             case IN:
-                if (document.name().equals(EntityConverter.ID_FIELD)) {
-                    ids.addAll(document.get(new TypeReference<List<String>>() {
-                    }));
-                } else {
-                    predicate(n1ql, " IN ", document, params);
-                }
+                predicate(n1ql, shape, " IN ", document, params);
                 return;
             case LESSER_THAN:
-                predicate(n1ql, " < ", document, params);
+                predicate(n1ql, shape, " < ", document, params);
                 return;
             case GREATER_THAN:
-                predicate(n1ql, " > ", document, params);
+                predicate(n1ql, shape, " > ", document, params);
                 return;
             case LESSER_EQUALS_THAN:
-                predicate(n1ql, " <= ", document, params);
+                predicate(n1ql, shape, " <= ", document, params);
                 return;
             case GREATER_EQUALS_THAN:
-                predicate(n1ql, " >= ", document, params);
+                predicate(n1ql, shape, " >= ", document, params);
                 return;
             case LIKE:
-                predicate(n1ql, " LIKE ", document, params);
+                predicate(n1ql, shape, " LIKE ", document, params);
                 return;
             case NOT:
-                n1ql.append(" NOT ");
-                condition(document.get(DocumentCondition.class), n1ql, params, ids);
+                append(n1ql, " NOT (");
+                shape.append("NOT(");
+                condition(document.get(DocumentCondition.class), n1ql, shape, params);
+                shape.append(')');
+                append(n1ql, " )");
                 return;
             case OR:
-                appendCondition(n1ql, params, document.get(new TypeReference<>() {
-                }), " OR ", ids);
+                appendCondition(n1ql, shape, params, document.get(new TypeReference<>() {
+                }), " OR ");
                 return;
             case AND:
-                appendCondition(n1ql, params, document.get(new TypeReference<>() {
-                }), " AND ", ids);
+                appendCondition(n1ql, shape, params, document.get(new TypeReference<>() {
+                }), " AND ");
                 return;
             case BETWEEN:
-                predicateBetween(n1ql, params, document);
+                predicateBetween(n1ql, shape, params, document);
                 return;
             default:
                 throw new UnsupportedOperationException("There is not support condition for " + condition.condition());
         }
     }
 
-    private void predicateBetween(StringBuilder n1ql, JsonObject params, Document document) {
-        n1ql.append(" BETWEEN ");
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        String name = identifierOf(document.name());
-
+    private void predicateBetween(StringBuilder n1ql, StringBuilder shape, JsonObject params, Document document) {
         List<Object> values = new ArrayList<>();
         ((Iterable<?>) document.get()).forEach(values::add);
 
-        String param = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        String param2 = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        n1ql.append(name).append(" ").append(param).append(" AND ").append(param2);
+        String param = param(document.name(), params);
         params.put(param, values.get(0));
+        String param2 = param(document.name(), params);
         params.put(param2, values.get(1));
+        shape.append("BETWEEN:").append(document.name());
+        append(n1ql, identifierOf(name(document)) + "BETWEEN " + param + " AND " + param2);
     }
 
-    private void appendCondition(StringBuilder n1ql, JsonObject params,
-                                 List<DocumentCondition> conditions,
-                                 String condition, List<String> ids) {
+    private void appendCondition(StringBuilder n1ql, StringBuilder shape, JsonObject params,
+                                 List<DocumentCondition> conditions, String condition) {
+        shape.append(condition.trim()).append('(');
+        boolean first = true;
         for (DocumentCondition documentCondition : conditions) {
-            StringBuilder query = new StringBuilder();
-            condition(documentCondition, query, params, ids);
-            n1ql.append(condition).append(query);
+            if (!first) {
+                append(n1ql, condition);
+            }
+            boolean compound = isCompound(documentCondition);
+            if (compound) {
+                append(n1ql, " (");
+            }
+            condition(documentCondition, n1ql, shape, params);
+            if (compound) {
+                append(n1ql, " )");
+            }
+            shape.append(',');
+            first = false;
+        }
+        shape.append(')');
+    }
+
+    private static boolean isCompound(DocumentCondition condition) {
+        switch (condition.condition()) {
+            case AND:
+            case OR:
+                return true;
+            default:
+                return false;
         }
     }
 
+    private static boolean isId(DocumentCondition condition) {
+        return condition.document().name().equals(EntityConverter.ID_FIELD)
+                && (condition.condition() == Condition.EQUALS || condition.condition() == Condition.IN);
+    }
+
+    private static List<String> ids(DocumentCondition condition) {
+        if (condition.condition() == Condition.IN) {
+            return condition.document().get(new TypeReference<List<String>>() {
+            });
+        }
+        return List.of(condition.document().get(String.class));
+    }
+
     private void predicate(StringBuilder n1ql,
+                           StringBuilder shape,
                            String condition,
                            Document document,
                            JsonObject params) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        String name = identifierOf(document.name());
-        Object value = document.get();
-        String param = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        n1ql.append(name).append(condition).append(param);
-        params.put(param, value);
+        String param = param(document.name(), params);
+        params.put(param, document.get());
+        shape.append(condition.trim()).append(':').append(document.name());
+        append(n1ql, identifierOf(name(document)) + condition + param);
+    }
+
+    private static String name(Document document) {
+        return document.name().equals(EntityConverter.ID_FIELD) ? META_ID : document.name();
+    }
+
+    private static String param(String name, JsonObject params) {
+        String parameter = "$" + name.replaceAll("\\W", "_");
+        String param = parameter;
+        int counter = 1;
+        while (params.containsKey(param)) {
+            param = parameter + '_' + counter++;
+        }
+        return param;
+    }
+
+    private static void append(StringBuilder n1ql, String text) {
+        if (n1ql != null) {
+            n1ql.append(text);
+        }
     }
 
     private String identifierOf(String name) {
@@ -51,7 +51,8 @@ final class N1QLQuery {
     }
 
     public boolean hasOnlyIds() {
-        return hasIds() && hasParameter();
+        return hasIds() && params.getNames().stream()
+                .allMatch(name -> N1QLBuilder.LIMIT_PARAM.equals(name) || N1QLBuilder.OFFSET_PARAM.equals(name));
     }
 
     public boolean hasIds() {
@@ -17,6 +17,7 @@ package org.eclipse.jnosql.databases.couchbase.mapping;
 
 import com.couchbase.client.java.json.JsonObject;
 import jakarta.nosql.document.DocumentTemplate;
+import org.eclipse.jnosql.databases.couchbase.communication.CouchbaseMutation;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 
 import java.util.stream.Stream;
@@ -47,5 +48,27 @@ public interface CouchbaseTemplate extends JNoSQLDocumentTemplate {
      */
     <T> Stream<T> n1qlQuery(String n1qlQuery);
 
+    /**
+     * Updates only the given fields of the entity through a sub-document mutation, so only these fields go through
+     * the network instead of the whole entity.
+     *
+     * @param entity the entity
+     * @param fields the field names of the entity class to update
+     * @param <T>    the entity type
+     * @return the entity
+     * @throws NullPointerException when there is null parameter
+     */
+    <T> T update(T entity, Iterable<String> fields);
+
+    /**
+     * Applies sub-document mutations to the document of an entity, E.g.: increments a counter, without reading
+     * or sending the whole document.
+     *
+     * @param type      the entity class
+     * @param id        the entity id
+     * @param mutations the mutations
+     * @throws NullPointerException when there is null parameter
+     */
+    void mutateIn(Class<?> type, Object id, Iterable<CouchbaseMutation> mutations);
 
 }
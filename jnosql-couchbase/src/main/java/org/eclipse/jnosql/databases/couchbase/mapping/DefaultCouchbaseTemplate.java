@@ -20,15 +20,20 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.databases.couchbase.communication.CouchbaseDocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.databases.couchbase.communication.CouchbaseMutation;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.document.AbstractDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
 import org.eclipse.jnosql.mapping.document.DocumentEventPersistManager;
 import org.eclipse.jnosql.mapping.document.DocumentWorkflow;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -117,4 +122,23 @@ class DefaultCouchbaseTemplate extends AbstractDocumentTemplate
                 .map(d -> (T) d);
     }
 
+    @Override
+    public <T> T update(T entity, Iterable<String> fields) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(fields, "fields is required");
+        EntityMetadata metadata = entities.get(entity.getClass());
+        List<String> documents = new ArrayList<>();
+        fields.forEach(field -> documents.add(metadata.columnField(field)));
+        return flow.flow(entity, document -> manager.get().update(document, documents));
+    }
+
+    @Override
+    public void mutateIn(Class<?> type, Object id, Iterable<CouchbaseMutation> mutations) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(mutations, "mutations is required");
+        EntityMetadata metadata = entities.get(type);
+        manager.get().mutateIn(metadata.name(), Value.of(id).get(String.class), mutations);
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.MutationResult;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouchbaseBatchTest {
+
+    private ReactiveCollection reactive;
+
+    private Collection collection;
+
+    private CouchbaseBucketManager manager;
+
+    @BeforeEach
+    void setUp() {
+        Bucket bucket = Mockito.mock(Bucket.class, Mockito.RETURNS_DEEP_STUBS);
+        collection = Mockito.mock(Collection.class);
+        reactive = Mockito.mock(ReactiveCollection.class);
+        when(collection.reactive()).thenReturn(reactive);
+        manager = new CouchbaseBucketManager(bucket, "bucket", collection, new CouchbaseBatch(4),
+                new CouchbaseBucketReadiness(bucket));
+    }
+
+    @Test
+    void shouldReturnErrorWhenParallelismIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new CouchbaseBatch(0));
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        CouchbaseKeyValueConfiguration configuration = new CouchbaseKeyValueConfiguration();
+        configuration.update(Settings.builder()
+                .put(CouchbaseConfigurations.BATCH_PARALLELISM.get(), "32").build());
+        assertEquals(32, configuration.toCouchbaseSettings().getBatchParallelism());
+
+        configuration.update(Settings.builder().build());
+        assertEquals(CouchbaseBatch.DEFAULT_PARALLELISM, configuration.toCouchbaseSettings().getBatchParallelism());
+    }
+
+    @Test
+    void shouldKeepOrderAndBoundParallelism() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        List<Integer> values = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+        List<Integer> results = new CouchbaseBatch(3).execute(values, value -> Mono.defer(() -> {
+                    max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    return Mono.just(value * 10);
+                }).delayElement(Duration.ofMillis(20 - value))
+                .doOnNext(result -> running.decrementAndGet()));
+
+        assertThat(results).containsExactlyElementsOf(values.stream().map(v -> v * 10).collect(Collectors.toList()));
+        assertEquals(3, max.get());
+    }
+
+    @Test
+    void shouldThrowFirstError() {
+        CouchbaseBatch batch = new CouchbaseBatch(2);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> batch.run(List.of(1, 2, 3),
+                value -> value == 2 ? Mono.error(new IllegalStateException("failed " + value)) : Mono.just(value)));
+        assertEquals("failed 2", exception.getMessage());
+    }
+
+    @Test
+    void shouldGetKeysConcurrentlyAndSkipNotFound() {
+        GetResult otavio = Mockito.mock(GetResult.class);
+        GetResult soro = Mockito.mock(GetResult.class);
+        when(otavio.contentAs(String.class)).thenReturn("otavio");
+        when(soro.contentAs(String.class)).thenReturn("soro");
+        DocumentNotFoundException notFound = Mockito.mock(DocumentNotFoundException.class);
+        when(reactive.get("otavio")).thenReturn(Mono.just(otavio).delayElement(Duration.ofMillis(50)));
+        when(reactive.get("ada")).thenReturn(Mono.error(notFound));
+        when(reactive.get("soro")).thenReturn(Mono.just(soro));
+
+        Iterable<Value> values = manager.get(List.of("otavio", "ada", "soro"));
+
+        assertThat(StreamSupport.stream(values.spliterator(), false).map(v -> v.get(String.class)))
+                .containsExactly("otavio", "soro");
+        verify(collection, never()).get(anyString());
+    }
+
+    @Test
+    void shouldPutAndDeleteKeysConcurrently() {
+        MutationResult result = Mockito.mock(MutationResult.class);
+        when(reactive.upsert(anyString(), any())).thenReturn(Mono.just(result));
+        when(reactive.remove(anyString())).thenReturn(Mono.just(result));
+
+        manager.put(List.of(KeyValueEntity.of("otavio", "value"), KeyValueEntity.of("soro", "value")));
+        manager.delete(List.of("otavio", "soro"));
+
+        verify(reactive).upsert("otavio", "value");
+        verify(reactive).upsert("soro", "value");
+        verify(reactive).remove("otavio");
+        verify(reactive).remove("soro");
+        verify(collection, never()).upsert(anyString(), any());
+        verify(collection, never()).remove(anyString());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Compares, on the Couchbase test container, the latency of a key value read that calls
+ * {@link Bucket#waitUntilReady(Duration)} before each operation, as the managers did before, with one that goes
+ * through the cached {@link CouchbaseBucketReadiness}. It runs only with {@code -Djnosql.test.benchmark=true} and
+ * logs the mean time per operation of each round,
+ * E.g.: {@code mvn test -Dtest=CouchbaseBucketReadinessBenchmarkTest -Djnosql.test.benchmark=true}
+ */
+@EnabledIfSystemProperty(named = "jnosql.test.benchmark", matches = "true")
+class CouchbaseBucketReadinessBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(CouchbaseBucketReadinessBenchmarkTest.class.getName());
+
+    private static final String KEY = "readiness-benchmark";
+
+    private static final int OPERATIONS = 5_000;
+
+    private static final int ROUNDS = 5;
+
+    private Cluster cluster;
+
+    private Bucket bucket;
+
+    private Collection collection;
+
+    private CouchbaseBucketReadiness readiness;
+
+    private Duration timeout;
+
+    @BeforeEach
+    void setUp() {
+        cluster = Database.INSTANCE.getCouchbaseSettings().getCluster();
+        bucket = cluster.bucket(CouchbaseUtil.BUCKET_NAME);
+        collection = bucket.defaultCollection();
+        timeout = bucket.environment().timeoutConfig().kvDurableTimeout();
+        bucket.waitUntilReady(timeout);
+        collection.upsert(KEY, JsonObject.create().put("name", "otavio"));
+        readiness = new CouchbaseBucketReadiness(bucket);
+    }
+
+    @AfterEach
+    void tearDown() {
+        collection.remove(KEY);
+        readiness.close();
+        cluster.disconnect();
+    }
+
+    @Test
+    void shouldCompareWaitPerOperationAndCachedReadiness() {
+        for (int round = 0; round < ROUNDS; round++) {
+            long perOperation = time(() -> {
+                bucket.waitUntilReady(timeout);
+                collection.get(KEY);
+            });
+            long cached = time(() -> {
+                readiness.await();
+                collection.get(KEY);
+            });
+            LOGGER.info(String.format("round %d, %d reads: waitUntilReady per operation %d µs, cached readiness"
+                    + " %d µs", round, OPERATIONS, perOperation, cached));
+        }
+    }
+
+    /**
+     * @return the mean time, in microseconds, of the operation
+     */
+    private static long time(Runnable operation) {
+        long start = System.nanoTime();
+        for (int index = 0; index < OPERATIONS; index++) {
+            operation.run();
+        }
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / OPERATIONS;
+    }
+}
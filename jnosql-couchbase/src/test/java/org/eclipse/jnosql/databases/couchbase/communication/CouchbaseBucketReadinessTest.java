@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.cnc.EventSubscription;
+import com.couchbase.client.core.cnc.events.core.BucketClosedEvent;
+import com.couchbase.client.core.cnc.events.core.BucketOpenedEvent;
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Collection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouchbaseBucketReadinessTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private Bucket bucket;
+
+    private EventSubscription subscription;
+
+    private CouchbaseBucketReadiness readiness;
+
+    @BeforeEach
+    void setUp() {
+        bucket = Mockito.mock(Bucket.class, Mockito.RETURNS_DEEP_STUBS);
+        subscription = Mockito.mock(EventSubscription.class);
+        when(bucket.name()).thenReturn("bucket");
+        when(bucket.environment().timeoutConfig().kvDurableTimeout()).thenReturn(TIMEOUT);
+        when(bucket.environment().eventBus().subscribe(any())).thenReturn(subscription);
+        readiness = new CouchbaseBucketReadiness(bucket);
+    }
+
+    @Test
+    void shouldWaitOnlyAtFirstUse() {
+        assertFalse(readiness.isReady());
+
+        readiness.await();
+        readiness.await();
+        readiness.await();
+
+        assertTrue(readiness.isReady());
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    void shouldWaitAgainWhenBucketIsClosed() {
+        readiness.await();
+
+        readiness.onEvent(new BucketOpenedEvent(Duration.ZERO, null, "bucket"));
+        assertTrue(readiness.isReady());
+        readiness.onEvent(new BucketClosedEvent(Duration.ZERO, null, "another"));
+        assertTrue(readiness.isReady());
+        readiness.onEvent(new BucketClosedEvent(Duration.ZERO, null, "bucket"));
+        assertFalse(readiness.isReady());
+
+        readiness.await();
+        verify(bucket, times(2)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    void shouldNotWaitOnEveryOperation() {
+        Collection collection = Mockito.mock(Collection.class);
+        CouchbaseBucketManager manager = new CouchbaseBucketManager(bucket, "bucket", collection,
+                CouchbaseBatch.DEFAULT, readiness);
+
+        manager.put("otavio", "value");
+        manager.put("soro", "value");
+        manager.delete("otavio");
+
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+        verify(collection).upsert("otavio", "value");
+        verify(collection).remove("otavio");
+    }
+
+    @Test
+    void shouldUnsubscribeOnClose() {
+        readiness.close();
+        verify(subscription).unsubscribe();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.Scope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouchbaseHandleCacheTest {
+
+    private Cluster cluster;
+
+    private Bucket bucket;
+
+    private Collection collection;
+
+    private DefaultCouchbaseBucketManagerFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        cluster = Mockito.mock(Cluster.class);
+        bucket = Mockito.mock(Bucket.class, Mockito.RETURNS_DEEP_STUBS);
+        collection = Mockito.mock(Collection.class);
+        when(cluster.bucket("jnosql")).thenReturn(bucket);
+        when(bucket.name()).thenReturn("jnosql");
+        when(bucket.collection("jnosql")).thenReturn(collection);
+        CouchbaseSettings settings = new CouchbaseKeyValueConfiguration().toCouchbaseSettings();
+        factory = new DefaultCouchbaseBucketManagerFactory(settings, cluster);
+    }
+
+    @Test
+    void shouldResolveStructuresCollectionOnce() {
+        factory.getMap("jnosql", String.class, String.class);
+        factory.getQueue("jnosql", String.class);
+        factory.getSet("jnosql", String.class);
+        factory.getList("jnosql", String.class);
+        factory.getList("jnosql", "names", String.class);
+
+        verify(cluster, times(1)).bucket("jnosql");
+        verify(bucket, times(1)).collection("jnosql");
+    }
+
+    @Test
+    void shouldResolveDefaultScopeAndCollectionOnce() {
+        Scope scope = Mockito.mock(Scope.class);
+        Collection defaultCollection = Mockito.mock(Collection.class);
+        when(bucket.defaultScope().name()).thenReturn("_default");
+        when(bucket.defaultCollection().name()).thenReturn("_default");
+        when(bucket.scope("_default")).thenReturn(scope);
+        when(scope.collection("_default")).thenReturn(defaultCollection);
+        when(defaultCollection.name()).thenReturn("_default");
+        when(defaultCollection.scopeName()).thenReturn("_default");
+
+        factory.apply("jnosql");
+        factory.apply("jnosql");
+
+        verify(cluster, times(1)).bucket("jnosql");
+        verify(bucket, times(1)).scope("_default");
+        verify(scope, times(1)).collection("_default");
+    }
+
+    @Test
+    void shouldReleaseHandlesOnClose() {
+        factory.getList("jnosql", String.class);
+        factory.close();
+        factory.getList("jnosql", String.class);
+
+        verify(cluster).close();
+        verify(cluster, times(2)).bucket("jnosql");
+        verify(bucket, times(2)).collection("jnosql");
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.ArrayAppend;
+import com.couchbase.client.java.kv.Increment;
+import com.couchbase.client.java.kv.LookupInResult;
+import com.couchbase.client.java.kv.LookupInSpec;
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.Replace;
+import com.couchbase.client.java.kv.Upsert;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouchbaseMutationTest {
+
+    private Collection collection;
+
+    private ReactiveCollection reactive;
+
+    private DefaultCouchbaseDocumentManager manager;
+
+    @BeforeEach
+    void setUp() {
+        Cluster cluster = Mockito.mock(Cluster.class);
+        Bucket bucket = Mockito.mock(Bucket.class, Mockito.RETURNS_DEEP_STUBS);
+        collection = Mockito.mock(Collection.class);
+        reactive = Mockito.mock(ReactiveCollection.class);
+        when(cluster.bucket("jnosql")).thenReturn(bucket);
+        when(bucket.defaultScope().name()).thenReturn("_default");
+        when(bucket.collection("person")).thenReturn(collection);
+        when(collection.reactive()).thenReturn(reactive);
+        manager = new DefaultCouchbaseDocumentManager(cluster, "jnosql", CouchbaseBatch.DEFAULT,
+                new CouchbaseBucketReadiness(bucket), CouchbaseQueryOptions.DEFAULT);
+    }
+
+    @Test
+    void shouldCreateSpecs() {
+        assertThat(CouchbaseMutation.replace("name", "Ada").toSpec()).isInstanceOf(Replace.class);
+        assertThat(CouchbaseMutation.upsert(Document.of("age", 10)).toSpec()).isInstanceOf(Upsert.class);
+        assertThat(CouchbaseMutation.arrayAppend("phones", "1234", "5678").toSpec()).isInstanceOf(ArrayAppend.class);
+        assertThat(CouchbaseMutation.increment("visits", 1).toSpec()).isInstanceOf(Increment.class);
+        assertEquals(List.of("1234", "5678"), CouchbaseMutation.arrayAppend("phones", "1234", "5678").getValue());
+        assertEquals(Map.of("city", "Salvador"), ((JsonObject) CouchbaseMutation.upsert(Document.of("address",
+                List.of(Document.of("city", "Salvador")))).getValue()).toMap());
+    }
+
+    @Test
+    void shouldUpdateOnlyTheGivenDocuments() {
+        DocumentEntity entity = DocumentEntity.of("person", List.of(Document.of("_id", "ada"),
+                Document.of("name", "Ada"), Document.of("age", 10)));
+
+        manager.update(entity, List.of("age", "nickname"));
+
+        ArgumentCaptor<List<MutateInSpec>> specs = ArgumentCaptor.forClass(List.class);
+        verify(collection).mutateIn(eq("ada"), specs.capture());
+        assertThat(specs.getValue()).hasSize(2).allMatch(Upsert.class::isInstance);
+        verify(collection, never()).upsert(anyString(), Mockito.any());
+    }
+
+    @Test
+    void shouldReturnErrorWhenUpdateHasNoId() {
+        DocumentEntity entity = DocumentEntity.of("person", List.of(Document.of("age", 10)));
+        assertThrows(CouchbaseNoKeyFoundException.class, () -> manager.update(entity, List.of("age")));
+    }
+
+    @Test
+    void shouldLookupProjectionById() {
+        LookupInResult result = Mockito.mock(LookupInResult.class);
+        when(result.exists(0)).thenReturn(true);
+        when(result.contentAs(0, Object.class)).thenReturn("Ada");
+        when(result.exists(1)).thenReturn(false);
+        when(reactive.lookupIn(eq("ada"), anyList())).thenReturn(Mono.just(result));
+        DocumentQuery query = select("name", "nickname").from("person").where("_id").eq("ada").build();
+
+        List<DocumentEntity> entities = manager.select(query).collect(Collectors.toList());
+
+        assertThat(entities).hasSize(1);
+        assertEquals("person", entities.get(0).name());
+        assertEquals("Ada", entities.get(0).find("name", String.class).orElseThrow());
+        assertThat(entities.get(0).find("nickname")).isEmpty();
+        ArgumentCaptor<List<LookupInSpec>> specs = ArgumentCaptor.forClass(List.class);
+        verify(reactive).lookupIn(eq("ada"), specs.capture());
+        assertThat(specs.getValue()).hasSize(2);
+        verify(reactive, never()).get(anyString());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.datastructures.CouchbaseArrayList;
+import com.couchbase.client.java.datastructures.CouchbaseArraySet;
+import com.couchbase.client.java.datastructures.CouchbaseMap;
+import com.couchbase.client.java.datastructures.CouchbaseQueue;
+import com.couchbase.client.java.kv.ArrayListOptions;
+import com.couchbase.client.java.kv.ArraySetOptions;
+import com.couchbase.client.java.kv.MapOptions;
+import com.couchbase.client.java.kv.QueueOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.logging.Logger;
+
+/**
+ * Compares the cost of acquiring a structure or a bucket manager from {@link DefaultCouchbaseBucketManagerFactory},
+ * which caches the bucket and collection handles, with resolving the handles at every call, as the factory did
+ * before. The acquisition does no I/O, so it runs against a cluster that is not connected to any server, and only
+ * with {@code -Djnosql.test.benchmark=true}. It logs the mean time per acquisition of each round,
+ * E.g.: {@code mvn test -Dtest=CouchbaseStructureAcquisitionBenchmarkTest -Djnosql.test.benchmark=true}
+ */
+@EnabledIfSystemProperty(named = "jnosql.test.benchmark", matches = "true")
+class CouchbaseStructureAcquisitionBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(CouchbaseStructureAcquisitionBenchmarkTest.class.getName());
+
+    private static final String BUCKET = CouchbaseUtil.BUCKET_NAME;
+
+    private static final int ACQUISITIONS = 200_000;
+
+    private static final int ROUNDS = 10;
+
+    private Cluster cluster;
+
+    private DefaultCouchbaseBucketManagerFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        cluster = Cluster.connect("couchbase://127.0.0.1", "root", "123456");
+        factory = new DefaultCouchbaseBucketManagerFactory(new CouchbaseKeyValueConfiguration().toCouchbaseSettings(),
+                cluster);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void shouldCompareResolvedAndCachedHandles() {
+        for (int round = 0; round < ROUNDS; round++) {
+            long resolvedMap = time(() -> new CouchbaseMap<>(BUCKET + ":map", structures(), String.class,
+                    MapOptions.mapOptions()));
+            long resolvedQueue = time(() -> new CouchbaseQueue<>(BUCKET + DefaultCouchbaseBucketManagerFactory.QUEUE,
+                    structures(), String.class, QueueOptions.queueOptions()));
+            long resolvedSet = time(() -> new CouchbaseArraySet<>(BUCKET + DefaultCouchbaseBucketManagerFactory.SET,
+                    structures(), String.class, ArraySetOptions.arraySetOptions()));
+            long resolvedList = time(() -> new CouchbaseArrayList<>(BUCKET + DefaultCouchbaseBucketManagerFactory.LIST,
+                    structures(), String.class, ArrayListOptions.arrayListOptions()));
+            long resolvedApply = time(() -> {
+                Bucket bucket = cluster.bucket(BUCKET);
+                bucket.scope(bucket.defaultScope().name()).collection(bucket.defaultCollection().name());
+            });
+
+            long cachedMap = time(() -> factory.getMap(BUCKET, String.class, String.class));
+            long cachedQueue = time(() -> factory.getQueue(BUCKET, String.class));
+            long cachedSet = time(() -> factory.getSet(BUCKET, String.class));
+            long cachedList = time(() -> factory.getList(BUCKET, String.class));
+            long cachedApply = time(() -> factory.apply(BUCKET));
+
+            LOGGER.info(String.format("round %d, %d acquisitions: resolved getMap %d ns, getQueue %d ns,"
+                            + " getSet %d ns, getList %d ns, apply %d ns; cached getMap %d ns, getQueue %d ns,"
+                            + " getSet %d ns, getList %d ns, apply %d ns", round, ACQUISITIONS,
+                    resolvedMap, resolvedQueue, resolvedSet, resolvedList, resolvedApply,
+                    cachedMap, cachedQueue, cachedSet, cachedList, cachedApply));
+        }
+    }
+
+    private Collection structures() {
+        return cluster.bucket(BUCKET).collection(BUCKET);
+    }
+
+    /**
+     * @return the mean time, in nanoseconds, of the acquisition
+     */
+    private static long time(Runnable acquisition) {
+        long start = System.nanoTime();
+        for (int index = 0; index < ACQUISITIONS; index++) {
+            acquisition.run();
+        }
+        return (System.nanoTime() - start) / ACQUISITIONS;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.ReactiveCluster;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class N1QLBuilderTest {
+
+    @Test
+    void shouldBindLimitAndOffset() {
+        N1QLQuery query = N1QLBuilder.of(select().from("person").where("name").eq("Otavio")
+                .orderBy("age").desc().skip(10).limit(5).build(), "jnosql", "_default").get();
+
+        assertEquals("select * from jnosql._default.person WHERE  name  = $name ORDER BY age DESC"
+                + " LIMIT $limit OFFSET $offset", query.getQuery());
+        assertEquals("Otavio", query.getParams().get("$name"));
+        assertEquals(5L, query.getParams().getLong(N1QLBuilder.LIMIT_PARAM));
+        assertEquals(10L, query.getParams().getLong(N1QLBuilder.OFFSET_PARAM));
+    }
+
+    @Test
+    void shouldReuseN1QLOfTheSameShape() {
+        N1QLQuery first = N1QLBuilder.of(select().from("person").where("name").eq("Otavio")
+                .and("age").gt(10).skip(0).limit(10).build(), "jnosql", "_default").get();
+        N1QLQuery second = N1QLBuilder.of(select().from("person").where("name").eq("Lucas")
+                .and("age").gt(20).skip(0).limit(20).build(), "jnosql", "_default").get();
+        N1QLQuery another = N1QLBuilder.of(select().from("person").where("name").eq("Lucas")
+                .and("age").lt(20).skip(0).limit(20).build(), "jnosql", "_default").get();
+
+        assertSame(first.getQuery(), second.getQuery());
+        assertNotEquals(second.getQuery(), another.getQuery());
+        assertEquals("select * from jnosql._default.person WHERE  name  = $name AND  age  > $age LIMIT $limit",
+                second.getQuery());
+        assertEquals("Lucas", second.getParams().get("$name"));
+        assertEquals(20, second.getParams().get("$age"));
+        assertEquals(20L, second.getParams().getLong(N1QLBuilder.LIMIT_PARAM));
+    }
+
+    @Test
+    void shouldNameRepeatedFields() {
+        N1QLQuery query = N1QLBuilder.of(select().from("person").where("name").eq("Otavio")
+                .or("name").eq("Lucas").or("address.city").eq("Salvador").build(), "jnosql", "_default").get();
+
+        assertEquals("select * from jnosql._default.person WHERE  name  = $name OR  name  = $name_1"
+                + " OR  address.city  = $address_city", query.getQuery());
+        assertEquals("Lucas", query.getParams().get("$name_1"));
+        assertEquals("Salvador", query.getParams().get("$address_city"));
+    }
+
+    @Test
+    void shouldKeepIdsOutOfTheQuery() {
+        N1QLQuery query = N1QLBuilder.of(select().from("person").where("_id").eq("otavio").limit(1).build(),
+                "jnosql", "_default").get();
+
+        assertEquals(List.of("otavio"), query.getIds());
+        assertTrue(query.hasOnlyIds());
+        assertFalse(query.getQuery().contains("WHERE"));
+    }
+
+    @Test
+    void shouldEncloseTheNestedConditions() {
+        DocumentCondition condition = DocumentCondition.and(DocumentCondition.eq(Document.of("name", "Otavio")),
+                DocumentCondition.or(DocumentCondition.gt(Document.of("age", 10)),
+                        DocumentCondition.lt(Document.of("age", 5))));
+        N1QLQuery query = N1QLBuilder.of(DocumentQuery.builder().from("person").where(condition).build(),
+                "jnosql", "_default").get();
+
+        assertEquals("select * from jnosql._default.person WHERE  name  = $name AND  ( age  > $age OR  age  < $age_1 )",
+                query.getQuery());
+    }
+
+    @Test
+    void shouldNegateTheWholeGroup() {
+        DocumentCondition condition = DocumentCondition.and(DocumentCondition.eq(Document.of("name", "Otavio")),
+                DocumentCondition.gt(Document.of("age", 10))).negate();
+        N1QLQuery query = N1QLBuilder.of(DocumentQuery.builder().from("person").where(condition).build(),
+                "jnosql", "_default").get();
+
+        assertEquals("select * from jnosql._default.person WHERE  NOT ( name  = $name AND  age  > $age )",
+                query.getQuery());
+    }
+
+    @Test
+    void shouldKeepTheIdWithinAnotherConditionAtTheQuery() {
+        N1QLQuery query = N1QLBuilder.of(select().from("person").where("_id").eq("otavio").and("age").gt(10)
+                .build(), "jnosql", "_default").get();
+
+        assertEquals("select * from jnosql._default.person WHERE  META().id  = $_id AND  age  > $age",
+                query.getQuery());
+        assertEquals("otavio", query.getParams().get("$_id"));
+        assertFalse(query.hasIds());
+        assertFalse(query.hasOnlyIds());
+    }
+
+    @Test
+    void shouldLoadQueryOptionsFromSettings() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        configuration.update(Settings.builder()
+                .put(CouchbaseConfigurations.QUERY_SCAN_CONSISTENCY.get(), "request_plus")
+                .put(CouchbaseConfigurations.QUERY_READONLY.get(), "true").build());
+        CouchbaseSettings settings = configuration.toCouchbaseSettings();
+
+        assertEquals(Optional.of(QueryScanConsistency.REQUEST_PLUS), settings.getQueryScanConsistency());
+        assertEquals(Optional.of(true), settings.getQueryReadonly());
+
+        JsonObject request = JsonObject.create();
+        CouchbaseQueryOptions.of(settings).prepared(JsonObject.create()).build().injectParams(request);
+        assertEquals("request_plus", request.getString("scan_consistency"));
+        assertTrue(request.getBoolean("readonly"));
+
+        JsonObject adhoc = JsonObject.create();
+        CouchbaseQueryOptions.of(settings).create(JsonObject.create()).build().injectParams(adhoc);
+        assertFalse(adhoc.containsKey("readonly"));
+    }
+
+    @Test
+    void shouldStreamRowsThroughReactiveQuery() {
+        Cluster cluster = Mockito.mock(Cluster.class);
+        Bucket bucket = Mockito.mock(Bucket.class, Mockito.RETURNS_DEEP_STUBS);
+        ReactiveCluster reactive = Mockito.mock(ReactiveCluster.class);
+        ReactiveQueryResult result = Mockito.mock(ReactiveQueryResult.class);
+        when(cluster.bucket("jnosql")).thenReturn(bucket);
+        when(bucket.defaultScope().name()).thenReturn("_default");
+        when(cluster.reactive()).thenReturn(reactive);
+        when(reactive.query(anyString(), any(QueryOptions.class))).thenReturn(Mono.just(result));
+        when(result.rowsAsObject()).thenReturn(Flux.just(
+                JsonObject.create().put("name", "Otavio").put(EntityConverter.COLLECTION_FIELD, "person"),
+                JsonObject.create().put("name", "Lucas").put(EntityConverter.COLLECTION_FIELD, "person")));
+        DefaultCouchbaseDocumentManager manager = new DefaultCouchbaseDocumentManager(cluster, "jnosql",
+                CouchbaseBatch.DEFAULT, new CouchbaseBucketReadiness(bucket),
+                new CouchbaseQueryOptions(null, true));
+        DocumentQuery query = select().from("person").where("age").gt(10).limit(2).build();
+
+        List<String> names;
+        try (Stream<DocumentEntity> entities = manager.select(query)) {
+            names = entities.map(e -> e.find("name", String.class).orElseThrow()).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("Otavio", "Lucas"), names);
+        ArgumentCaptor<QueryOptions> options = ArgumentCaptor.forClass(QueryOptions.class);
+        verify(reactive).query(eq("select * from jnosql._default.person WHERE  age  > $age LIMIT $limit"),
+                options.capture());
+        JsonObject request = JsonObject.create();
+        options.getValue().build().injectParams(request);
+        assertEquals(10, request.getInt("$age"));
+        assertEquals(2L, request.getLong("$limit"));
+        assertTrue(request.getBoolean("readonly"));
+    }
+}
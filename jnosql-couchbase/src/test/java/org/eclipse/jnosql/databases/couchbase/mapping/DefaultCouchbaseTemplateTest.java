@@ -18,6 +18,7 @@ import com.couchbase.client.java.json.JsonObject;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.databases.couchbase.communication.CouchbaseDocumentManager;
+import org.eclipse.jnosql.databases.couchbase.communication.CouchbaseMutation;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.mapping.Convert;
@@ -34,8 +35,12 @@ import org.jboss.weld.junit5.auto.AddPackages;
 import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 
 
@@ -72,6 +77,7 @@ public class DefaultCouchbaseTemplateTest {
         manager = Mockito.mock(CouchbaseDocumentManager.class);
         Instance instance = Mockito.mock(Instance.class);
         when(instance.get()).thenReturn(manager);
+        when(manager.update(Mockito.any(DocumentEntity.class), Mockito.any())).thenAnswer(i -> i.getArgument(0));
         template = new DefaultCouchbaseTemplate(instance, converter, flow, persistManager, entities, converters);
 
         DocumentEntity entity = DocumentEntity.of("Person");
@@ -94,4 +100,49 @@ public class DefaultCouchbaseTemplateTest {
         Mockito.verify(manager).n1qlQuery("select * from Person where name = $name");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldUpdateFields() {
+        Person person = new Person("Ada", 10);
+        template.update(person, List.of("age"));
+
+        ArgumentCaptor<DocumentEntity> entity = ArgumentCaptor.forClass(DocumentEntity.class);
+        Mockito.verify(manager).update(entity.capture(), Mockito.eq(List.of("age")));
+        assertEquals("Person", entity.getValue().name());
+        assertEquals(10, entity.getValue().find("age", Integer.class).orElseThrow());
+    }
+
+    @Test
+    public void shouldFireTheEventsWhenUpdateFields() {
+        DocumentEventPersistManager events = Mockito.mock(DocumentEventPersistManager.class);
+        DocumentWorkflow workflow = new DocumentWorkflow() {
+            @Override
+            protected DocumentEventPersistManager getEventManager() {
+                return events;
+            }
+
+            @Override
+            protected DocumentEntityConverter getConverter() {
+                return converter;
+            }
+        };
+        Instance instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        template = new DefaultCouchbaseTemplate(instance, converter, workflow, events, entities, converters);
+
+        Person person = new Person("Ada", 10);
+        Person updated = template.update(person, List.of("age"));
+
+        assertEquals(10, updated.getAge().intValue());
+        Mockito.verify(events).firePreEntity(person);
+        Mockito.verify(events).firePostEntity(person);
+        Mockito.verify(manager).update(Mockito.any(DocumentEntity.class), Mockito.eq(List.of("age")));
+    }
+
+    @Test
+    public void shouldMutateIn() {
+        List<CouchbaseMutation> mutations = List.of(CouchbaseMutation.increment("age", 1));
+        template.mutateIn(Person.class, "Ada", mutations);
+        Mockito.verify(manager).mutateIn("Person", "Ada", mutations);
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The DynamoDB implementation to {@link BucketManager} on top of the {@link DynamoDbAsyncClient}.
+ * Besides the {@link BucketManager} methods, that wait for the result, it has the non-blocking version of each
+ * operation. The batch operations send their chunks at the same time, up to the batch parallelism, so, E.g.: reading
+ * 300 keys takes about a single round trip. The {@link DynamoDbAsyncClient} belongs to who created it, E.g.: the
+ * {@link DynamoDBAsyncBucketManagerFactory}, so closing this manager does not close the client.
+ *
+ * @see DynamoDBKeyValueConfiguration#applyAsync(org.eclipse.jnosql.communication.Settings)
+ * @see DynamoDBConfigurations#ASYNC
+ * @see DynamoDBConfigurations#BATCH_PARALLELISM
+ */
+public class DynamoDBAsyncBucketManager extends DynamoDBBucketManager {
+
+    private final DynamoDbAsyncClient client;
+
+    private final String tableName;
+
+    private final DynamoDBBatch batch;
+
+    private final DynamoDBItemMapper mapper;
+
+    private final DynamoDBTimeToLive timeToLive;
+
+    public DynamoDBAsyncBucketManager(DynamoDbAsyncClient client, String tableName) {
+        this(client, tableName, new DynamoDBBatch(client, DynamoDBBatch.DEFAULT_PARALLELISM,
+                DynamoDBBatch.DEFAULT_MAX_RETRIES,
+                DynamoDBBatch.DEFAULT_RETRY_DELAY), DynamoDBItemMapper.DEFAULT,
+                new DynamoDBTimeToLive(DynamoDBItemMapper.DEFAULT_TTL_ATTRIBUTE));
+    }
+
+    DynamoDBAsyncBucketManager(DynamoDbAsyncClient client, String tableName, DynamoDBBatch batch,
+                               DynamoDBItemMapper mapper, DynamoDBTimeToLive timeToLive) {
+        super(null, tableName, batch, mapper, timeToLive);
+        this.client = client;
+        this.tableName = tableName;
+        this.batch = batch;
+        this.mapper = mapper;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public String name() {
+        return tableName;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) throws NullPointerException {
+        join(putAsync(KeyValueEntity.of(key, value)));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) throws NullPointerException {
+        join(putAsync(entity));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl)
+            throws NullPointerException, UnsupportedOperationException {
+        join(putAsync(entity, ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
+        join(putAsync(entities));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        join(putAsync(entities, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) throws NullPointerException {
+        return join(getAsync(key));
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
+        return join(getAsync(keys));
+    }
+
+    @Override
+    public <K> void delete(K key) throws NullPointerException {
+        join(deleteAsync(key));
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) throws NullPointerException {
+        join(deleteAsync(keys));
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously
+     *
+     * @param entity the entity to be put
+     * @return the {@link CompletionStage} that completes when the entity is saved
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity) {
+        return putAsync(entity, Duration.ZERO);
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously with time to live
+     *
+     * @param entity the entity to be put
+     * @param ttl    the time to live
+     * @return the {@link CompletionStage} that completes when the entity is saved
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Map<String, AttributeValue> item = mapper.toItem(entity.key(), entity.value(), ttl);
+        return timeToLive.enable(tableName, client, ttl)
+                .thenCompose(v -> client.putItem(PutItemRequest.builder().tableName(tableName).item(item).build()))
+                .thenApply(r -> null);
+    }
+
+    /**
+     * Saves the entities asynchronously, sending the chunks of the batch in parallel
+     *
+     * @param entities the entities to be put
+     * @return the {@link CompletionStage} that completes when all the entities are saved
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<Void> putAsync(Iterable<KeyValueEntity> entities) {
+        return putAsync(entities, Duration.ZERO);
+    }
+
+    /**
+     * Saves the entities asynchronously with time to live, sending the chunks of the batch in parallel
+     *
+     * @param entities the entities to be put
+     * @param ttl      the time to live
+     * @return the {@link CompletionStage} that completes when all the entities are saved
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    public CompletionStage<Void> putAsync(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<WriteRequest> requests = mapper.toPutRequests(entities, ttl);
+        return timeToLive.enable(tableName, client, ttl).thenCompose(v -> batch.writeAsync(tableName, requests));
+    }
+
+    /**
+     * Finds the Value from a key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} with the {@link Optional} value
+     * @throws NullPointerException     when key is null
+     * @throws IllegalArgumentException when key is empty
+     */
+    public <K> CompletionStage<Optional<Value>> getAsync(K key) {
+        Objects.requireNonNull(key, "key is required");
+        if (key.toString().isEmpty()) {
+            throw new IllegalArgumentException("The Key is irregular");
+        }
+        return client.getItem(DynamoDBUtils.createGetItemRequest(key, tableName))
+                .thenApply(response -> mapper.toValue(response.item()));
+    }
+
+    /**
+     * Finds the values from the keys asynchronously, sending the chunks of the batch in parallel
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} with the values found, following the order of the keys
+     * @throws NullPointerException when keys is null
+     */
+    public <K> CompletionStage<List<Value>> getAsync(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<String> ids = DynamoDBBucketManager.ids(keys);
+        return batch.getAsync(tableName, DynamoDBBucketManager.keyAttributes(ids))
+                .thenApply(items -> DynamoDBBucketManager.values(ids, items, mapper));
+    }
+
+    /**
+     * Removes an entity from the key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} that completes when the key is removed
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return client.deleteItem(DeleteItemRequest.builder().tableName(tableName)
+                        .key(DynamoDBUtils.createKeyAttributeValues(key)).build())
+                .thenApply(r -> null);
+    }
+
+    /**
+     * Removes the entities from the keys asynchronously, sending the chunks of the batch in parallel
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} that completes when all the keys are removed
+     * @throws NullPointerException when keys is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return batch.writeAsync(tableName, DynamoDBUtils.createDeleteWriteRequests(keys));
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
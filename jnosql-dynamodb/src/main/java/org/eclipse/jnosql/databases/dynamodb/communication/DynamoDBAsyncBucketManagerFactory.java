@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+/**
+ * The DynamoDB implementation to {@link BucketManagerFactory} that returns {@link DynamoDBAsyncBucketManager}.
+ * It is a {@link DynamoDBBucketManagerFactory}, so {@link DynamoDBKeyValueConfiguration#apply(Settings)} returns it
+ * when {@link DynamoDBConfigurations#ASYNC} is true.
+ *
+ * @see DynamoDBKeyValueConfiguration#applyAsync(Settings)
+ */
+public class DynamoDBAsyncBucketManagerFactory extends DynamoDBBucketManagerFactory {
+
+    private final DynamoDbAsyncClient client;
+
+    private final DynamoDBBatch batch;
+
+    private final DynamoDBItemMapper mapper;
+
+    private final DynamoDBTimeToLive timeToLive;
+
+    DynamoDBAsyncBucketManagerFactory(DynamoDbAsyncClient client, Settings settings) {
+        this.client = client;
+        this.batch = new DynamoDBBatch(client, DynamoDBBatch.parallelism(settings),
+                DynamoDBBatch.maxRetries(settings), DynamoDBBatch.retryDelay(settings));
+        this.mapper = DynamoDBItemMapper.of(settings);
+        this.timeToLive = new DynamoDBTimeToLive(mapper.ttlAttribute());
+    }
+
+    @Override
+    public DynamoDBAsyncBucketManager apply(String bucketName) {
+        return getBucketManager(bucketName, null, null);
+    }
+
+    @Override
+    public DynamoDBAsyncBucketManager getBucketManager(String bucketName, Long readCapacityUnits,
+                                                       Long writeCapacityUnit) {
+        DynamoTableUtils.manageTables(bucketName, client, readCapacityUnits, writeCapacityUnit);
+        return new DynamoDBAsyncBucketManager(client, bucketName, batch, mapper, timeToLive);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
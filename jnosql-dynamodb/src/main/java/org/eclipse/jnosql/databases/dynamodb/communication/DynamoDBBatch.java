@@ -0,0 +1,317 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Sends the batch operations to DynamoDB within the service limits: a {@code BatchWriteItem} takes up to 25 requests
+ * and a {@code BatchGetItem} up to 100 keys, so a larger batch is split into chunks, and at most the parallelism
+ * chunks are in flight at the same time. The items DynamoDB does not process, E.g.: when the table is throttled, are
+ * sent again after a jittered exponential backoff, until the max retries. Both the {@link DynamoDbClient}, whose
+ * calls run at the executor, and the {@link DynamoDbAsyncClient} share this implementation.
+ */
+final class DynamoDBBatch {
+
+    static final int WRITE_LIMIT = 25;
+
+    static final int GET_LIMIT = 100;
+
+    static final int DEFAULT_PARALLELISM = 4;
+
+    static final int DEFAULT_MAX_RETRIES = 10;
+
+    static final Duration DEFAULT_RETRY_DELAY = Duration.ofMillis(50);
+
+    private static final long MAX_DELAY = Duration.ofSeconds(10).toMillis();
+
+    private final Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> writer;
+
+    private final Function<BatchGetItemRequest, CompletableFuture<BatchGetItemResponse>> reader;
+
+    private final int parallelism;
+
+    private final int maxRetries;
+
+    private final long retryDelay;
+
+    DynamoDBBatch(DynamoDbClient client, Executor executor, int parallelism, int maxRetries, Duration retryDelay) {
+        this(request -> CompletableFuture.supplyAsync(() -> client.batchWriteItem(request), executor),
+                request -> CompletableFuture.supplyAsync(() -> client.batchGetItem(request), executor),
+                parallelism, maxRetries, retryDelay);
+        requireNonNull(client, "client is required");
+        requireNonNull(executor, "executor is required");
+    }
+
+    DynamoDBBatch(DynamoDbAsyncClient client, int parallelism, int maxRetries, Duration retryDelay) {
+        this(request -> client.batchWriteItem(request), request -> client.batchGetItem(request),
+                parallelism, maxRetries, retryDelay);
+        requireNonNull(client, "client is required");
+    }
+
+    private DynamoDBBatch(Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> writer,
+                          Function<BatchGetItemRequest, CompletableFuture<BatchGetItemResponse>> reader,
+                          int parallelism, int maxRetries, Duration retryDelay) {
+        this.writer = writer;
+        this.reader = reader;
+        this.retryDelay = requireNonNull(retryDelay, "retryDelay is required").toMillis();
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The batch parallelism must be greater than zero: " + parallelism);
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("The max retries must be positive: " + maxRetries);
+        }
+        this.parallelism = parallelism;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Writes the requests into the table and waits for the result
+     *
+     * @param tableName the table name
+     * @param requests  the put or delete requests
+     * @throws CommunicationException when there are items not processed after the max retries
+     */
+    void write(String tableName, List<WriteRequest> requests) {
+        join(writeAsync(tableName, requests));
+    }
+
+    /**
+     * Reads the items of the keys from the table and waits for the result
+     *
+     * @param tableName the table name
+     * @param keys      the keys
+     * @return the items found, in no particular order
+     * @throws CommunicationException when there are keys not processed after the max retries
+     */
+    List<Map<String, AttributeValue>> get(String tableName, List<Map<String, AttributeValue>> keys) {
+        return join(getAsync(tableName, keys));
+    }
+
+    /**
+     * Writes the requests into the table
+     *
+     * @param tableName the table name
+     * @param requests  the put or delete requests
+     * @return the {@link CompletableFuture} that completes when all the requests were processed, or exceptionally
+     * with a {@link CommunicationException} when there are items not processed after the max retries
+     */
+    CompletableFuture<Void> writeAsync(String tableName, List<WriteRequest> requests) {
+        return dispatch(chunks(requests, WRITE_LIMIT),
+                chunk -> write(Collections.singletonMap(tableName, chunk), 0)).thenApply(items -> null);
+    }
+
+    /**
+     * Reads the items of the keys from the table
+     *
+     * @param tableName the table name
+     * @param keys      the keys
+     * @return the {@link CompletableFuture} with the items found, in no particular order
+     */
+    CompletableFuture<List<Map<String, AttributeValue>>> getAsync(String tableName,
+                                                                  List<Map<String, AttributeValue>> keys) {
+        return dispatch(chunks(keys, GET_LIMIT), chunk -> get(tableName, Collections.singletonMap(tableName,
+                KeysAndAttributes.builder().keys(chunk).build()), new ArrayList<>(chunk.size()), 0));
+    }
+
+    private CompletableFuture<List<Map<String, AttributeValue>>> write(Map<String, List<WriteRequest>> items,
+                                                                       int attempt) {
+        return writer.apply(BatchWriteItemRequest.builder().requestItems(items).build())
+                .thenCompose(response -> {
+                    if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                        return CompletableFuture.completedFuture(Collections.emptyList());
+                    }
+                    Map<String, List<WriteRequest>> unprocessed = response.unprocessedItems();
+                    return backoff(attempt, "write", unprocessed.values().stream().mapToInt(List::size).sum())
+                            .thenCompose(v -> write(unprocessed, attempt + 1));
+                });
+    }
+
+    private CompletableFuture<List<Map<String, AttributeValue>>> get(String tableName,
+                                                                     Map<String, KeysAndAttributes> keys,
+                                                                     List<Map<String, AttributeValue>> result,
+                                                                     int attempt) {
+        return reader.apply(BatchGetItemRequest.builder().requestItems(keys).build())
+                .thenCompose(response -> {
+                    result.addAll(response.responses().getOrDefault(tableName, Collections.emptyList()));
+                    if (!response.hasUnprocessedKeys() || response.unprocessedKeys().isEmpty()) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    Map<String, KeysAndAttributes> unprocessed = response.unprocessedKeys();
+                    return backoff(attempt, "get", unprocessed.values().stream().mapToInt(k -> k.keys().size()).sum())
+                            .thenCompose(v -> get(tableName, unprocessed, result, attempt + 1));
+                });
+    }
+
+    private CompletableFuture<Void> backoff(int attempt, String operation, int unprocessed) {
+        if (attempt >= maxRetries) {
+            return CompletableFuture.failedFuture(unprocessed(operation, unprocessed, maxRetries));
+        }
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(delay(retryDelay, attempt), TimeUnit.MILLISECONDS));
+    }
+
+    private <T, R> CompletableFuture<List<R>> dispatch(List<List<T>> chunks,
+                                                       Function<List<T>, CompletableFuture<List<R>>> operation) {
+        if (chunks.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (chunks.size() == 1) {
+            return operation.apply(chunks.get(0));
+        }
+        return new Lanes<>(chunks, operation, Math.min(parallelism, chunks.size())).start();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    static int parallelism(Settings settings) {
+        return settings.get(DynamoDBConfigurations.BATCH_PARALLELISM, Integer.class).orElse(DEFAULT_PARALLELISM);
+    }
+
+    static int maxRetries(Settings settings) {
+        return settings.get(DynamoDBConfigurations.BATCH_MAX_RETRIES, Integer.class).orElse(DEFAULT_MAX_RETRIES);
+    }
+
+    static Duration retryDelay(Settings settings) {
+        return settings.get(DynamoDBConfigurations.BATCH_RETRY_DELAY, Long.class)
+                .map(Duration::ofMillis)
+                .orElse(DEFAULT_RETRY_DELAY);
+    }
+
+    /**
+     * Returns a random delay, in milliseconds, between zero and the exponential backoff of the attempt.
+     */
+    static long delay(long retryDelay, int attempt) {
+        long delay = Math.min(MAX_DELAY, retryDelay << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(delay + 1);
+    }
+
+    static CommunicationException unprocessed(String operation, int unprocessed, int maxRetries) {
+        return new CommunicationException("There are " + unprocessed + " items not processed by the batch "
+                + operation + " after " + maxRetries + " retries");
+    }
+
+    static <T> List<List<T>> chunks(List<T> values, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int index = 0; index < values.size(); index += size) {
+            chunks.add(values.subList(index, Math.min(values.size(), index + size)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Sends the chunks through a fixed number of lanes: each lane takes the next chunk when the previous one
+     * completes, so no more than the lanes chunks are in flight. The first failure completes the result.
+     */
+    private static final class Lanes<T, R> {
+
+        private final List<List<T>> chunks;
+
+        private final Function<List<T>, CompletableFuture<List<R>>> operation;
+
+        private final AtomicInteger next = new AtomicInteger();
+
+        private final AtomicInteger running;
+
+        private final List<R> items = Collections.synchronizedList(new ArrayList<>());
+
+        private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+
+        private Lanes(List<List<T>> chunks, Function<List<T>, CompletableFuture<List<R>>> operation, int lanes) {
+            this.chunks = chunks;
+            this.operation = operation;
+            this.running = new AtomicInteger(lanes);
+        }
+
+        private CompletableFuture<List<R>> start() {
+            for (int lane = running.get(); lane > 0; lane--) {
+                send();
+            }
+            return result;
+        }
+
+        private void send() {
+            while (!result.isDone()) {
+                int index = next.getAndIncrement();
+                if (index >= chunks.size()) {
+                    if (running.decrementAndGet() == 0) {
+                        result.complete(new ArrayList<>(items));
+                    }
+                    return;
+                }
+                CompletableFuture<List<R>> future;
+                try {
+                    future = operation.apply(chunks.get(index));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                if (!future.isDone()) {
+                    future.whenComplete((values, error) -> {
+                        if (completed(values, error)) {
+                            send();
+                        }
+                    });
+                    return;
+                }
+                future.handle(this::completed);
+            }
+        }
+
+        private boolean completed(List<R> values, Throwable error) {
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+                return false;
+            }
+            items.addAll(values);
+            return true;
+        }
+    }
+}
@@ -16,34 +16,53 @@
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
 import org.eclipse.jnosql.communication.Value;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 
 import java.time.Duration;
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
+/**
+ * The DynamoDB implementation to {@link BucketManager}. The batch operations, put, get and delete of an
+ * {@link Iterable}, are split into chunks within the DynamoDB limits and the items not processed are sent again.
+ *
+ * @see DynamoDBConfigurations#BATCH_PARALLELISM
+ * @see DynamoDBConfigurations#BATCH_MAX_RETRIES
+ * @see DynamoDBConfigurations#BATCH_RETRY_DELAY
+ */
 public class DynamoDBBucketManager implements BucketManager {
 
 
-    private DynamoDbClient client;
-    private String tableName;
-    private static final Function<AttributeValue, String> TO_JSON = AttributeValue::s;
+    private final DynamoDbClient client;
+    private final String tableName;
+    private final DynamoDBBatch batch;
+    private final DynamoDBItemMapper mapper;
+    private final DynamoDBTimeToLive timeToLive;
 
     public DynamoDBBucketManager(DynamoDbClient client, String tableName) {
+        this(client, tableName, new DynamoDBBatch(client, Runnable::run, 1, DynamoDBBatch.DEFAULT_MAX_RETRIES,
+                DynamoDBBatch.DEFAULT_RETRY_DELAY), DynamoDBItemMapper.DEFAULT,
+                new DynamoDBTimeToLive(DynamoDBItemMapper.DEFAULT_TTL_ATTRIBUTE));
+    }
+
+    DynamoDBBucketManager(DynamoDbClient client, String tableName, DynamoDBBatch batch, DynamoDBItemMapper mapper,
+                          DynamoDBTimeToLive timeToLive) {
         this.client = client;
         this.tableName = tableName;
+        this.batch = batch;
+        this.mapper = mapper;
+        this.timeToLive = timeToLive;
     }
 
     @Override
@@ -53,7 +72,7 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public <K, V> void put(K key, V value) throws NullPointerException {
-        client.putItem(PutItemRequest.builder().tableName(tableName).item(DynamoDBUtils.createAttributeValues(key, value)).build());
+        client.putItem(PutItemRequest.builder().tableName(tableName).item(mapper.toItem(key, value, Duration.ZERO)).build());
     }
 
     @Override
@@ -64,17 +83,24 @@ public class DynamoDBBucketManager implements BucketManager {
     @Override
     public void put(KeyValueEntity entity, Duration ttl)
             throws NullPointerException, UnsupportedOperationException {
-        throw new UnsupportedOperationException();
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        timeToLive.enable(tableName, client, ttl);
+        client.putItem(PutItemRequest.builder().tableName(tableName)
+                .item(mapper.toItem(entity.key(), entity.value(), ttl)).build());
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(DynamoDBUtils.createMapWriteRequest(entities, tableName)).build());
+        put(entities, Duration.ZERO);
     }
 
     @Override
     public  void put(Iterable<KeyValueEntity> entities, Duration ttl) {
-        throw new UnsupportedOperationException();
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        timeToLive.enable(tableName, client, ttl);
+        batch.write(tableName, mapper.toPutRequests(entities, ttl));
     }
 
     @Override
@@ -87,26 +113,14 @@ public class DynamoDBBucketManager implements BucketManager {
         }
 
         GetItemResponse getItemResponse = client.getItem(DynamoDBUtils.createGetItemRequest(key, tableName));
-        Map<String, AttributeValue> item = getItemResponse.item();
-        AttributeValue attributeValue = item.get(ConfigurationAmazonEntity.VALUE);
-
-        return Optional.ofNullable(attributeValue)
-                .map(TO_JSON)
-                .map(ValueJSON::of);
+        return mapper.toValue(getItemResponse.item());
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        
-        return client.batchGetItem(DynamoDBUtils.createBatchGetItemRequest(keys, tableName))
-                .responses()
-                .values()
-                .stream()
-                .flatMap(Collection::stream)
-                .map(v -> v.get(ConfigurationAmazonEntity.VALUE))
-                .map(TO_JSON)
-                .map(ValueJSON::of)
-                .collect(Collectors.toList());
+        Objects.requireNonNull(keys, "keys is required");
+        List<String> ids = ids(keys);
+        return values(ids, batch.get(tableName, keyAttributes(ids)), mapper);
     }
 
     @Override
@@ -116,11 +130,39 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
-        keys.forEach(this::delete);
+        Objects.requireNonNull(keys, "keys is required");
+        batch.write(tableName, DynamoDBUtils.createDeleteWriteRequests(keys));
     }
 
     @Override
     public void close() {
         client.close();
     }
+
+    static <K> List<String> ids(Iterable<K> keys) {
+        return StreamSupport.stream(keys.spliterator(), false)
+                .map(Object::toString)
+                .collect(Collectors.toList());
+    }
+
+    static List<Map<String, AttributeValue>> keyAttributes(List<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(DynamoDBUtils::createKeyAttributeValues)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the values of the items following the order of the keys, skipping the keys not found or expired.
+     */
+    static List<Value> values(List<String> ids, List<Map<String, AttributeValue>> items, DynamoDBItemMapper mapper) {
+        Map<String, Value> values = new HashMap<>();
+        for (Map<String, AttributeValue> item : items) {
+            mapper.toValue(item).ifPresent(v -> values.put(item.get(ConfigurationAmazonEntity.KEY).s(), v));
+        }
+        return ids.stream()
+                .map(values::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
@@ -21,13 +22,51 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * The DynamoDB implementation to {@link BucketManagerFactory} that returns {@link DynamoDBBucketManager}.
+ *
+ * @see DynamoDBAsyncBucketManagerFactory
+ */
 public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
 
-    private DynamoDbClient client;
+    private final DynamoDbClient client;
+
+    private final ExecutorService executor;
+
+    private final DynamoDBBatch batch;
+
+    private final DynamoDBItemMapper mapper;
+
+    private final DynamoDBTimeToLive timeToLive;
 
     DynamoDBBucketManagerFactory(DynamoDbClient client) {
+        this(client, Settings.builder().build());
+    }
+
+    DynamoDBBucketManagerFactory(DynamoDbClient client, Settings settings) {
         this.client = client;
+        int parallelism = DynamoDBBatch.parallelism(settings);
+        this.executor = parallelism <= 1 ? null : Executors.newFixedThreadPool(parallelism, new BatchThreads());
+        this.batch = new DynamoDBBatch(client, executor == null ? Runnable::run : executor, parallelism,
+                DynamoDBBatch.maxRetries(settings), DynamoDBBatch.retryDelay(settings));
+        this.mapper = DynamoDBItemMapper.of(settings);
+        this.timeToLive = new DynamoDBTimeToLive(mapper.ttlAttribute());
+    }
+
+    /**
+     * The constructor of the {@link DynamoDBAsyncBucketManagerFactory}, which has its own client and batch.
+     */
+    DynamoDBBucketManagerFactory() {
+        this.client = null;
+        this.executor = null;
+        this.batch = null;
+        this.mapper = null;
+        this.timeToLive = null;
     }
 
     @Override
@@ -39,7 +78,7 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
     public DynamoDBBucketManager getBucketManager(String bucketName, Long readCapacityUnits, Long writeCapacityUnit) {
 
         DynamoTableUtils.manageTables(bucketName, client, readCapacityUnits, writeCapacityUnit);
-        return new DynamoDBBucketManager(client, bucketName);
+        return new DynamoDBBucketManager(client, bucketName, batch, mapper, timeToLive);
     }
 
     @Override
@@ -64,6 +103,21 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
 
     @Override
     public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
         client.close();
     }
+
+    private static final class BatchThreads implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jnosql-dynamodb-batch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
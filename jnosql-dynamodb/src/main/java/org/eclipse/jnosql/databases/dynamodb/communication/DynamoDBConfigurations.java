@@ -22,7 +22,38 @@ public enum  DynamoDBConfigurations implements Supplier<String> {
     REGION("jnosql.dynamodb.region"),
     PROFILE("jnosql.dynamodb.profile"),
     AWS_ACCESSKEY("jnosql.dynamodb.awsaccesskey"),
-    AWS_SECRET_ACCESS("jnosql.dynamodb.secretaccess");
+    AWS_SECRET_ACCESS("jnosql.dynamodb.secretaccess"),
+    /**
+     * When true, {@link DynamoDBKeyValueConfiguration#apply(org.eclipse.jnosql.communication.Settings)} returns a
+     * {@link DynamoDBAsyncBucketManagerFactory}, on top of the
+     * {@link software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient}, the default is false.
+     */
+    ASYNC("jnosql.dynamodb.async"),
+    /**
+     * How the value is written at the item: json, a JSON text in a string attribute, the default, or native,
+     * the DynamoDB types, E.g.: M to a map and L to a collection. The native mode takes maps, collections, arrays
+     * and scalars, but not objects such as entity classes.
+     */
+    VALUE_MAPPING("jnosql.dynamodb.value.mapping"),
+    /**
+     * The attribute with the expiration time, as epoch seconds, of the entities put with a time to live.
+     * The TTL of the table is enabled on this attribute at the first put with a time to live, the default is ttl.
+     */
+    TTL_ATTRIBUTE("jnosql.dynamodb.ttl.attribute"),
+    /**
+     * The number of chunks of a batch operation in flight at the same time, the default is 4. The synchronous
+     * client sends them from as many threads. A value of 1 sends the chunks one after the other.
+     */
+    BATCH_PARALLELISM("jnosql.dynamodb.batch.parallelism"),
+    /**
+     * How many times the items not processed of a batch operation are sent again, the default is 10.
+     */
+    BATCH_MAX_RETRIES("jnosql.dynamodb.batch.max.retries"),
+    /**
+     * The base delay, in milliseconds, of the exponential backoff before sending the items not processed again,
+     * the default is 50.
+     */
+    BATCH_RETRY_DELAY("jnosql.dynamodb.batch.retry.delay");
 
     private final String configuration;
 
@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import jakarta.json.bind.Jsonb;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.databases.dynamodb.communication.ConfigurationAmazonEntity.KEY;
+import static org.eclipse.jnosql.databases.dynamodb.communication.ConfigurationAmazonEntity.VALUE;
+
+/**
+ * Converts the key-value entities to DynamoDB items and back. There are two modes to the value attribute:
+ * <ul>
+ *     <li>json: the value is a JSON text in a string attribute, the default;</li>
+ *     <li>native: the value is written with the DynamoDB types, a map as M, an array or a collection as L, a finite
+ *     number as N, a byte array as B, a boolean as BOOL and a text, a character or an enum as S. So, the item is
+ *     smaller, its attributes might be projected, and the value is read back without JSON-B. The native mode takes
+ *     only these types, at any depth, so an object, E.g.: an entity class, requires the json mode.</li>
+ * </ul>
+ * An entity put with a time to live has the expiration time, as epoch seconds, at the TTL attribute. DynamoDB removes
+ * the expired items in the background, so the expired items are also skipped when they are read.
+ *
+ * @see DynamoDBConfigurations#VALUE_MAPPING
+ * @see DynamoDBConfigurations#TTL_ATTRIBUTE
+ */
+final class DynamoDBItemMapper {
+
+    static final String DEFAULT_TTL_ATTRIBUTE = "ttl";
+
+    static final DynamoDBItemMapper DEFAULT = new DynamoDBItemMapper(false, DEFAULT_TTL_ATTRIBUTE, Clock.systemUTC());
+
+    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+
+    private final boolean nativeMapping;
+
+    private final String ttlAttribute;
+
+    private final Clock clock;
+
+    DynamoDBItemMapper(boolean nativeMapping, String ttlAttribute, Clock clock) {
+        this.nativeMapping = nativeMapping;
+        this.ttlAttribute = requireNonNull(ttlAttribute, "ttlAttribute is required");
+        this.clock = requireNonNull(clock, "clock is required");
+        if (KEY.equals(ttlAttribute) || VALUE.equals(ttlAttribute)) {
+            throw new IllegalArgumentException("The TTL attribute cannot be either the key or the value attribute: "
+                    + ttlAttribute);
+        }
+    }
+
+    String ttlAttribute() {
+        return ttlAttribute;
+    }
+
+    /**
+     * Creates the item of the key and the value
+     *
+     * @param key   the key
+     * @param value the value
+     * @param ttl   the time to live, where zero means the item does not expire
+     * @return the item
+     */
+    Map<String, AttributeValue> toItem(Object key, Object value, Duration ttl) {
+        Map<String, AttributeValue> item = DynamoDBUtils.createKeyAttributeValues(key);
+        item.put(VALUE, nativeMapping ? toAttribute(value) : AttributeValue.fromS(JSONB.toJson(value)));
+        if (DynamoDBTimeToLive.expires(ttl)) {
+            long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+            item.put(ttlAttribute, AttributeValue.fromN(Long.toString(expiresAt)));
+        }
+        return item;
+    }
+
+    /**
+     * Creates the put requests of the entities, where a repeated key keeps the last entity,
+     * since DynamoDB does not accept the same key twice in a batch.
+     */
+    List<WriteRequest> toPutRequests(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Map<String, WriteRequest> requests = new LinkedHashMap<>();
+        entities.forEach(e -> requests.put(e.key().toString(), WriteRequest.builder()
+                .putRequest(PutRequest.builder().item(toItem(e.key(), e.value(), ttl)).build())
+                .build()));
+        return new ArrayList<>(requests.values());
+    }
+
+    /**
+     * Returns the value of the item, or empty when there is no item, the item has no value or the item is expired.
+     *
+     * @param item the item
+     * @return the {@link Value}
+     */
+    Optional<Value> toValue(Map<String, AttributeValue> item) {
+        if (item == null || !item.containsKey(VALUE) || isExpired(item)) {
+            return Optional.empty();
+        }
+        AttributeValue value = item.get(VALUE);
+        if (nativeMapping) {
+            return Optional.ofNullable(toJava(value)).map(DynamoDBValue::new);
+        }
+        return Optional.ofNullable(value.s()).map(ValueJSON::of);
+    }
+
+    private boolean isExpired(Map<String, AttributeValue> item) {
+        AttributeValue expiresAt = item.get(ttlAttribute);
+        if (expiresAt == null || expiresAt.n() == null) {
+            return false;
+        }
+        return new BigDecimal(expiresAt.n()).longValue() <= clock.instant().getEpochSecond();
+    }
+
+    static DynamoDBItemMapper of(Settings settings) {
+        String mapping = settings.get(DynamoDBConfigurations.VALUE_MAPPING).map(Object::toString)
+                .map(m -> m.trim().toLowerCase(Locale.US))
+                .orElse("json");
+        String ttlAttribute = settings.get(DynamoDBConfigurations.TTL_ATTRIBUTE).map(Object::toString)
+                .orElse(DEFAULT_TTL_ATTRIBUTE);
+        switch (mapping) {
+            case "json":
+                return new DynamoDBItemMapper(false, ttlAttribute, Clock.systemUTC());
+            case "native":
+                return new DynamoDBItemMapper(true, ttlAttribute, Clock.systemUTC());
+            default:
+                throw new IllegalArgumentException("The value mapping is not supported, the options are json and "
+                        + "native: " + mapping);
+        }
+    }
+
+    static AttributeValue toAttribute(Object value) {
+        if (value == null) {
+            return AttributeValue.fromNul(true);
+        } else if (value instanceof Value) {
+            return toAttribute(((Value) value).get());
+        } else if (value instanceof CharSequence || value instanceof Character || value instanceof Enum) {
+            return AttributeValue.fromS(value instanceof Enum ? ((Enum<?>) value).name() : value.toString());
+        } else if (value instanceof BigDecimal) {
+            return AttributeValue.fromN(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new IllegalArgumentException("DynamoDB does not support the number: " + value);
+            }
+            return AttributeValue.fromN(value.toString());
+        } else if (value instanceof Number) {
+            return AttributeValue.fromN(value.toString());
+        } else if (value instanceof Boolean) {
+            return AttributeValue.fromBool((Boolean) value);
+        } else if (value instanceof byte[]) {
+            return AttributeValue.fromB(SdkBytes.fromByteArray((byte[]) value));
+        } else if (value instanceof ByteBuffer) {
+            return AttributeValue.fromB(SdkBytes.fromByteBuffer((ByteBuffer) value));
+        } else if (value instanceof Map) {
+            Map<String, AttributeValue> map = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(String.valueOf(k), toAttribute(v)));
+            return AttributeValue.fromM(map);
+        } else if (value instanceof Iterable) {
+            List<AttributeValue> list = new ArrayList<>();
+            ((Iterable<?>) value).forEach(v -> list.add(toAttribute(v)));
+            return AttributeValue.fromL(list);
+        } else if (value.getClass().isArray()) {
+            List<AttributeValue> list = new ArrayList<>();
+            for (int index = 0; index < Array.getLength(value); index++) {
+                list.add(toAttribute(Array.get(value, index)));
+            }
+            return AttributeValue.fromL(list);
+        }
+        throw new IllegalArgumentException("The native value mapping does not support the type "
+                + value.getClass().getName() + ", use the json value mapping to it");
+    }
+
+    static Object toJava(AttributeValue value) {
+        switch (value.type()) {
+            case S:
+                return value.s();
+            case N:
+                return new BigDecimal(value.n());
+            case B:
+                return value.b().asByteArray();
+            case BOOL:
+                return value.bool();
+            case M:
+                Map<String, Object> map = new LinkedHashMap<>();
+                value.m().forEach((k, v) -> map.put(k, toJava(v)));
+                return map;
+            case L:
+                List<Object> list = new ArrayList<>();
+                value.l().forEach(v -> list.add(toJava(v)));
+                return list;
+            case SS:
+                return new ArrayList<>(value.ss());
+            case NS:
+                List<Object> numbers = new ArrayList<>();
+                value.ns().forEach(n -> numbers.add(new BigDecimal(n)));
+                return numbers;
+            case BS:
+                List<Object> bytes = new ArrayList<>();
+                value.bs().forEach(b -> bytes.add(b.asByteArray()));
+                return bytes;
+            default:
+                return null;
+        }
+    }
+}
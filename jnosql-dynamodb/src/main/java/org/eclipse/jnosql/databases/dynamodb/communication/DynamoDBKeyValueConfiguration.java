@@ -16,15 +16,44 @@ package org.eclipse.jnosql.databases.dynamodb.communication;
 
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+import static java.util.Objects.requireNonNull;
+
 public class DynamoDBKeyValueConfiguration extends DynamoDBConfiguration
         implements KeyValueConfiguration {
 
+    /**
+     * Creates the {@link DynamoDBBucketManagerFactory}, or the {@link DynamoDBAsyncBucketManagerFactory} when
+     * {@link DynamoDBConfigurations#ASYNC} is true.
+     *
+     * @param settings the settings
+     * @return the {@link DynamoDBBucketManagerFactory}
+     * @throws NullPointerException when settings is null
+     */
     @Override
     public DynamoDBBucketManagerFactory apply(Settings settings) {
+        requireNonNull(settings, "settings is required");
+        if (settings.get(DynamoDBConfigurations.ASYNC, Boolean.class).orElse(false)) {
+            return applyAsync(settings);
+        }
         DynamoDbClient dynamoDB = getDynamoDB(settings);
-        return new DynamoDBBucketManagerFactory(dynamoDB);
+        return new DynamoDBBucketManagerFactory(dynamoDB, settings);
+    }
+
+    /**
+     * Creates the {@link DynamoDBAsyncBucketManagerFactory}, on top of the {@link DynamoDbAsyncClient}, whose
+     * bucket managers have the non-blocking version of each operation.
+     *
+     * @param settings the settings
+     * @return the {@link DynamoDBAsyncBucketManagerFactory}
+     * @throws NullPointerException when settings is null
+     */
+    public DynamoDBAsyncBucketManagerFactory applyAsync(Settings settings) {
+        requireNonNull(settings, "settings is required");
+        DynamoDbAsyncClient dynamoDB = getDynamoDBAsync(settings);
+        return new DynamoDBAsyncBucketManagerFactory(dynamoDB, settings);
     }
 
 }
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enables the TTL of a table at the first put with a time to live, once per table, instead of checking the table
+ * whenever a bucket manager is created. So, the tables that never have an entity with a time to live are neither
+ * described nor changed.
+ *
+ * @see DynamoTableUtils#enableTimeToLive(String, DynamoDbClient, String)
+ */
+final class DynamoDBTimeToLive {
+
+    private final String attribute;
+
+    private final Map<String, CompletableFuture<Void>> tables = new ConcurrentHashMap<>();
+
+    DynamoDBTimeToLive(String attribute) {
+        this.attribute = requireNonNull(attribute, "attribute is required");
+    }
+
+    /**
+     * Enables the TTL of the table when the time to live expires the item and it is the first time to the table
+     *
+     * @param tableName the table name
+     * @param client    the client
+     * @param ttl       the time to live of the put
+     */
+    void enable(String tableName, DynamoDbClient client, Duration ttl) {
+        if (expires(ttl)) {
+            tables.computeIfAbsent(tableName, table -> {
+                DynamoTableUtils.enableTimeToLive(table, client, attribute);
+                return CompletableFuture.completedFuture(null);
+            }).join();
+        }
+    }
+
+    /**
+     * The non-blocking version of {@link DynamoDBTimeToLive#enable(String, DynamoDbClient, Duration)}, where the
+     * puts to the table wait for the same first request.
+     *
+     * @param tableName the table name
+     * @param client    the client
+     * @param ttl       the time to live of the put
+     * @return the {@link CompletableFuture} that completes when the TTL of the table is enabled
+     */
+    CompletableFuture<Void> enable(String tableName, DynamoDbAsyncClient client, Duration ttl) {
+        if (!expires(ttl)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return tables.computeIfAbsent(tableName, table -> DynamoTableUtils.enableTimeToLive(table, client, attribute));
+    }
+
+    static boolean expires(Duration ttl) {
+        return !ttl.isZero() && !ttl.isNegative();
+    }
+}
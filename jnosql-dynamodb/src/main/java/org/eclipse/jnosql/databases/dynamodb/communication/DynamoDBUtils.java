@@ -19,15 +19,18 @@ import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import jakarta.json.bind.Jsonb;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,7 +42,6 @@ import static org.eclipse.jnosql.databases.dynamodb.communication.ConfigurationA
 
 public class DynamoDBUtils {
 
-    private static final AttributeValue.Builder attributeValueBuilder = AttributeValue.builder();
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
     private DynamoDBUtils() {
@@ -50,14 +52,14 @@ public class DynamoDBUtils {
         Map<String, AttributeValue> createAttributeValues = createKeyAttributeValues(key);
         String valueAsJson = JSONB.toJson(value);
 
-        AttributeValue valueAttributeValue = attributeValueBuilder.s(valueAsJson).build();
+        AttributeValue valueAttributeValue = AttributeValue.fromS(valueAsJson);
         createAttributeValues.put(VALUE, valueAttributeValue);
         return createAttributeValues;
     }
 
     public static <K, V> Map<String, AttributeValue> createKeyAttributeValues(K key) {
         Map<String, AttributeValue> map = new HashMap<>();
-        AttributeValue keyAttributeValue = attributeValueBuilder.s(key.toString()).build();
+        AttributeValue keyAttributeValue = AttributeValue.fromS(key.toString());
         map.put(KEY, keyAttributeValue);
 
         return map;
@@ -65,7 +67,7 @@ public class DynamoDBUtils {
 
     public static <K, V> Collection<Map<String, AttributeValue>> createKeyAttributeValues(Iterable<K> keys) {
         return StreamSupport.stream(keys.spliterator(), false).map(
-                k -> Collections.singletonMap(KEY, attributeValueBuilder.s(k.toString()).build())
+                k -> Collections.singletonMap(KEY, AttributeValue.fromS(k.toString()))
         ).collect(Collectors.toList());
     }
 
@@ -100,11 +102,26 @@ public class DynamoDBUtils {
         return createMapWriteRequest(attributeValues, tableName);
     }
 
+    public static <K> WriteRequest createDeleteWriteRequest(K key) {
+        return WriteRequest.builder()
+                .deleteRequest(DeleteRequest.builder().key(createKeyAttributeValues(key)).build())
+                .build();
+    }
+
+    /**
+     * Creates the delete requests of the keys, ignoring the repeated keys.
+     */
+    public static <K> List<WriteRequest> createDeleteWriteRequests(Iterable<K> keys) {
+        Map<String, WriteRequest> requests = new LinkedHashMap<>();
+        keys.forEach(k -> requests.putIfAbsent(k.toString(), createDeleteWriteRequest(k)));
+        return new ArrayList<>(requests.values());
+    }
+
     public static <K> Map<String, AttributeValue> create(Iterable<K> keys) {
 
         Map<String, AttributeValue> map = StreamSupport.stream(keys.spliterator(), false)
                 .map(Object::toString)
-                .collect(Collectors.toMap(Function.identity(), k -> attributeValueBuilder.s(k).build()));
+                .collect(Collectors.toMap(Function.identity(), k -> AttributeValue.fromS(k)));
 
         return Collections.unmodifiableMap(map);
     }
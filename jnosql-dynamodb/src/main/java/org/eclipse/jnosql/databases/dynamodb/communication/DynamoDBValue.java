@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link Value} read from the DynamoDB types, where a map is a {@link Map}, a list is a {@link java.util.List},
+ * a number is a {@link java.math.BigDecimal}, a binary is a byte array, a boolean is a {@link Boolean} and a text is
+ * a {@link String}. The conversions to other types, E.g.: a list of numbers to {@code List<Integer>}, use the
+ * {@link Value} converters, without JSON-B.
+ */
+final class DynamoDBValue implements Value {
+
+    private final Object value;
+
+    DynamoDBValue(Object value) {
+        this.value = Objects.requireNonNull(value, "value is required");
+    }
+
+    @Override
+    public Object get() {
+        return value;
+    }
+
+    @Override
+    public <T> T get(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return Value.of(value).get(type);
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        return Value.of(value).get(supplier);
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> typeClass) {
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        return typeClass.isInstance(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DynamoDBValue that = (DynamoDBValue) o;
+        return Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "DynamoDBValue{" +
+                "value=" + value +
+                '}';
+    }
+}
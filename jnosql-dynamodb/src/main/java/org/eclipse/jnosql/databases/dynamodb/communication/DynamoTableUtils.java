@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
 import java.util.ArrayList;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
@@ -25,15 +26,24 @@ import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesRequest;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveDescription;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public final class DynamoTableUtils {
 
+    private static final Logger LOGGER = Logger.getLogger(DynamoTableUtils.class.getName());
+
     private static final long READ_CAPACITY_UNITS = 5L;
 
     private DynamoTableUtils() {
@@ -127,6 +137,76 @@ public final class DynamoTableUtils {
         }
     }
 
+    public static void manageTables(String tableName, DynamoDbAsyncClient client, Long readCapacityUnits, Long writeCapacityUnit) {
+        try {
+            client.describeTable(t -> t.tableName(tableName)).join();
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof ResourceNotFoundException)) {
+                throw new RuntimeException(e.getCause());
+            }
+            client.createTable(CreateTableRequest.builder()
+                    .tableName(tableName)
+                    .provisionedThroughput(createProvisionedThroughput(readCapacityUnits, writeCapacityUnit))
+                    .keySchema(createKeyElementSchema(createKeyDefinition()))
+                    .attributeDefinitions(createAttributeDefinition(createAttributesType()))
+                    .build()).join();
+            client.waiter().waitUntilTableExists(t -> t.tableName(tableName)).join();
+        }
+    }
+
+    /**
+     * Enables the TTL of the table on the attribute, when the TTL of the table is disabled.
+     * A failure, E.g.: the credentials do not allow to change the table, is logged, since the expired items are
+     * also skipped when they are read.
+     *
+     * @param tableName the table name
+     * @param client    the client
+     * @param attribute the attribute with the expiration time as epoch seconds
+     */
+    public static void enableTimeToLive(String tableName, DynamoDbClient client, String attribute) {
+        try {
+            TimeToLiveDescription description = client.describeTimeToLive(t -> t.tableName(tableName))
+                    .timeToLiveDescription();
+            if (isDisabled(description)) {
+                client.updateTimeToLive(t -> t.tableName(tableName)
+                        .timeToLiveSpecification(s -> s.attributeName(attribute).enabled(true)));
+            }
+        } catch (DynamoDbException e) {
+            LOGGER.log(Level.WARNING, "It was not possible to enable the TTL of the table " + tableName, e);
+        }
+    }
+
+    /**
+     * The non-blocking client version of {@link DynamoTableUtils#enableTimeToLive(String, DynamoDbClient, String)}
+     *
+     * @param tableName the table name
+     * @param client    the client
+     * @param attribute the attribute with the expiration time as epoch seconds
+     * @return the {@link CompletableFuture} that completes when the TTL is enabled or the failure is logged
+     */
+    public static CompletableFuture<Void> enableTimeToLive(String tableName, DynamoDbAsyncClient client,
+                                                           String attribute) {
+        return client.describeTimeToLive(t -> t.tableName(tableName))
+                .thenCompose(response -> {
+                    if (!isDisabled(response.timeToLiveDescription())) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    return client.updateTimeToLive(t -> t.tableName(tableName)
+                                    .timeToLiveSpecification(s -> s.attributeName(attribute).enabled(true)))
+                            .thenApply(r -> (Void) null);
+                })
+                .exceptionally(e -> {
+                    LOGGER.log(Level.WARNING, "It was not possible to enable the TTL of the table " + tableName,
+                            e instanceof CompletionException ? e.getCause() : e);
+                    return null;
+                });
+    }
+
+    private static boolean isDisabled(TimeToLiveDescription description) {
+        return description == null || description.timeToLiveStatus() == null
+                || description.timeToLiveStatus() == TimeToLiveStatus.DISABLED;
+    }
+
     private static void createTable(String tableName, DynamoDbClient client, Long readCapacityUnits, Long writeCapacityUnit) {
 
         Map<String, KeyType> keyDefinition = createKeyDefinition();
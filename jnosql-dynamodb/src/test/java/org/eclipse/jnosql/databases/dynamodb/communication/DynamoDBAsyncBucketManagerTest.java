@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
+public class DynamoDBAsyncBucketManagerTest {
+
+    private DynamoDBAsyncBucketManager bucketManager;
+
+    private final User userOtavio = new User("otavio");
+    private final KeyValueEntity keyValueOtavio = KeyValueEntity.of("otavio", userOtavio);
+
+    private final User userSoro = new User("soro");
+    private final KeyValueEntity keyValueSoro = KeyValueEntity.of("soro", userSoro);
+
+    @BeforeEach
+    public void init() {
+        BucketManagerFactory factory = DynamoDBTestUtils.INSTANCE.getAsync();
+        assertThat(factory).isInstanceOf(DynamoDBAsyncBucketManagerFactory.class);
+        bucketManager = (DynamoDBAsyncBucketManager) factory.apply("users-async");
+    }
+
+    @Test
+    public void shouldPutAndGetValue() {
+        bucketManager.put(keyValueOtavio);
+        Optional<Value> otavio = bucketManager.get("otavio");
+        assertTrue(otavio.isPresent());
+        assertEquals(userOtavio, otavio.get().get(User.class));
+    }
+
+    @Test
+    public void shouldPutGetAndDeleteAsync() throws Exception {
+        bucketManager.putAsync(keyValueSoro).toCompletableFuture().get(2, TimeUnit.SECONDS);
+        Optional<Value> soro = bucketManager.getAsync("soro").toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertTrue(soro.isPresent());
+        assertEquals(userSoro, soro.get().get(User.class));
+
+        bucketManager.deleteAsync("soro").toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertFalse(bucketManager.getAsync("soro").toCompletableFuture().get(2, TimeUnit.SECONDS).isPresent());
+    }
+
+    @Test
+    public void shouldFanOutTheBatches() throws Exception {
+        List<KeyValueEntity> entities = IntStream.range(0, 130)
+                .mapToObj(i -> KeyValueEntity.of("async-" + i, new User("async-" + i)))
+                .collect(Collectors.toList());
+        List<String> keys = entities.stream().map(e -> e.key().toString()).collect(Collectors.toList());
+
+        bucketManager.putAsync(entities).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        List<Value> values = bucketManager.getAsync(keys).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertThat(values).hasSize(130).extracting(v -> v.get(User.class).getNickName())
+                .containsExactlyElementsOf(keys);
+
+        bucketManager.deleteAsync(keys).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(0L, StreamSupport.stream(bucketManager.get(keys).spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldRunIndependentLookupsAtTheSameTime() throws Exception {
+        bucketManager.put(asList(keyValueOtavio, keyValueSoro));
+        List<CompletableFuture<Optional<Value>>> lookups = IntStream.range(0, 50)
+                .mapToObj(i -> bucketManager.getAsync(i % 2 == 0 ? "otavio" : "soro").toCompletableFuture())
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(lookups).allMatch(f -> f.join().isPresent());
+    }
+
+    @AfterAll
+    public static void shutDown() {
+        DynamoDBTestUtils.INSTANCE.shutDown();
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DynamoDBBatchTest {
+
+    private static final String TABLE = "users";
+
+    private DynamoDbClient client;
+
+    private DynamoDbAsyncClient asyncClient;
+
+    @BeforeEach
+    void setUp() {
+        client = Mockito.mock(DynamoDbClient.class);
+        asyncClient = Mockito.mock(DynamoDbAsyncClient.class);
+    }
+
+    @Test
+    void shouldSplitTheWritesIntoChunksOf25() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        DynamoDBBatch batch = new DynamoDBBatch(client, Runnable::run, 1, 3, Duration.ZERO);
+
+        batch.write(TABLE, puts(60));
+
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(client, times(3)).batchWriteItem(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.requestItems().get(TABLE).size())
+                .containsExactly(25, 25, 10);
+    }
+
+    @Test
+    void shouldSendTheUnprocessedItemsAgain() {
+        List<WriteRequest> requests = puts(5);
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap(TABLE, requests.subList(3, 5))).build())
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        DynamoDBBatch batch = new DynamoDBBatch(client, Runnable::run, 1, 3, Duration.ZERO);
+
+        batch.write(TABLE, requests);
+
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(client, times(2)).batchWriteItem(captor.capture());
+        assertEquals(requests.subList(3, 5), captor.getAllValues().get(1).requestItems().get(TABLE));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereAreUnprocessedItemsAfterTheMaxRetries() {
+        List<WriteRequest> requests = puts(2);
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap(TABLE, requests)).build());
+        DynamoDBBatch batch = new DynamoDBBatch(client, Runnable::run, 1, 2, Duration.ZERO);
+
+        assertThrows(CommunicationException.class, () -> batch.write(TABLE, requests));
+        verify(client, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldSplitTheGetsIntoChunksOf100AndRetryTheUnprocessedKeys() {
+        List<Map<String, AttributeValue>> keys = IntStream.range(0, 150)
+                .mapToObj(DynamoDBUtils::createKeyAttributeValues)
+                .collect(Collectors.toList());
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            List<Map<String, AttributeValue>> requested = request.requestItems().get(TABLE).keys();
+            int processed = requested.size() > 1 ? requested.size() - 1 : requested.size();
+            BatchGetItemResponse.Builder response = BatchGetItemResponse.builder()
+                    .responses(Collections.singletonMap(TABLE, new ArrayList<>(requested.subList(0, processed))));
+            if (processed < requested.size()) {
+                response.unprocessedKeys(Collections.singletonMap(TABLE, KeysAndAttributes.builder()
+                        .keys(requested.subList(processed, requested.size())).build()));
+            }
+            return response.build();
+        });
+        DynamoDBBatch batch = new DynamoDBBatch(client, Runnable::run, 1, 3, Duration.ZERO);
+
+        List<Map<String, AttributeValue>> items = batch.get(TABLE, keys);
+
+        assertThat(items).hasSize(150).containsExactlyInAnyOrderElementsOf(keys);
+        verify(client, times(4)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void shouldSendTheChunksInParallel() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            DynamoDBBatch batch = new DynamoDBBatch(client, executor, 4, 3, Duration.ZERO);
+            batch.write(TABLE, puts(100));
+            verify(client, times(4)).batchWriteItem(any(BatchWriteItemRequest.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenMaxRetriesIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDBBatch(client, Runnable::run, 1, -1,
+                Duration.ZERO));
+    }
+
+    @Test
+    void shouldReturnErrorWhenParallelismIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDBBatch(client, Runnable::run, 0, 3,
+                Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDBBatch(asyncClient, 0, 3, Duration.ZERO));
+    }
+
+    @Test
+    void shouldNotSendWhenThereAreNoRequests() {
+        DynamoDBBatch batch = new DynamoDBBatch(asyncClient, 2, 3, Duration.ZERO);
+
+        batch.writeAsync(TABLE, Collections.emptyList()).join();
+
+        verify(asyncClient, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldKeepAtMostTheParallelismChunksInFlight() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = new CopyOnWriteArrayList<>();
+        when(asyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+        DynamoDBBatch batch = new DynamoDBBatch(asyncClient, 2, 3, Duration.ZERO);
+
+        CompletableFuture<Void> write = batch.writeAsync(TABLE, puts(100));
+
+        assertEquals(2, responses.size());
+        responses.get(0).complete(BatchWriteItemResponse.builder().build());
+        assertEquals(3, responses.size());
+        responses.get(1).complete(BatchWriteItemResponse.builder().build());
+        responses.get(2).complete(BatchWriteItemResponse.builder().build());
+        assertEquals(4, responses.size());
+        assertFalse(write.isDone());
+        responses.get(3).complete(BatchWriteItemResponse.builder().build());
+        write.join();
+        verify(asyncClient, times(4)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldSendTheUnprocessedItemsAgainWithoutBlocking() {
+        List<WriteRequest> requests = puts(5);
+        when(asyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap(TABLE, requests.subList(3, 5))).build()))
+                .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        DynamoDBBatch batch = new DynamoDBBatch(asyncClient, 2, 3, Duration.ZERO);
+
+        batch.writeAsync(TABLE, requests).join();
+
+        verify(asyncClient, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldFailWhenThereAreUnprocessedItemsAfterTheMaxRetries() {
+        List<WriteRequest> requests = puts(60);
+        when(asyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(BatchWriteItemResponse.builder()
+                    .unprocessedItems(request.requestItems()).build());
+        });
+        DynamoDBBatch batch = new DynamoDBBatch(asyncClient, 1, 1, Duration.ZERO);
+
+        assertThatThrownBy(() -> batch.writeAsync(TABLE, requests).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(CommunicationException.class);
+        verify(asyncClient, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    private static List<WriteRequest> puts(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> DynamoDBUtils.createAttributeValues("key-" + i, new User("user-" + i)))
+                .map(item -> WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build())
+                .collect(Collectors.toList());
+    }
+}
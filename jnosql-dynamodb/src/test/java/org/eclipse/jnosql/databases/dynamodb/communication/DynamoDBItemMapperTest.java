@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DynamoDBItemMapperTest {
+
+    private static final Instant NOW = Instant.parse("2023-06-01T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final DynamoDBItemMapper json = new DynamoDBItemMapper(false, "ttl", clock);
+
+    private final DynamoDBItemMapper nativeMapping = new DynamoDBItemMapper(true, "ttl", clock);
+
+    @Test
+    void shouldWriteJsonByDefault() {
+        Map<String, AttributeValue> item = json.toItem("otavio", new User("otavio"), Duration.ZERO);
+        assertEquals("otavio", item.get("key").s());
+        assertEquals("{\"nickName\":\"otavio\"}", item.get("value").s());
+        assertFalse(item.containsKey("ttl"));
+        assertEquals(new User("otavio"), json.toValue(item).map(v -> v.get(User.class)).orElseThrow());
+    }
+
+    @Test
+    void shouldWriteNativeAttributes() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "Ada");
+        value.put("age", 36);
+        value.put("active", true);
+        value.put("tags", Arrays.asList("math", "code"));
+        value.put("photo", new byte[]{1, 2, 3});
+
+        AttributeValue attribute = nativeMapping.toItem("ada", value, Duration.ZERO).get("value");
+
+        Map<String, AttributeValue> map = attribute.m();
+        assertEquals("Ada", map.get("name").s());
+        assertEquals("36", map.get("age").n());
+        assertTrue(map.get("active").bool());
+        assertThat(map.get("tags").l()).extracting(AttributeValue::s).containsExactly("math", "code");
+        assertArrayEquals(new byte[]{1, 2, 3}, map.get("photo").b().asByteArray());
+    }
+
+    @Test
+    void shouldReturnErrorWhenNativeValueIsAnObject() {
+        assertThrows(IllegalArgumentException.class, () -> nativeMapping.toItem("otavio", new User("otavio"),
+                Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> nativeMapping.toItem("otavio",
+                Map.of("user", new User("otavio")), Duration.ZERO));
+    }
+
+    @Test
+    void shouldReturnErrorWhenNativeNumberIsNotFinite() {
+        assertThrows(IllegalArgumentException.class, () -> nativeMapping.toItem("n", Double.NaN, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> nativeMapping.toItem("n",
+                Arrays.asList(1D, Double.POSITIVE_INFINITY), Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> nativeMapping.toItem("n", Float.NEGATIVE_INFINITY,
+                Duration.ZERO));
+        assertEquals("1.5", nativeMapping.toItem("n", 1.5D, Duration.ZERO).get("value").n());
+    }
+
+    @Test
+    void shouldReadNativeAttributesWithoutJson() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "Ada");
+        value.put("age", 36);
+        value.put("tags", Arrays.asList("math", "code"));
+        Map<String, AttributeValue> item = nativeMapping.toItem("ada", value, Duration.ZERO);
+
+        Value result = nativeMapping.toValue(item).orElseThrow();
+
+        assertTrue(result.isInstanceOf(Map.class));
+        Map<String, Object> map = result.get(new TypeReference<>() {
+        });
+        assertEquals("Ada", map.get("name"));
+        Map<?, ?> raw = (Map<?, ?>) result.get();
+        assertEquals(new BigDecimal("36"), raw.get("age"));
+        assertEquals(Arrays.asList("math", "code"), raw.get("tags"));
+    }
+
+    @Test
+    void shouldReadScalars() {
+        assertEquals(10, nativeMapping.toValue(nativeMapping.toItem("n", 10, Duration.ZERO))
+                .map(v -> v.get(Integer.class)).orElseThrow());
+        assertEquals("text", nativeMapping.toValue(nativeMapping.toItem("s", "text", Duration.ZERO))
+                .map(v -> v.get(String.class)).orElseThrow());
+        assertArrayEquals(new byte[]{4, 2}, nativeMapping.toValue(nativeMapping.toItem("b", new byte[]{4, 2},
+                Duration.ZERO)).map(v -> v.get(byte[].class)).orElseThrow());
+        List<?> list = nativeMapping.toValue(nativeMapping.toItem("l", new int[]{1, 2}, Duration.ZERO))
+                .map(v -> v.get(List.class)).orElseThrow();
+        assertEquals(Arrays.asList(BigDecimal.ONE, new BigDecimal(2)), list);
+    }
+
+    @Test
+    void shouldConvertTheElementsOfNativeList() {
+        Map<String, AttributeValue> item = nativeMapping.toItem("l", Arrays.asList(1, 2, 3), Duration.ZERO);
+        List<Integer> numbers = nativeMapping.toValue(item).orElseThrow().get(new TypeReference<>() {
+        });
+        assertEquals(Arrays.asList(1, 2, 3), numbers);
+    }
+
+    @Test
+    void shouldWriteTheExpirationTime() {
+        Map<String, AttributeValue> item = json.toItem("otavio", new User("otavio"), Duration.ofMinutes(10));
+        assertEquals(Long.toString(NOW.plusSeconds(600).getEpochSecond()), item.get("ttl").n());
+    }
+
+    @Test
+    void shouldSkipExpiredItems() {
+        Map<String, AttributeValue> item = json.toItem("otavio", new User("otavio"), Duration.ofMinutes(10));
+        DynamoDBItemMapper later = new DynamoDBItemMapper(false, "ttl",
+                Clock.fixed(NOW.plusSeconds(601), ZoneOffset.UTC));
+        assertTrue(json.toValue(item).isPresent());
+        assertEquals(Optional.empty(), later.toValue(item));
+    }
+
+    @Test
+    void shouldCreateFromSettings() {
+        DynamoDBItemMapper mapper = DynamoDBItemMapper.of(Settings.builder()
+                .put(DynamoDBConfigurations.VALUE_MAPPING, "NATIVE")
+                .put(DynamoDBConfigurations.TTL_ATTRIBUTE, "expires_at").build());
+        assertEquals("expires_at", mapper.ttlAttribute());
+        Map<String, AttributeValue> item = mapper.toItem("otavio", Map.of("name", "otavio"), Duration.ofSeconds(1));
+        assertTrue(item.get("value").hasM());
+        assertTrue(item.containsKey("expires_at"));
+    }
+
+    @Test
+    void shouldReturnErrorWhenSettingsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> DynamoDBItemMapper.of(Settings.builder()
+                .put(DynamoDBConfigurations.VALUE_MAPPING, "xml").build()));
+        assertThrows(IllegalArgumentException.class, () -> DynamoDBItemMapper.of(Settings.builder()
+                .put(DynamoDBConfigurations.TTL_ATTRIBUTE, "value").build()));
+    }
+}
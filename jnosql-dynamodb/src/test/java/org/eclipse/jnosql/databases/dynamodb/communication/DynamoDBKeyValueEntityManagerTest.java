@@ -23,9 +23,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -116,6 +118,35 @@ public class DynamoDBKeyValueEntityManagerTest {
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldPutGetAndDeleteMoreItemsThanTheBatchLimits() {
+        List<KeyValueEntity> entities = IntStream.range(0, 130)
+                .mapToObj(i -> KeyValueEntity.of("user-" + i, new User("user-" + i)))
+                .collect(Collectors.toList());
+        List<String> keys = entities.stream().map(e -> e.key().toString()).collect(Collectors.toList());
+
+        keyValueEntityManager.put(entities);
+        List<User> users = StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false)
+                .map(value -> value.get(User.class))
+                .collect(Collectors.toList());
+        assertThat(users).hasSize(130).extracting(User::getNickName).containsExactlyElementsOf(keys);
+
+        keyValueEntityManager.delete(keys);
+        assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldPutWithTTL() {
+        keyValueEntityManager.put(keyValueSoro, Duration.ofHours(1));
+        Optional<Value> soro = keyValueEntityManager.get("soro");
+        assertTrue(soro.isPresent());
+        assertEquals(userSoro, soro.get().get(User.class));
+
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio), Duration.ofHours(1));
+        assertEquals(2L, StreamSupport.stream(keyValueEntityManager.get(asList("soro", "otavio")).spliterator(), false)
+                .count());
+    }
+
     @AfterAll
     public static void shutDown() {
         DynamoDBTestUtils.INSTANCE.shutDown();
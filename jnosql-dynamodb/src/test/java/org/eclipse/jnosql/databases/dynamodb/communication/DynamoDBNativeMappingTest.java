@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
+public class DynamoDBNativeMappingTest {
+
+    private BucketManager bucketManager;
+
+    @BeforeEach
+    public void init() {
+        bucketManager = DynamoDBTestUtils.INSTANCE.get(Settings.builder()
+                        .put(DynamoDBConfigurations.VALUE_MAPPING, "native").build())
+                .apply("users-native");
+    }
+
+    @Test
+    public void shouldPutAndGetScalar() {
+        bucketManager.put("otavio", 42);
+        Optional<Value> otavio = bucketManager.get("otavio");
+        assertTrue(otavio.isPresent());
+        assertEquals(42, otavio.get().get(Integer.class));
+    }
+
+    @Test
+    public void shouldPutAndGetMap() {
+        Map<String, Object> book = new LinkedHashMap<>();
+        book.put("title", "Effective Java");
+        book.put("edition", 3);
+        book.put("tags", Arrays.asList("java", "classic"));
+        bucketManager.put(KeyValueEntity.of("book", book), Duration.ofHours(1));
+
+        Map<?, ?> value = bucketManager.get("book").map(v -> v.get(Map.class)).orElseThrow();
+        assertEquals("Effective Java", value.get("title"));
+        assertEquals(3, ((Number) value.get("edition")).intValue());
+        assertEquals(Arrays.asList("java", "classic"), value.get("tags"));
+    }
+
+    @Test
+    public void shouldPutAndGetIterable() {
+        bucketManager.put(asList(KeyValueEntity.of("soro", Map.of("nickName", "soro")),
+                KeyValueEntity.of("otavio", Map.of("nickName", "otavio"))));
+        assertThat(StreamSupport.stream(bucketManager.get(asList("otavio", "soro")).spliterator(), false)
+                .map(v -> v.get(Map.class).get("nickName")).collect(Collectors.toList()))
+                .containsExactly("otavio", "soro");
+    }
+
+    @AfterAll
+    public static void shutDown() {
+        DynamoDBTestUtils.INSTANCE.shutDown();
+    }
+}
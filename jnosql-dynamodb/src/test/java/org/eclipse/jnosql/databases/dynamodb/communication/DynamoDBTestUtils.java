@@ -32,11 +32,23 @@ public enum DynamoDBTestUtils implements Supplier<BucketManagerFactory> {
                     .waitingFor(Wait.defaultWaitStrategy());
 
     public BucketManagerFactory get() {
+        return get(Settings.builder().build());
+    }
+
+    public BucketManagerFactory getAsync() {
+        return get(Settings.builder().put(DynamoDBConfigurations.ASYNC, true).build());
+    }
+
+    public BucketManagerFactory get(Settings settings) {
         dynamodb.start();
         DynamoDBKeyValueConfiguration configuration = new DynamoDBKeyValueConfiguration();
-        String endpoint = "http://" + dynamodb.getHost() + ":" + dynamodb.getFirstMappedPort();
         return configuration.apply(Settings.builder()
-                .put(DynamoDBConfigurations.ENDPOINT, endpoint).build());
+                .putAll(settings.toMap())
+                .put(DynamoDBConfigurations.ENDPOINT, endpoint()).build());
+    }
+
+    private String endpoint() {
+        return "http://" + dynamodb.getHost() + ":" + dynamodb.getFirstMappedPort();
     }
 
     public void shutDown() {
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveResponse;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTimeToLiveResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DynamoDBTimeToLiveTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldEnableTheTableOnceAtTheFirstPutWithTimeToLive() {
+        DynamoDbClient client = Mockito.mock(DynamoDbClient.class);
+        when(client.describeTimeToLive(any(Consumer.class))).thenReturn(disabled());
+        DynamoDBTimeToLive timeToLive = new DynamoDBTimeToLive("ttl");
+
+        timeToLive.enable("users", client, Duration.ZERO);
+        verify(client, never()).describeTimeToLive(any(Consumer.class));
+
+        timeToLive.enable("users", client, Duration.ofMinutes(1));
+        timeToLive.enable("users", client, Duration.ofMinutes(2));
+        verify(client, times(1)).describeTimeToLive(any(Consumer.class));
+        verify(client, times(1)).updateTimeToLive(any(Consumer.class));
+
+        timeToLive.enable("books", client, Duration.ofMinutes(1));
+        verify(client, times(2)).describeTimeToLive(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldEnableTheTableOnceWithoutBlocking() {
+        DynamoDbAsyncClient client = Mockito.mock(DynamoDbAsyncClient.class);
+        CompletableFuture<DescribeTimeToLiveResponse> describe = new CompletableFuture<>();
+        when(client.describeTimeToLive(any(Consumer.class))).thenReturn(describe);
+        when(client.updateTimeToLive(any(Consumer.class)))
+                .thenReturn(CompletableFuture.completedFuture(UpdateTimeToLiveResponse.builder().build()));
+        DynamoDBTimeToLive timeToLive = new DynamoDBTimeToLive("ttl");
+
+        CompletableFuture<Void> first = timeToLive.enable("users", client, Duration.ofMinutes(1));
+        CompletableFuture<Void> second = timeToLive.enable("users", client, Duration.ofMinutes(1));
+        assertFalse(second.isDone());
+
+        describe.complete(disabled());
+        first.join();
+        second.join();
+        verify(client, times(1)).describeTimeToLive(any(Consumer.class));
+        verify(client, times(1)).updateTimeToLive(any(Consumer.class));
+    }
+
+    private static DescribeTimeToLiveResponse disabled() {
+        return DescribeTimeToLiveResponse.builder()
+                .timeToLiveDescription(d -> d.timeToLiveStatus(TimeToLiveStatus.DISABLED)).build();
+    }
+}
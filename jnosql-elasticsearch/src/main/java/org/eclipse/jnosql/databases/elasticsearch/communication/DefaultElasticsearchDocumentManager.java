@@ -17,11 +17,13 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.CountRequest;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
 import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.document.Document;
@@ -31,9 +33,11 @@ import org.eclipse.jnosql.communication.document.DocumentQuery;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -45,14 +49,28 @@ import static java.util.Objects.requireNonNull;
  */
 class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManager {
 
-
     private final ElasticsearchClient elasticsearchClient;
 
     private final String index;
 
+    private final ElasticsearchBulk bulk;
+
+    private final BulkIngester<String> ingester;
+
     DefaultElasticsearchDocumentManager(ElasticsearchClient elasticsearchClient, String index) {
+        this(elasticsearchClient, index, ElasticsearchBulk.DEFAULT, null);
+    }
+
+    /**
+     * @param ingester the fire-and-forget ingester shared by the managers of the factory, null when each
+     *                 insert and update of many entities waits for its bulk requests
+     */
+    DefaultElasticsearchDocumentManager(ElasticsearchClient elasticsearchClient, String index,
+                                        ElasticsearchBulk bulk, BulkIngester<String> ingester) {
         this.elasticsearchClient = elasticsearchClient;
         this.index = index;
+        this.bulk = bulk;
+        this.ingester = ingester;
     }
 
     @Override
@@ -87,8 +105,26 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        if (ingester != null) {
+            List<DocumentEntity> result = new ArrayList<>();
+            for (DocumentEntity entity : entities) {
+                ingester.add(indexOperation(entity), id(entity));
+                result.add(entity);
+            }
+            return result;
+        }
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        List<DocumentEntity> result = new ArrayList<>();
+        try (BulkIngester<String> request = bulk.ingester(elasticsearchClient, failures::put)) {
+            for (DocumentEntity entity : entities) {
+                request.add(indexOperation(entity), id(entity));
+                result.add(entity);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new ElasticsearchBulkException(failures);
+        }
+        return result;
     }
 
     @Override
@@ -106,9 +142,7 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
 
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
-        Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return insert(entities);
     }
 
     @Override
@@ -160,6 +194,19 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
         }
     }
 
+    private BulkOperation indexOperation(DocumentEntity entity) {
+        requireNonNull(entity, "entity is required");
+        String id = id(entity);
+        Map<String, Object> jsonObject = EntityConverter.getMap(entity);
+        return BulkOperation.of(b -> b.index(i -> i.index(index).id(id).document(jsonObject)));
+    }
+
+    private static String id(DocumentEntity entity) {
+        return entity.find(EntityConverter.ID_FIELD)
+                .orElseThrow(() -> new ElasticsearchKeyFoundException(entity.toString()))
+                .get(String.class);
+    }
+
     @Override
     public Stream<DocumentEntity> search(SearchRequest query) {
         Objects.requireNonNull(query, "query is required");
@@ -173,6 +220,9 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
 
     @Override
     public void close() {
+        if (ingester != null) {
+            ingester.flush();
+        }
         try {
             elasticsearchClient._transport().close();
         } catch (IOException e) {
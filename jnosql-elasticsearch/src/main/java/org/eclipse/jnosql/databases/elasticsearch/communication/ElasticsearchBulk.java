@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The settings of the {@link BulkIngester} that sends the insert and update of many entities through the
+ * {@code _bulk} API, so a single request carries up to {@link #maxOperations()} operations instead of one request
+ * per entity.
+ *
+ * @see ElasticsearchConfigurations#BULK_MAX_OPERATIONS
+ * @see ElasticsearchConfigurations#BULK_MAX_SIZE
+ * @see ElasticsearchConfigurations#BULK_FLUSH_INTERVAL
+ * @see ElasticsearchConfigurations#BULK_MAX_CONCURRENT_REQUESTS
+ * @see ElasticsearchConfigurations#BULK_ASYNC
+ */
+final class ElasticsearchBulk {
+
+    private static final Logger LOGGER = Logger.getLogger(ElasticsearchBulk.class.getName());
+
+    static final int DEFAULT_MAX_OPERATIONS = 1000;
+
+    static final long DEFAULT_MAX_SIZE = 5 * 1024 * 1024;
+
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
+
+    static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    static final ElasticsearchBulk DEFAULT = new ElasticsearchBulk(DEFAULT_MAX_OPERATIONS, DEFAULT_MAX_SIZE,
+            null, DEFAULT_MAX_CONCURRENT_REQUESTS, false);
+
+    private final int maxOperations;
+
+    private final long maxSize;
+
+    private final Duration flushInterval;
+
+    private final int maxConcurrentRequests;
+
+    private final boolean async;
+
+    ElasticsearchBulk(int maxOperations, long maxSize, Duration flushInterval, int maxConcurrentRequests,
+                      boolean async) {
+        if (maxOperations <= 0) {
+            throw new IllegalArgumentException("The bulk max operations must be greater than zero: "
+                    + maxOperations);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The bulk max size must be greater than zero: " + maxSize);
+        }
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("The bulk max concurrent requests must be greater than zero: "
+                    + maxConcurrentRequests);
+        }
+        if (flushInterval != null && (flushInterval.isZero() || flushInterval.isNegative())) {
+            throw new IllegalArgumentException("The bulk flush interval must be greater than zero: "
+                    + flushInterval);
+        }
+        this.maxOperations = maxOperations;
+        this.maxSize = maxSize;
+        this.flushInterval = flushInterval == null && async ? DEFAULT_FLUSH_INTERVAL : flushInterval;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.async = async;
+    }
+
+    /**
+     * @return the maximum number of operations of a bulk request
+     */
+    int maxOperations() {
+        return maxOperations;
+    }
+
+    /**
+     * @return the maximum size, in bytes, of a bulk request
+     */
+    long maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the interval to send the pending operations of the fire-and-forget mode, it is null only when the
+     * mode is off; the fire-and-forget mode without an interval uses {@link #DEFAULT_FLUSH_INTERVAL}
+     */
+    Duration flushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * @return the maximum number of bulk requests in flight
+     */
+    int maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * @return true when the insert and update of many entities do not wait for Elasticsearch
+     */
+    boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Creates a {@link BulkIngester} whose operation context is the document id. Each operation that fails,
+     * or every operation of a request that fails, is reported to the onFailure with its id and reason.
+     * It does not schedule the flush interval, so an ingester closed at the end of a call does not start a thread.
+     *
+     * @param client    the client
+     * @param onFailure the callback of the failures, the id and the reason
+     * @return a {@link BulkIngester} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    BulkIngester<String> ingester(ElasticsearchClient client, BiConsumer<String, String> onFailure) {
+        requireNonNull(client, "client is required");
+        requireNonNull(onFailure, "onFailure is required");
+        return ingester(client, onFailure, null);
+    }
+
+    /**
+     * Creates the {@link BulkIngester} of the fire-and-forget mode. The operations carry their index, so a
+     * single ingester, and its scheduler thread, serves every manager of a factory. It sends the pending operations
+     * on the {@link #flushInterval()} and logs the failures.
+     *
+     * @param client the client
+     * @return a {@link BulkIngester} instance
+     * @throws NullPointerException  when client is null
+     * @throws IllegalStateException when the fire-and-forget mode is off
+     */
+    BulkIngester<String> asyncIngester(ElasticsearchClient client) {
+        requireNonNull(client, "client is required");
+        if (!async) {
+            throw new IllegalStateException("The fire-and-forget mode is off, see "
+                    + ElasticsearchConfigurations.BULK_ASYNC.get());
+        }
+        return ingester(client, (id, reason) -> LOGGER.log(Level.WARNING, "An error to write the id " + id
+                + " on elasticsearch: " + reason), flushInterval);
+    }
+
+    private BulkIngester<String> ingester(ElasticsearchClient client, BiConsumer<String, String> onFailure,
+                                          Duration interval) {
+        return BulkIngester.of(b -> {
+            b.client(client)
+                    .maxOperations(maxOperations)
+                    .maxSize(maxSize)
+                    .maxConcurrentRequests(maxConcurrentRequests)
+                    .listener(new FailureListener(onFailure));
+            if (interval != null) {
+                b.flushInterval(interval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return b;
+        });
+    }
+
+    static ElasticsearchBulk of(Settings settings) {
+        requireNonNull(settings, "settings is required");
+        int maxOperations = settings.get(ElasticsearchConfigurations.BULK_MAX_OPERATIONS, Integer.class)
+                .orElse(DEFAULT_MAX_OPERATIONS);
+        long maxSize = settings.get(ElasticsearchConfigurations.BULK_MAX_SIZE, Long.class)
+                .orElse(DEFAULT_MAX_SIZE);
+        Duration flushInterval = settings.get(ElasticsearchConfigurations.BULK_FLUSH_INTERVAL, Long.class)
+                .map(Duration::ofMillis).orElse(null);
+        int maxConcurrentRequests = settings.get(ElasticsearchConfigurations.BULK_MAX_CONCURRENT_REQUESTS,
+                Integer.class).orElse(DEFAULT_MAX_CONCURRENT_REQUESTS);
+        boolean async = settings.get(ElasticsearchConfigurations.BULK_ASYNC, Boolean.class).orElse(false);
+        return new ElasticsearchBulk(maxOperations, maxSize, flushInterval, maxConcurrentRequests, async);
+    }
+
+    private static final class FailureListener implements BulkListener<String> {
+
+        private final BiConsumer<String, String> onFailure;
+
+        private FailureListener(BiConsumer<String, String> onFailure) {
+            this.onFailure = onFailure;
+        }
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request, List<String> ids) {
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<String> ids, BulkResponse response) {
+            if (!response.errors()) {
+                return;
+            }
+            List<BulkResponseItem> items = response.items();
+            for (int index = 0; index < items.size(); index++) {
+                BulkResponseItem item = items.get(index);
+                if (item.error() != null) {
+                    String id = index < ids.size() && ids.get(index) != null ? ids.get(index) : item.id();
+                    onFailure.accept(id, String.valueOf(item.error().reason()));
+                }
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<String> ids, Throwable failure) {
+            ids.forEach(id -> onFailure.accept(id, String.valueOf(failure.getMessage())));
+        }
+    }
+}
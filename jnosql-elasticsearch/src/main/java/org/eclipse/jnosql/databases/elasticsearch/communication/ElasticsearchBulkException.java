@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Error when some operations of a bulk request fail, the other operations were written.
+ */
+public class ElasticsearchBulkException extends ElasticsearchException {
+
+    private final Map<String, String> failures;
+
+    ElasticsearchBulkException(Map<String, String> failures) {
+        super("There are " + failures.size() + " operations that failed on the bulk request: " + failures);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * @return the failures, the key is the document id and the value is the reason
+     */
+    public Map<String, String> getFailures() {
+        return failures;
+    }
+}
@@ -36,7 +36,30 @@ public enum ElasticsearchConfigurations implements Supplier<String> {
     /**
      * The password's credential
      */
-    PASSWORD("jnosql.elasticsearch.password");
+    PASSWORD("jnosql.elasticsearch.password"),
+    /**
+     * The maximum number of operations of a bulk request sent by insert and update of many entities.
+     * By default, 1000
+     */
+    BULK_MAX_OPERATIONS("jnosql.elasticsearch.bulk.max.operations"),
+    /**
+     * The maximum size, in bytes, of a bulk request. By default, 5242880 (5 MB)
+     */
+    BULK_MAX_SIZE("jnosql.elasticsearch.bulk.max.size"),
+    /**
+     * The interval, in milliseconds, to send the pending operations of the fire-and-forget mode, see {@link #BULK_ASYNC}.
+     * By default, 1000
+     */
+    BULK_FLUSH_INTERVAL("jnosql.elasticsearch.bulk.flush.interval"),
+    /**
+     * The maximum number of bulk requests in flight at the same time. By default, 1
+     */
+    BULK_MAX_CONCURRENT_REQUESTS("jnosql.elasticsearch.bulk.max.concurrent.requests"),
+    /**
+     * Defines the fire-and-forget mode: the insert and update of many entities return before Elasticsearch
+     * confirms the writes, and the failures are logged instead of thrown. By default, false
+     */
+    BULK_ASYNC("jnosql.elasticsearch.bulk.async");
 
     private final String configuration;
 
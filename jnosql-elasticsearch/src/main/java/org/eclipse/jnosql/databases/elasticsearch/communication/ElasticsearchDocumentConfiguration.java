@@ -82,7 +82,7 @@ public class ElasticsearchDocumentConfiguration implements DocumentConfiguration
     public ElasticsearchDocumentManagerFactory apply(Settings settings) {
         ElasticsearchClient elasticsearchClient = buildElasticsearchClient(settings);
 
-        return new ElasticsearchDocumentManagerFactory(elasticsearchClient);
+        return new ElasticsearchDocumentManagerFactory(elasticsearchClient, ElasticsearchBulk.of(settings));
     }
 
     public ElasticsearchClient buildElasticsearchClient(Settings settings) {
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.OpenRequest;
 import org.eclipse.jnosql.communication.document.DocumentManagerFactory;
@@ -30,14 +31,26 @@ import java.util.Objects;
  * If the database does not exist, it tries to read a json mapping from the database name.
  * Eg: {@link ElasticsearchDocumentManagerFactory#apply(String)}} with database, if does not exist it tries to
  * read a "/database.json" file. The file must have the mapping to elasticsearch.
+ * On the fire-and-forget mode, {@link ElasticsearchConfigurations#BULK_ASYNC}, the managers share a single
+ * {@link BulkIngester}, which {@link #close()} flushes.
  */
 public class ElasticsearchDocumentManagerFactory implements DocumentManagerFactory {
 
 
     private final ElasticsearchClient elasticsearchClient;
 
+    private final ElasticsearchBulk bulk;
+
+    private final BulkIngester<String> ingester;
+
     ElasticsearchDocumentManagerFactory(ElasticsearchClient elasticsearchClient) {
+        this(elasticsearchClient, ElasticsearchBulk.DEFAULT);
+    }
+
+    ElasticsearchDocumentManagerFactory(ElasticsearchClient elasticsearchClient, ElasticsearchBulk bulk) {
         this.elasticsearchClient = elasticsearchClient;
+        this.bulk = bulk;
+        this.ingester = bulk.isAsync() ? bulk.asyncIngester(elasticsearchClient) : null;
     }
 
 
@@ -46,7 +59,7 @@ public class ElasticsearchDocumentManagerFactory implements DocumentManagerFacto
         Objects.requireNonNull(database, "database is required");
 
         initDatabase(database);
-        return new DefaultElasticsearchDocumentManager(elasticsearchClient, database);
+        return new DefaultElasticsearchDocumentManager(elasticsearchClient, database, bulk, ingester);
     }
 
     private void initDatabase(String database) {
@@ -92,6 +105,9 @@ public class ElasticsearchDocumentManagerFactory implements DocumentManagerFacto
 
     @Override
     public void close() {
+        if (ingester != null) {
+            ingester.close();
+        }
         try {
             elasticsearchClient._transport().close();
         } catch (IOException e) {
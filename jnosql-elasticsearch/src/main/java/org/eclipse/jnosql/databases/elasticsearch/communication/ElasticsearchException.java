@@ -20,6 +20,10 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
  */
 public class ElasticsearchException extends RuntimeException {
 
+    ElasticsearchException(String message) {
+        super(message);
+    }
+
     ElasticsearchException(String message, Throwable throwable) {
         super(message, throwable);
     }
@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.json.jsonb.JsonbJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchBulkTest {
+
+    private final List<BulkRequest> requests = new CopyOnWriteArrayList<>();
+
+    private ElasticsearchClient client;
+
+    private Set<String> failed = Set.of();
+
+    @BeforeEach
+    void setUp() {
+        ElasticsearchTransport transport = Mockito.mock(ElasticsearchTransport.class);
+        when(transport.jsonpMapper()).thenReturn(new JsonbJsonpMapper());
+        when(transport.performRequestAsync(any(), any(), any())).thenAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+            requests.add(request);
+            return CompletableFuture.completedFuture(response(request));
+        });
+        client = new ElasticsearchClient(transport);
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        ElasticsearchBulk bulk = ElasticsearchBulk.of(Settings.builder()
+                .put(ElasticsearchConfigurations.BULK_MAX_OPERATIONS.get(), "500")
+                .put(ElasticsearchConfigurations.BULK_MAX_SIZE.get(), "1024")
+                .put(ElasticsearchConfigurations.BULK_FLUSH_INTERVAL.get(), "200")
+                .put(ElasticsearchConfigurations.BULK_MAX_CONCURRENT_REQUESTS.get(), "4")
+                .put(ElasticsearchConfigurations.BULK_ASYNC.get(), "true").build());
+
+        assertEquals(500, bulk.maxOperations());
+        assertEquals(1024L, bulk.maxSize());
+        assertEquals(Duration.ofMillis(200), bulk.flushInterval());
+        assertEquals(4, bulk.maxConcurrentRequests());
+        assertTrue(bulk.isAsync());
+
+        ElasticsearchBulk defaults = ElasticsearchBulk.of(Settings.builder().build());
+        assertEquals(ElasticsearchBulk.DEFAULT_MAX_OPERATIONS, defaults.maxOperations());
+        assertNull(defaults.flushInterval());
+        assertFalse(defaults.isAsync());
+    }
+
+    @Test
+    void shouldUseTheDefaultFlushIntervalOnFireAndForget() {
+        ElasticsearchBulk bulk = ElasticsearchBulk.of(Settings.builder()
+                .put(ElasticsearchConfigurations.BULK_ASYNC.get(), "true").build());
+
+        assertTrue(bulk.isAsync());
+        assertEquals(ElasticsearchBulk.DEFAULT_FLUSH_INTERVAL, bulk.flushInterval());
+    }
+
+    @Test
+    void shouldReturnErrorWhenSettingIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new ElasticsearchBulk(0, 1, null, 1, false));
+        assertThrows(IllegalArgumentException.class, () -> new ElasticsearchBulk(1, 0, null, 1, false));
+        assertThrows(IllegalArgumentException.class, () -> new ElasticsearchBulk(1, 1, null, 0, false));
+        assertThrows(IllegalArgumentException.class, () -> new ElasticsearchBulk(1, 1, Duration.ZERO, 1, true));
+        assertThrows(IllegalStateException.class, () -> ElasticsearchBulk.DEFAULT.asyncIngester(client));
+    }
+
+    @Test
+    void shouldInsertThroughBulkRequests() {
+        DefaultElasticsearchDocumentManager manager = new DefaultElasticsearchDocumentManager(client, "person",
+                new ElasticsearchBulk(2, ElasticsearchBulk.DEFAULT_MAX_SIZE, null, 1, false), null);
+        List<DocumentEntity> entities = IntStream.range(0, 5).mapToObj(i -> entity("id-" + i))
+                .collect(Collectors.toList());
+
+        Iterable<DocumentEntity> result = manager.insert(entities);
+
+        assertThat(result).containsExactlyElementsOf(entities);
+        assertThat(requests).hasSize(3);
+        assertThat(requests.stream().flatMap(r -> r.operations().stream()).map(o -> o.index().id()))
+                .containsExactly("id-0", "id-1", "id-2", "id-3", "id-4");
+        assertThat(requests.stream().flatMap(r -> r.operations().stream()).map(o -> o.index().index()))
+                .containsOnly("person");
+    }
+
+    @Test
+    void shouldMapFailuresToTheIds() {
+        failed = Set.of("ada");
+        DefaultElasticsearchDocumentManager manager = new DefaultElasticsearchDocumentManager(client, "person",
+                ElasticsearchBulk.DEFAULT, null);
+
+        ElasticsearchBulkException exception = assertThrows(ElasticsearchBulkException.class,
+                () -> manager.update(List.of(entity("otavio"), entity("ada"), entity("soro"))));
+
+        assertEquals(Map.of("ada", "mapper_parsing_exception"), exception.getFailures());
+        assertThat(requests).hasSize(1);
+        assertEquals(3, requests.get(0).operations().size());
+    }
+
+    @Test
+    void shouldNotWaitOnFireAndForget() {
+        ElasticsearchBulk bulk = new ElasticsearchBulk(10, ElasticsearchBulk.DEFAULT_MAX_SIZE,
+                Duration.ofMinutes(1), 1, true);
+        DefaultElasticsearchDocumentManager manager = new DefaultElasticsearchDocumentManager(client, "person",
+                bulk, bulk.asyncIngester(client));
+
+        manager.insert(List.of(entity("otavio"), entity("soro")));
+        assertThat(requests).isEmpty();
+
+        manager.close();
+        assertThat(requests).hasSize(1);
+        assertEquals(2, requests.get(0).operations().size());
+    }
+
+    @Test
+    void shouldShareTheIngesterOfTheFactoryOnFireAndForget() {
+        ElasticsearchDocumentManagerFactory factory = new ElasticsearchDocumentManagerFactory(client,
+                new ElasticsearchBulk(10, ElasticsearchBulk.DEFAULT_MAX_SIZE, Duration.ofMinutes(1), 1, true));
+
+        factory.apply("person").insert(List.of(entity("otavio")));
+        factory.apply("animal").insert(List.of(entity("soro")));
+        assertThat(requests).isEmpty();
+
+        factory.close();
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).operations().stream().map(o -> o.index().index()))
+                .containsExactly("person", "animal");
+    }
+
+    @Test
+    void shouldKeepTheSharedIngesterOpenWhenAManagerCloses() {
+        ElasticsearchDocumentManagerFactory factory = new ElasticsearchDocumentManagerFactory(client,
+                new ElasticsearchBulk(10, ElasticsearchBulk.DEFAULT_MAX_SIZE, Duration.ofMinutes(1), 1, true));
+        ElasticsearchDocumentManager person = factory.apply("person");
+        ElasticsearchDocumentManager animal = factory.apply("animal");
+
+        person.insert(List.of(entity("otavio")));
+        person.close();
+        assertThat(requests).hasSize(1);
+
+        animal.insert(List.of(entity("soro")));
+        assertThat(requests).hasSize(1);
+
+        factory.close();
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).operations().stream().map(o -> o.index().index()))
+                .containsExactly("animal");
+    }
+
+    private BulkResponse response(BulkRequest request) {
+        List<BulkResponseItem> items = request.operations().stream().map(o -> o.index().id())
+                .map(id -> BulkResponseItem.of(i -> {
+                    i.operationType(OperationType.Index).index("person").id(id);
+                    if (failed.contains(id)) {
+                        return i.status(400).error(e -> e.type("error").reason("mapper_parsing_exception"));
+                    }
+                    return i.status(201);
+                })).collect(Collectors.toList());
+        return BulkResponse.of(b -> b.errors(items.stream().anyMatch(i -> i.error() != null))
+                .took(1).items(items));
+    }
+
+    private static DocumentEntity entity(String id) {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of(EntityConverter.ID_FIELD, id));
+        entity.add(Document.of("name", id));
+        return entity;
+    }
+}
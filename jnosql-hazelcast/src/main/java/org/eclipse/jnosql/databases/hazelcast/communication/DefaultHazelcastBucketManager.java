@@ -14,24 +14,36 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.IMap;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
-import com.hazelcast.query.impl.predicates.SqlPredicate;
+import com.hazelcast.query.Predicates;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * The default implementation of hazelcast bucket manager
@@ -68,12 +80,20 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        requireNonNull(entities, "entities is required");
+        Map<Object, Object> values = toMap(entities);
+        if (!values.isEmpty()) {
+            map.setAll(values);
+        }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(kv -> this.put(kv, ttl));
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        long millis = ttl.toMillis();
+        await(toMap(entities).entrySet().stream()
+                .<CompletionStage<?>>map(e -> map.setAsync(e.getKey(), e.getValue(), millis, TimeUnit.MILLISECONDS)));
     }
 
     @Override
@@ -87,7 +107,13 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) map::get).filter(Objects::nonNull)
+        requireNonNull(keys, "keys is required");
+        List<K> ids = StreamSupport.stream(keys.spliterator(), false).collect(toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<K, Object> values = map.getAll(new HashSet<>(ids));
+        return ids.stream().map(values::get).filter(Objects::nonNull)
                 .map(Value::of).collect(toList());
     }
 
@@ -98,7 +124,9 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        requireNonNull(keys, "keys is required");
+        await(StreamSupport.stream(keys.spliterator(), false).distinct()
+                .<CompletionStage<?>>map(map::removeAsync));
     }
 
     @Override
@@ -108,21 +136,21 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
     @Override
     public Collection<Value> sql(String query) throws NullPointerException {
         requireNonNull(query, "sql is required");
-        return sql(new SqlPredicate(query));
+        return sql(predicate(query, Collections.emptyMap()));
     }
 
     @Override
     public Collection<Value> sql(String query, Map<String, Object> params) throws NullPointerException {
         requireNonNull(query, "sql is required");
         requireNonNull(params, "params is required");
-        final StringBuilder finalQuery = new StringBuilder(query);
-        final Consumer<Map.Entry<String, Object>> consumer = e -> {
-            String key = ":" + e.getKey();
-            int indexOf = query.indexOf(key);
-            finalQuery.replace(indexOf, indexOf + key.length(), e.getValue().toString());
-        };
-        params.entrySet().forEach(consumer);
-        return sql(new SqlPredicate(finalQuery.toString()));
+        return sql(predicate(query, params));
+    }
+
+    @Override
+    public <K, V> Predicate<K, V> predicate(String query, Map<String, Object> params) {
+        requireNonNull(query, "sql is required");
+        requireNonNull(params, "params is required");
+        return HazelcastQuery.of(query).bind(params);
     }
 
     @Override
@@ -131,4 +159,86 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
         Collection<V> values = map.values(predicate);
         return values.stream().map(Value::of).collect(toList());
     }
+
+    @Override
+    public <K, V> Collection<Value> sql(Predicate<K, V> predicate, int page, int size) {
+        requireNonNull(predicate, "predicate is required");
+        return sql(page(Predicates.pagingPredicate(predicate, size), page));
+    }
+
+    @Override
+    public <K, V> Collection<Value> sql(Predicate<K, V> predicate, Comparator<Map.Entry<K, V>> comparator,
+                                        int page, int size) {
+        requireNonNull(predicate, "predicate is required");
+        requireNonNull(comparator, "comparator is required");
+        return sql(page(Predicates.pagingPredicate(predicate, comparator, size), page));
+    }
+
+    @Override
+    public <K, V, R> Collection<R> project(Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(predicate, "predicate is required");
+        return map.project(projection, predicate);
+    }
+
+    @Override
+    public <K, V, R> R executeOnKey(K key, EntryProcessor<K, V, R> processor) {
+        requireNonNull(key, "key is required");
+        requireNonNull(processor, "processor is required");
+        return (R) map.executeOnKey(key, processor);
+    }
+
+    @Override
+    public <K, V, R> Map<K, R> executeOnKeys(Iterable<K> keys, EntryProcessor<K, V, R> processor) {
+        requireNonNull(keys, "keys is required");
+        requireNonNull(processor, "processor is required");
+        Set<K> ids = StreamSupport.stream(keys.spliterator(), false).collect(toSet());
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return map.executeOnKeys(ids, processor);
+    }
+
+    @Override
+    public <K, V, R> Map<K, R> executeOnEntries(EntryProcessor<K, V, R> processor, Predicate<K, V> predicate) {
+        requireNonNull(processor, "processor is required");
+        requireNonNull(predicate, "predicate is required");
+        return map.executeOnEntries(processor, predicate);
+    }
+
+    @Override
+    public <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator) {
+        requireNonNull(aggregator, "aggregator is required");
+        return (R) map.aggregate(aggregator);
+    }
+
+    @Override
+    public <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator, Predicate<K, V> predicate) {
+        requireNonNull(aggregator, "aggregator is required");
+        requireNonNull(predicate, "predicate is required");
+        return (R) map.aggregate(aggregator, predicate);
+    }
+
+    private static <K, V> PagingPredicate<K, V> page(PagingPredicate<K, V> predicate, int page) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must be zero or positive");
+        }
+        predicate.setPage(page);
+        return predicate;
+    }
+
+    private static Map<Object, Object> toMap(Iterable<KeyValueEntity> entities) {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        for (KeyValueEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            values.put(entity.key(), entity.value());
+        }
+        return values;
+    }
+
+    private static void await(Stream<? extends CompletionStage<?>> operations) {
+        CompletableFuture<?>[] futures = operations.map(CompletionStage::toCompletableFuture)
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
 }
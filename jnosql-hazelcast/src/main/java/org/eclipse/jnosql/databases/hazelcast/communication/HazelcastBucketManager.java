@@ -15,11 +15,15 @@
 
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 
 /**
@@ -29,7 +33,7 @@ public interface HazelcastBucketManager extends BucketManager {
 
 
     /**
-     * Executes hazelcast sql
+     * Executes hazelcast sql. The query is compiled once and cached by its text.
      *
      * @param query the sql
      * @return the result sql
@@ -40,14 +44,35 @@ public interface HazelcastBucketManager extends BucketManager {
     /**
      * Executes hazelcast sql with named sql.
      * E.g.:  bucketManager.sql("name = :name", singletonMap("name", "Matrix"))
+     * The query is compiled once and cached by its text; the params are bound as typed values,
+     * they are never rendered into the query text. A {@link java.util.Collection} or array param binds
+     * all its values, E.g.: {@code name IN (:names)}.
      *
      * @param query  the sql
      * @param params the params to bind
      * @return the result sql
-     * @throws NullPointerException when there is null sql
+     * @throws NullPointerException   when there is null sql
+     * @throws org.eclipse.jnosql.communication.CommunicationException when a param is missing or null or the query
+     *                                                                  is invalid
      */
     Collection<Value> sql(String query, Map<String, Object> params);
 
+    /**
+     * Creates a hazelcast predicate from a sql with named params, using the same compiled and cached
+     * query of {@link HazelcastBucketManager#sql(String, Map)}.
+     * It allows using a sql query with either paging or projection.
+     *
+     * @param query  the sql
+     * @param params the params to bind
+     * @param <K>    the key type
+     * @param <V>    the value type
+     * @return the hazelcast predicate
+     * @throws NullPointerException   when there is null sql or params
+     * @throws org.eclipse.jnosql.communication.CommunicationException when a param is missing or null or the query
+     *                                                                  is invalid
+     */
+    <K, V> Predicate<K, V> predicate(String query, Map<String, Object> params);
+
     /**
      * Executes hazelcast sql
      *
@@ -59,4 +84,114 @@ public interface HazelcastBucketManager extends BucketManager {
      */
     <K, V> Collection<Value> sql(Predicate<K, V> predicate);
 
+    /**
+     * Executes hazelcast sql returning a single page using {@link com.hazelcast.query.PagingPredicate},
+     * the values are sorted by their natural order.
+     *
+     * @param predicate the hazelcast predicate
+     * @param page      the page, it starts at zero
+     * @param size      the page size
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @return the result sql
+     * @throws NullPointerException     when there is null predicate
+     * @throws IllegalArgumentException when page is negative or size is not positive
+     */
+    <K, V> Collection<Value> sql(Predicate<K, V> predicate, int page, int size);
+
+    /**
+     * Executes hazelcast sql returning a single page using {@link com.hazelcast.query.PagingPredicate}
+     *
+     * @param predicate  the hazelcast predicate
+     * @param comparator the comparator to sort the entries, it must be serializable
+     * @param page       the page, it starts at zero
+     * @param size       the page size
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @return the result sql
+     * @throws NullPointerException     when there is null predicate or comparator
+     * @throws IllegalArgumentException when page is negative or size is not positive
+     */
+    <K, V> Collection<Value> sql(Predicate<K, V> predicate, Comparator<Map.Entry<K, V>> comparator, int page, int size);
+
+    /**
+     * Applies the projection on the entries that match the predicate, the projection runs on the
+     * members, so only the projected values are returned.
+     *
+     * @param projection the hazelcast projection
+     * @param predicate  the hazelcast predicate
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the projection result type
+     * @return the projected values
+     * @throws NullPointerException when there is null projection or predicate
+     */
+    <K, V, R> Collection<R> project(Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate);
+
+    /**
+     * Runs the entry processor on the member that owns the key, so the read-modify-write happens atomically
+     * without moving the value to the caller.
+     *
+     * @param key       the key
+     * @param processor the entry processor
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the processor result
+     * @throws NullPointerException when there is null key or processor
+     */
+    <K, V, R> R executeOnKey(K key, EntryProcessor<K, V, R> processor);
+
+    /**
+     * Runs the entry processor on the keys, each one on the member that owns it.
+     *
+     * @param keys      the keys
+     * @param processor the entry processor
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the processor result by key
+     * @throws NullPointerException when there is null keys or processor
+     */
+    <K, V, R> Map<K, R> executeOnKeys(Iterable<K> keys, EntryProcessor<K, V, R> processor);
+
+    /**
+     * Runs the entry processor on the entries that match the predicate.
+     *
+     * @param processor the entry processor
+     * @param predicate the hazelcast predicate
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the processor result by key
+     * @throws NullPointerException when there is null processor or predicate
+     */
+    <K, V, R> Map<K, R> executeOnEntries(EntryProcessor<K, V, R> processor, Predicate<K, V> predicate);
+
+    /**
+     * Runs the aggregation on all entries, E.g.: {@link com.hazelcast.aggregation.Aggregators#count()},
+     * each member aggregates its partitions and only the results are combined.
+     *
+     * @param aggregator the hazelcast aggregator
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the result type
+     * @return the aggregation result
+     * @throws NullPointerException when there is null aggregator
+     */
+    <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator);
+
+    /**
+     * Runs the aggregation on the entries that match the predicate.
+     *
+     * @param aggregator the hazelcast aggregator
+     * @param predicate  the hazelcast predicate
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the result type
+     * @return the aggregation result
+     * @throws NullPointerException when there is null aggregator or predicate
+     */
+    <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator, Predicate<K, V> predicate);
+
 }
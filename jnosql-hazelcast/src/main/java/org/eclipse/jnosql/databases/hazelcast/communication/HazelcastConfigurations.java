@@ -55,7 +55,48 @@ public enum HazelcastConfigurations implements Supplier<String> {
     /**
      * Enables or disables the Tcp/Ip join mechanism.
      */
-    TCP_IP_JOIN("jnosql.hazelcast.tcp.ip.join");
+    TCP_IP_JOIN("jnosql.hazelcast.tcp.ip.join"),
+    /**
+     * The in-memory format of the bucket's values, OBJECT or BINARY. The map settings apply to every bucket,
+     * or to a single bucket when the key ends with the bucket name. E.g.: jnosql.hazelcast.map.in.memory.format.movies=OBJECT
+     */
+    MAP_IN_MEMORY_FORMAT("jnosql.hazelcast.map.in.memory.format"),
+    /**
+     * The number of synchronous backups of the bucket.
+     */
+    MAP_BACKUP_COUNT("jnosql.hazelcast.map.backup.count"),
+    /**
+     * The number of asynchronous backups of the bucket.
+     */
+    MAP_ASYNC_BACKUP_COUNT("jnosql.hazelcast.map.async.backup.count"),
+    /**
+     * The maximum number of entries in the bucket's near cache. Any near cache setting enables the near cache.
+     */
+    MAP_NEAR_CACHE_SIZE("jnosql.hazelcast.map.near.cache.size"),
+    /**
+     * The eviction policy of the near cache: LRU, LFU, RANDOM or NONE.
+     */
+    MAP_NEAR_CACHE_EVICTION("jnosql.hazelcast.map.near.cache.eviction"),
+    /**
+     * Defines if the near cache entries are invalidated when the entries change on the cluster.
+     */
+    MAP_NEAR_CACHE_INVALIDATE("jnosql.hazelcast.map.near.cache.invalidate"),
+    /**
+     * The in-memory format of the near cache, OBJECT or BINARY.
+     */
+    MAP_NEAR_CACHE_IN_MEMORY_FORMAT("jnosql.hazelcast.map.near.cache.in.memory.format"),
+    /**
+     * Defines if a member caches the entries that it owns in its near cache.
+     */
+    MAP_NEAR_CACHE_LOCAL_ENTRIES("jnosql.hazelcast.map.near.cache.local.entries"),
+    /**
+     * The attributes, separated by comma, that have a sorted index. E.g.: jnosql.hazelcast.map.index.sorted.movies=year,name
+     */
+    MAP_SORTED_INDEX("jnosql.hazelcast.map.index.sorted"),
+    /**
+     * The attributes, separated by comma, that have a hash index. E.g.: jnosql.hazelcast.map.index.hash.movies=name
+     */
+    MAP_HASH_INDEX("jnosql.hazelcast.map.index.hash");
 
     private final String configuration;
 
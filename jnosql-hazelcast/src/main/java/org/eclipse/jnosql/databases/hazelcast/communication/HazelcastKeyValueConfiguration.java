@@ -117,6 +117,8 @@ public class HazelcastKeyValueConfiguration implements KeyValueConfiguration {
                 .map(Boolean::valueOf)
                 .ifPresent(join.getTcpIpConfig()::setEnabled);
 
+        MapConfigReader.apply(settings, config);
+
         HazelcastInstance hazelcastInstance = Hazelcast.getOrCreateHazelcastInstance(config);
         return new DefaultHazelcastBucketManagerFactory(hazelcastInstance);
     }
@@ -0,0 +1,410 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hazelcast.communication;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compiled Hazelcast query. The query text is parsed once and kept in a shared cache, bounded to the most recently
+ * used texts, so running the same text again, with different params, does not parse it again.
+ * A text without named params becomes a single predicate that is reused as is. A text with named params,
+ * E.g.: {@code name = :name AND year > :year}, becomes a tree that, on bind, creates the predicate through
+ * {@link Predicates}, so the param values keep their types and are never rendered into a query text.
+ * The literals of the text are typed as well: a number is a {@link Long} or a {@link Double}, {@code true} and
+ * {@code false} are {@link Boolean}, and anything else is a {@link String}.
+ */
+final class HazelcastQuery {
+
+    private static final int CACHE_SIZE = 1_000;
+
+    private static final Map<String, HazelcastQuery> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, HazelcastQuery> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    private final String query;
+
+    private final Function<Map<String, Object>, Predicate<?, ?>> predicate;
+
+    private HazelcastQuery(String query, Function<Map<String, Object>, Predicate<?, ?>> predicate) {
+        this.query = query;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Creates the predicate binding the named parameters
+     *
+     * @param params the params to bind
+     * @param <K>    the key type
+     * @param <V>    the value type
+     * @return the predicate
+     * @throws NullPointerException   when params is null
+     * @throws CommunicationException when there is a param missing, null or not {@link Comparable}
+     */
+    <K, V> Predicate<K, V> bind(Map<String, Object> params) {
+        requireNonNull(params, "params is required");
+        return (Predicate<K, V>) predicate.apply(params);
+    }
+
+    @Override
+    public String toString() {
+        return "HazelcastQuery{" +
+                "query='" + query + '\'' +
+                '}';
+    }
+
+    /**
+     * Returns the compiled version of the query, from the cache when the query was already compiled.
+     *
+     * @param query the query
+     * @return the {@link HazelcastQuery} instance
+     * @throws NullPointerException   when query is null
+     * @throws CommunicationException when the query is not valid
+     */
+    static HazelcastQuery of(String query) {
+        requireNonNull(query, "query is required");
+        HazelcastQuery compiled = CACHE.get(query);
+        if (compiled == null) {
+            compiled = compile(query);
+            CACHE.put(query, compiled);
+        }
+        return compiled;
+    }
+
+    private static HazelcastQuery compile(String query) {
+        List<String> tokens = tokenize(query);
+        boolean hasParams = tokens.stream().anyMatch(HazelcastQuery::isParam);
+        if (!hasParams) {
+            Predicate<?, ?> sql = Predicates.sql(query);
+            return new HazelcastQuery(query, p -> sql);
+        }
+        Parser parser = new Parser(query, tokens);
+        return new HazelcastQuery(query, parser.parse());
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        int index = 0;
+        int length = query.length();
+        while (index < length) {
+            char current = query.charAt(index);
+            if (Character.isWhitespace(current)) {
+                index++;
+            } else if (current == '\'') {
+                int end = index + 1;
+                while (end < length) {
+                    if (query.charAt(end) == '\'') {
+                        if (end + 1 < length && query.charAt(end + 1) == '\'') {
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    end++;
+                }
+                if (end >= length) {
+                    throw new CommunicationException("There is an unterminated literal at the query: " + query);
+                }
+                tokens.add(query.substring(index, end + 1));
+                index = end + 1;
+            } else if (current == '(' || current == ')' || current == ',') {
+                tokens.add(String.valueOf(current));
+                index++;
+            } else if (current == '=' || current == '!' || current == '<' || current == '>') {
+                int end = index + 1;
+                if (end < length && (query.charAt(end) == '=' || (current == '<' && query.charAt(end) == '>'))) {
+                    end++;
+                }
+                tokens.add(query.substring(index, end));
+                index = end;
+            } else {
+                int end = index;
+                while (end < length && !isDelimiter(query.charAt(end))) {
+                    end++;
+                }
+                tokens.add(query.substring(index, end));
+                index = end;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isDelimiter(char current) {
+        return Character.isWhitespace(current) || current == '(' || current == ')' || current == ','
+                || current == '=' || current == '!' || current == '<' || current == '>' || current == '\'';
+    }
+
+    private static boolean isParam(String token) {
+        return token.length() > 1 && token.charAt(0) == ':';
+    }
+
+    private static Comparable<?> toComparable(String name, Object value) {
+        if (value == null) {
+            throw new CommunicationException("The param " + name + " is null");
+        }
+        if (value instanceof Comparable) {
+            return (Comparable<?>) value;
+        }
+        throw new CommunicationException("The param " + name + " must be Comparable, but it is: "
+                + value.getClass().getName());
+    }
+
+    /**
+     * A recursive descent parser to the Hazelcast predicate grammar.
+     */
+    private static final class Parser {
+
+        private static final Pattern NUMBER = Pattern.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+
+        private final String query;
+
+        private final List<String> tokens;
+
+        private int position;
+
+        private Parser(String query, List<String> tokens) {
+            this.query = query;
+            this.tokens = tokens;
+        }
+
+        Function<Map<String, Object>, Predicate<?, ?>> parse() {
+            Function<Map<String, Object>, Predicate<?, ?>> expression = or();
+            if (position < tokens.size()) {
+                throw error("unexpected token " + tokens.get(position));
+            }
+            return expression;
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> or() {
+            List<Function<Map<String, Object>, Predicate<?, ?>>> predicates = new ArrayList<>();
+            predicates.add(and());
+            while (accept("OR")) {
+                predicates.add(and());
+            }
+            if (predicates.size() == 1) {
+                return predicates.get(0);
+            }
+            return p -> Predicates.or(predicates.stream().map(f -> f.apply(p)).toArray(Predicate[]::new));
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> and() {
+            List<Function<Map<String, Object>, Predicate<?, ?>>> predicates = new ArrayList<>();
+            predicates.add(not());
+            while (accept("AND")) {
+                predicates.add(not());
+            }
+            if (predicates.size() == 1) {
+                return predicates.get(0);
+            }
+            return p -> Predicates.and(predicates.stream().map(f -> f.apply(p)).toArray(Predicate[]::new));
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> not() {
+            if (accept("NOT")) {
+                Function<Map<String, Object>, Predicate<?, ?>> predicate = not();
+                return p -> Predicates.not(predicate.apply(p));
+            }
+            if (accept("(")) {
+                Function<Map<String, Object>, Predicate<?, ?>> predicate = or();
+                expect(")");
+                return predicate;
+            }
+            return condition();
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> condition() {
+            String attribute = next();
+            if (position >= tokens.size() || isKeyword(peek(), "AND", "OR") || ")".equals(peek())) {
+                return p -> Predicates.equal(attribute, true);
+            }
+            boolean negate = accept("NOT");
+            Function<Map<String, Object>, Predicate<?, ?>> predicate = operation(attribute, next());
+            if (negate) {
+                return p -> Predicates.not(predicate.apply(p));
+            }
+            return predicate;
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> operation(String attribute, String operator) {
+            switch (operator.toUpperCase(Locale.US)) {
+                case "=":
+                case "==": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.equal(attribute, value.apply(p));
+                }
+                case "!=":
+                case "<>": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.notEqual(attribute, value.apply(p));
+                }
+                case ">": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.greaterThan(attribute, value.apply(p));
+                }
+                case ">=": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.greaterEqual(attribute, value.apply(p));
+                }
+                case "<": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.lessThan(attribute, value.apply(p));
+                }
+                case "<=": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.lessEqual(attribute, value.apply(p));
+                }
+                case "LIKE": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.like(attribute, String.valueOf(value.apply(p)));
+                }
+                case "ILIKE": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.ilike(attribute, String.valueOf(value.apply(p)));
+                }
+                case "REGEX": {
+                    Function<Map<String, Object>, Comparable<?>> value = operand();
+                    return p -> Predicates.regex(attribute, String.valueOf(value.apply(p)));
+                }
+                case "BETWEEN": {
+                    Function<Map<String, Object>, Comparable<?>> from = operand();
+                    expect("AND");
+                    Function<Map<String, Object>, Comparable<?>> to = operand();
+                    return p -> Predicates.between(attribute, from.apply(p), to.apply(p));
+                }
+                case "IN": {
+                    List<Function<Map<String, Object>, Stream<Comparable<?>>>> values = new ArrayList<>();
+                    expect("(");
+                    do {
+                        values.add(operands());
+                    } while (accept(","));
+                    expect(")");
+                    return p -> Predicates.in(attribute, values.stream().flatMap(f -> f.apply(p))
+                            .toArray(Comparable[]::new));
+                }
+                default:
+                    throw error("unsupported operator " + operator);
+            }
+        }
+
+        private Function<Map<String, Object>, Comparable<?>> operand() {
+            String token = next();
+            if (isParam(token)) {
+                String name = token.substring(1);
+                return p -> toComparable(name, param(p, name));
+            }
+            Comparable<?> literal = literal(token);
+            return p -> literal;
+        }
+
+        private Function<Map<String, Object>, Stream<Comparable<?>>> operands() {
+            String token = next();
+            if (isParam(token)) {
+                String name = token.substring(1);
+                return p -> {
+                    Object value = param(p, name);
+                    List<?> values;
+                    if (value instanceof Collection) {
+                        values = new ArrayList<>((Collection<?>) value);
+                    } else if (value instanceof Object[]) {
+                        values = List.of((Object[]) value);
+                    } else {
+                        return Stream.of(toComparable(name, value));
+                    }
+                    if (values.isEmpty()) {
+                        throw new CommunicationException("The param " + name + " is empty at the query: " + query);
+                    }
+                    return values.stream().map(v -> toComparable(name, v));
+                };
+            }
+            List<Comparable<?>> values = Collections.singletonList(literal(token));
+            return p -> values.stream();
+        }
+
+        private Object param(Map<String, Object> params, String name) {
+            if (!params.containsKey(name)) {
+                throw new CommunicationException("The param " + name + " is missing at the query: " + query);
+            }
+            return params.get(name);
+        }
+
+        private Comparable<?> literal(String token) {
+            if (token.length() > 1 && token.charAt(0) == '\'') {
+                return token.substring(1, token.length() - 1).replace("''", "'");
+            }
+            if (isKeyword(token, "true", "false")) {
+                return Boolean.valueOf(token);
+            }
+            if (NUMBER.matcher(token).matches()) {
+                try {
+                    return Long.valueOf(token);
+                } catch (NumberFormatException exception) {
+                    return Double.valueOf(token);
+                }
+            }
+            return token;
+        }
+
+        private String peek() {
+            return tokens.get(position);
+        }
+
+        private String next() {
+            if (position >= tokens.size()) {
+                throw error("unexpected end of the query");
+            }
+            return tokens.get(position++);
+        }
+
+        private boolean accept(String token) {
+            if (position < tokens.size() && isKeyword(peek(), token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw error("expected " + token);
+            }
+        }
+
+        private boolean isKeyword(String token, String... keywords) {
+            return Stream.of(keywords).anyMatch(token::equalsIgnoreCase);
+        }
+
+        private CommunicationException error(String message) {
+            return new CommunicationException("There is an error at the query: " + query + ", " + message);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hazelcast.communication;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_ASYNC_BACKUP_COUNT;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_BACKUP_COUNT;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_HASH_INDEX;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_IN_MEMORY_FORMAT;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_NEAR_CACHE_EVICTION;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_NEAR_CACHE_INVALIDATE;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_NEAR_CACHE_IN_MEMORY_FORMAT;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_NEAR_CACHE_LOCAL_ENTRIES;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_NEAR_CACHE_SIZE;
+import static org.eclipse.jnosql.databases.hazelcast.communication.HazelcastConfigurations.MAP_SORTED_INDEX;
+
+/**
+ * Reads the map settings of {@link HazelcastConfigurations} and applies them on the {@link MapConfig} of each bucket.
+ * A key without a bucket name goes to the default map config, which is the template of every bucket,
+ * whereas a key followed by the bucket name, E.g.: jnosql.hazelcast.map.in.memory.format.movies, goes only to that bucket.
+ */
+final class MapConfigReader {
+
+    private static final String DEFAULT_MAP = "default";
+
+    private static final Set<HazelcastConfigurations> MAP_SETTINGS = EnumSet.of(MAP_IN_MEMORY_FORMAT, MAP_BACKUP_COUNT,
+            MAP_ASYNC_BACKUP_COUNT, MAP_NEAR_CACHE_SIZE, MAP_NEAR_CACHE_EVICTION, MAP_NEAR_CACHE_INVALIDATE,
+            MAP_NEAR_CACHE_IN_MEMORY_FORMAT, MAP_NEAR_CACHE_LOCAL_ENTRIES, MAP_SORTED_INDEX, MAP_HASH_INDEX);
+
+    private static final Set<HazelcastConfigurations> NEAR_CACHE_SETTINGS = EnumSet.of(MAP_NEAR_CACHE_SIZE,
+            MAP_NEAR_CACHE_EVICTION, MAP_NEAR_CACHE_INVALIDATE, MAP_NEAR_CACHE_IN_MEMORY_FORMAT,
+            MAP_NEAR_CACHE_LOCAL_ENTRIES);
+
+    private MapConfigReader() {
+    }
+
+    static void apply(Settings settings, Config config) {
+        Map<String, Map<HazelcastConfigurations, String>> buckets = new LinkedHashMap<>();
+        buckets.put(DEFAULT_MAP, new EnumMap<>(HazelcastConfigurations.class));
+        for (String key : settings.keySet()) {
+            for (HazelcastConfigurations configuration : MAP_SETTINGS) {
+                String bucket = bucket(key, configuration);
+                if (bucket != null) {
+                    String value = settings.get(key).map(Object::toString).orElse("");
+                    buckets.computeIfAbsent(bucket, b -> new EnumMap<>(HazelcastConfigurations.class))
+                            .put(configuration, value);
+                }
+            }
+        }
+        buckets.forEach((bucket, values) -> {
+            if (!values.isEmpty()) {
+                apply(config.getMapConfig(bucket), values);
+            }
+        });
+    }
+
+    private static String bucket(String key, HazelcastConfigurations configuration) {
+        String prefix = configuration.get();
+        if (key.equals(prefix)) {
+            return DEFAULT_MAP;
+        } else if (key.startsWith(prefix + '.') && key.length() > prefix.length() + 1) {
+            return key.substring(prefix.length() + 1);
+        }
+        return null;
+    }
+
+    private static void apply(MapConfig mapConfig, Map<HazelcastConfigurations, String> values) {
+        values.forEach((configuration, value) -> {
+            switch (configuration) {
+                case MAP_IN_MEMORY_FORMAT:
+                    mapConfig.setInMemoryFormat(InMemoryFormat.valueOf(value.toUpperCase(Locale.US)));
+                    break;
+                case MAP_BACKUP_COUNT:
+                    mapConfig.setBackupCount(Integer.parseInt(value));
+                    break;
+                case MAP_ASYNC_BACKUP_COUNT:
+                    mapConfig.setAsyncBackupCount(Integer.parseInt(value));
+                    break;
+                case MAP_SORTED_INDEX:
+                    attributes(value).forEach(a -> mapConfig.addIndexConfig(new IndexConfig(IndexType.SORTED, a)));
+                    break;
+                case MAP_HASH_INDEX:
+                    attributes(value).forEach(a -> mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, a)));
+                    break;
+                default:
+            }
+        });
+        if (values.keySet().stream().anyMatch(NEAR_CACHE_SETTINGS::contains)) {
+            mapConfig.setNearCacheConfig(nearCache(mapConfig, values));
+        }
+    }
+
+    private static NearCacheConfig nearCache(MapConfig mapConfig, Map<HazelcastConfigurations, String> values) {
+        NearCacheConfig nearCache = mapConfig.getNearCacheConfig() == null ? new NearCacheConfig(mapConfig.getName())
+                : new NearCacheConfig(mapConfig.getNearCacheConfig()).setName(mapConfig.getName());
+        EvictionConfig eviction = new EvictionConfig(nearCache.getEvictionConfig());
+        values.forEach((configuration, value) -> {
+            switch (configuration) {
+                case MAP_NEAR_CACHE_SIZE:
+                    eviction.setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT).setSize(Integer.parseInt(value));
+                    break;
+                case MAP_NEAR_CACHE_EVICTION:
+                    eviction.setEvictionPolicy(EvictionPolicy.valueOf(value.toUpperCase(Locale.US)));
+                    break;
+                case MAP_NEAR_CACHE_INVALIDATE:
+                    nearCache.setInvalidateOnChange(Boolean.parseBoolean(value));
+                    break;
+                case MAP_NEAR_CACHE_IN_MEMORY_FORMAT:
+                    nearCache.setInMemoryFormat(InMemoryFormat.valueOf(value.toUpperCase(Locale.US)));
+                    break;
+                case MAP_NEAR_CACHE_LOCAL_ENTRIES:
+                    nearCache.setCacheLocalEntries(Boolean.parseBoolean(value));
+                    break;
+                default:
+            }
+        });
+        return nearCache.setEvictionConfig(eviction);
+    }
+
+    private static Stream<String> attributes(String value) {
+        return Stream.of(value.split(",")).map(String::trim).filter(a -> !a.isEmpty());
+    }
+}
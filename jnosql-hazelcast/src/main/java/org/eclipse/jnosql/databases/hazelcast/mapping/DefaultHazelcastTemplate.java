@@ -14,6 +14,9 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.mapping;
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
@@ -27,6 +30,7 @@ import org.eclipse.jnosql.mapping.keyvalue.KeyValueEventPersistManager;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueWorkflow;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -65,11 +69,57 @@ class DefaultHazelcastTemplate extends AbstractKeyValueTemplate implements Hazel
         return manager.get().sql(query, params).stream().map(v -> (T) v.get()).collect(Collectors.toList());
     }
 
+    @Override
+    public <K, V> Predicate<K, V> predicate(String query, Map<String, Object> params) {
+        return manager.get().predicate(query, params);
+    }
+
     @Override
     public <K, V> Collection<V> sql(Predicate<K, V> predicate) {
         return manager.get().sql(predicate).stream().map(v -> (V) v.get()).collect(Collectors.toList());
     }
 
+    @Override
+    public <K, V> Collection<V> sql(Predicate<K, V> predicate, int page, int size) {
+        return manager.get().sql(predicate, page, size).stream().map(v -> (V) v.get()).collect(Collectors.toList());
+    }
+
+    @Override
+    public <K, V> Collection<V> sql(Predicate<K, V> predicate, Comparator<Map.Entry<K, V>> comparator, int page, int size) {
+        return manager.get().sql(predicate, comparator, page, size).stream().map(v -> (V) v.get())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public <K, V, R> Collection<R> project(Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate) {
+        return manager.get().project(projection, predicate);
+    }
+
+    @Override
+    public <K, V, R> R executeOnKey(K key, EntryProcessor<K, V, R> processor) {
+        return manager.get().executeOnKey(key, processor);
+    }
+
+    @Override
+    public <K, V, R> Map<K, R> executeOnKeys(Iterable<K> keys, EntryProcessor<K, V, R> processor) {
+        return manager.get().executeOnKeys(keys, processor);
+    }
+
+    @Override
+    public <K, V, R> Map<K, R> executeOnEntries(EntryProcessor<K, V, R> processor, Predicate<K, V> predicate) {
+        return manager.get().executeOnEntries(processor, predicate);
+    }
+
+    @Override
+    public <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator) {
+        return manager.get().aggregate(aggregator);
+    }
+
+    @Override
+    public <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator, Predicate<K, V> predicate) {
+        return manager.get().aggregate(aggregator, predicate);
+    }
+
     @Override
     protected KeyValueEntityConverter getConverter() {
         return converter;
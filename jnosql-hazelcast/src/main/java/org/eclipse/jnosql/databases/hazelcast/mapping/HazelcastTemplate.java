@@ -14,10 +14,14 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.mapping;
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import jakarta.nosql.keyvalue.KeyValueTemplate;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 
 /**
@@ -47,6 +51,20 @@ public interface HazelcastTemplate extends KeyValueTemplate {
      */
     <T> Collection<T> sql(String query, Map<String, Object> params);
 
+    /**
+     * Creates a hazelcast predicate from a query with named params, so it can be used with paging or projection.
+     * E.g.:  template.sql(template.predicate("year > :year", singletonMap("year", 1990)), 0, 10)
+     *
+     * @param query  the query
+     * @param params the params to bind
+     * @param <K>    the key type
+     * @param <V>    the value type
+     * @return the hazelcast predicate
+     * @throws NullPointerException when there is null query or params
+     * @throws org.eclipse.jnosql.communication.CommunicationException when a param is missing or null
+     */
+    <K, V> Predicate<K, V> predicate(String query, Map<String, Object> params);
+
     /**
      * Executes hazelcast query
      *
@@ -58,4 +76,112 @@ public interface HazelcastTemplate extends KeyValueTemplate {
      */
     <K, V> Collection<V> sql(Predicate<K, V> predicate);
 
+    /**
+     * Executes hazelcast query returning a single page, the values are sorted by their natural order.
+     *
+     * @param predicate the hazelcast predicate
+     * @param page      the page, it starts at zero
+     * @param size      the page size
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @return the result query
+     * @throws NullPointerException     when there is null predicate
+     * @throws IllegalArgumentException when page is negative or size is not positive
+     */
+    <K, V> Collection<V> sql(Predicate<K, V> predicate, int page, int size);
+
+    /**
+     * Executes hazelcast query returning a single page
+     *
+     * @param predicate  the hazelcast predicate
+     * @param comparator the comparator to sort the entries, it must be serializable
+     * @param page       the page, it starts at zero
+     * @param size       the page size
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @return the result query
+     * @throws NullPointerException     when there is null predicate or comparator
+     * @throws IllegalArgumentException when page is negative or size is not positive
+     */
+    <K, V> Collection<V> sql(Predicate<K, V> predicate, Comparator<Map.Entry<K, V>> comparator, int page, int size);
+
+    /**
+     * Applies the projection on the entries that match the predicate, only the projected values are returned.
+     *
+     * @param projection the hazelcast projection
+     * @param predicate  the hazelcast predicate
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the projection result type
+     * @return the projected values
+     * @throws NullPointerException when there is null projection or predicate
+     */
+    <K, V, R> Collection<R> project(Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate);
+
+    /**
+     * Runs the entry processor on the member that owns the key, so the read-modify-write happens atomically
+     * without moving the value to the caller.
+     *
+     * @param key       the key
+     * @param processor the entry processor
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the processor result
+     * @throws NullPointerException when there is null key or processor
+     */
+    <K, V, R> R executeOnKey(K key, EntryProcessor<K, V, R> processor);
+
+    /**
+     * Runs the entry processor on the keys, each one on the member that owns it.
+     *
+     * @param keys      the keys
+     * @param processor the entry processor
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the processor result by key
+     * @throws NullPointerException when there is null keys or processor
+     */
+    <K, V, R> Map<K, R> executeOnKeys(Iterable<K> keys, EntryProcessor<K, V, R> processor);
+
+    /**
+     * Runs the entry processor on the entries that match the predicate.
+     *
+     * @param processor the entry processor
+     * @param predicate the hazelcast predicate
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the processor result by key
+     * @throws NullPointerException when there is null processor or predicate
+     */
+    <K, V, R> Map<K, R> executeOnEntries(EntryProcessor<K, V, R> processor, Predicate<K, V> predicate);
+
+    /**
+     * Runs the aggregation on all entries, E.g.: {@link com.hazelcast.aggregation.Aggregators#count()},
+     * each member aggregates its partitions and only the results are combined.
+     *
+     * @param aggregator the hazelcast aggregator
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the result type
+     * @return the aggregation result
+     * @throws NullPointerException when there is null aggregator
+     */
+    <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator);
+
+    /**
+     * Runs the aggregation on the entries that match the predicate.
+     *
+     * @param aggregator the hazelcast aggregator
+     * @param predicate  the hazelcast predicate
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the result type
+     * @return the aggregation result
+     * @throws NullPointerException when there is null aggregator or predicate
+     */
+    <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator, Predicate<K, V> predicate);
+
 }
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hazelcast.communication;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.map.EntryProcessor;
+import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.databases.hazelcast.communication.model.Movie;
+import org.eclipse.jnosql.databases.hazelcast.communication.util.KeyValueEntityManagerFactoryUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.query.Predicates.equal;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HazelcastBucketManagerProcessorTest {
+
+    private HazelcastBucketManager bucketManager;
+
+    @BeforeEach
+    public void init() {
+        BucketManagerFactory keyValueEntityManagerFactory = KeyValueEntityManagerFactoryUtils.get();
+        bucketManager = (HazelcastBucketManager) keyValueEntityManagerFactory.apply("movies-processor");
+
+        bucketManager.put("matrix", new Movie("Matrix", 1999, false));
+        bucketManager.put("star_wars", new Movie("Star Wars: The Last Jedi", 2017, true));
+        bucketManager.put("grease", new Movie("Grease", 1978, false));
+        bucketManager.put("justice_league", new Movie("Justice league", 2017, true));
+        bucketManager.put("avengers", new Movie("The Avengers", 2012, false));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenProcessorIsNull() {
+        assertThrows(NullPointerException.class, () -> bucketManager.executeOnKey("matrix", null));
+        assertThrows(NullPointerException.class, () -> bucketManager.aggregate(null));
+    }
+
+    @Test
+    public void shouldExecuteOnKey() {
+        Integer year = bucketManager.executeOnKey("matrix", activate());
+        assertEquals(1999, year);
+        assertTrue(bucketManager.get("matrix").orElseThrow().get(Movie.class).isActive());
+    }
+
+    @Test
+    public void shouldExecuteOnKeys() {
+        Map<String, Integer> years = bucketManager.executeOnKeys(asList("matrix", "grease"), activate());
+        assertThat(years).containsEntry("matrix", 1999).containsEntry("grease", 1978).hasSize(2);
+        assertTrue(bucketManager.get("grease").orElseThrow().get(Movie.class).isActive());
+    }
+
+    @Test
+    public void shouldExecuteOnEntries() {
+        Map<String, Integer> years = bucketManager.executeOnEntries(activate(), equal("year", 2012));
+        assertThat(years).containsOnlyKeys("avengers");
+        assertTrue(bucketManager.get("avengers").orElseThrow().get(Movie.class).isActive());
+    }
+
+    @Test
+    public void shouldCount() {
+        Long count = bucketManager.aggregate(Aggregators.count());
+        assertEquals(5L, count);
+    }
+
+    @Test
+    public void shouldCountWithPredicate() {
+        Long count = bucketManager.aggregate(Aggregators.count(), equal("active", true));
+        assertEquals(2L, count);
+    }
+
+    @Test
+    public void shouldSumAndAverage() {
+        Long sum = bucketManager.aggregate(Aggregators.integerSum("year"), equal("active", true));
+        Double avg = bucketManager.aggregate(Aggregators.integerAvg("year"), equal("active", true));
+        assertEquals(4034L, sum);
+        assertEquals(2017D, avg);
+    }
+
+    @Test
+    public void shouldDistinct() {
+        Set<Integer> years = bucketManager.aggregate(Aggregators.distinct("year"));
+        assertThat(years).containsExactlyInAnyOrder(1999, 2017, 1978, 2012);
+    }
+
+    private static EntryProcessor<String, Movie, Integer> activate() {
+        return entry -> {
+            Movie movie = entry.getValue();
+            movie.setActive(true);
+            entry.setValue(movie);
+            return movie.getYear();
+        };
+    }
+}
@@ -14,7 +14,9 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
+import com.hazelcast.projection.Projections;
 import com.hazelcast.query.Predicate;
+import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.databases.hazelcast.communication.util.KeyValueEntityManagerFactoryUtils;
@@ -22,15 +24,22 @@ import org.eclipse.jnosql.databases.hazelcast.communication.model.Movie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.hazelcast.query.Predicates.and;
 import static com.hazelcast.query.Predicates.equal;
 import static com.hazelcast.query.Predicates.greaterEqual;
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class HazelcastBucketManagerQueryTest {
@@ -122,4 +131,98 @@ public class HazelcastBucketManagerQueryTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    public void shouldNotRenderParamIntoQuery() {
+        Collection<Value> result = bucketManager.sql("name = :name", singletonMap("name", "Matrix OR active"));
+        assertEquals(0, result.size());
+    }
+
+    @Test
+    public void shouldReturnInParam() {
+        Collection<Value> result = bucketManager.sql("name IN (:names)",
+                singletonMap("names", Arrays.asList("Matrix", "Grease")));
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    public void shouldReturnBetweenParam() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("start", 2000);
+        params.put("end", 2015);
+        Collection<Value> result = bucketManager.sql("year BETWEEN :start AND :end", params);
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    public void shouldCompareParamWithTheAttributeType() {
+        Collection<Value> result = bucketManager.sql("year > :year", singletonMap("year", 999));
+        assertEquals(5, result.size());
+    }
+
+    @Test
+    public void shouldEscapeQuoteAtParam() {
+        bucketManager.put("schindler", new Movie("Schindler's List", 1993, false));
+        try {
+            Collection<Value> result = bucketManager.sql("name = :name", singletonMap("name", "Schindler's List"));
+            assertEquals(1, result.size());
+        } finally {
+            bucketManager.delete("schindler");
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamIsNull() {
+        assertThrows(CommunicationException.class, () -> bucketManager.sql("name like :name",
+                singletonMap("name", null)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamIsMissing() {
+        assertThrows(CommunicationException.class, () -> bucketManager.sql("name = :name AND year > :year",
+                singletonMap("name", "Matrix")));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenInParamIsEmpty() {
+        assertThrows(CommunicationException.class, () -> bucketManager.sql("name IN (:names)",
+                singletonMap("names", List.of())));
+    }
+
+    @Test
+    public void shouldCompareNumberLiteralAsNumber() {
+        Collection<Value> result = bucketManager.sql("year > 999 AND name = :name", singletonMap("name", "Matrix"));
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    public void shouldCompileQueryOnce() {
+        assertSame(HazelcastQuery.of("name = :name AND year > :year"),
+                HazelcastQuery.of("name = :name AND year > :year"));
+    }
+
+    @Test
+    public void shouldReturnPage() {
+        Comparator<Map.Entry<String, Movie>> comparator = (Comparator<Map.Entry<String, Movie>> & Serializable)
+                (a, b) -> a.getValue().getYear().compareTo(b.getValue().getYear());
+        Predicate<String, Movie> predicate = bucketManager.predicate("year > :year", singletonMap("year", 1990));
+
+        List<Movie> first = bucketManager.sql(predicate, comparator, 0, 2)
+                .stream().map(v -> v.get(Movie.class)).collect(Collectors.toList());
+        List<Movie> second = bucketManager.sql(predicate, comparator, 1, 2)
+                .stream().map(v -> v.get(Movie.class)).collect(Collectors.toList());
+
+        assertEquals(2, first.size());
+        assertEquals(2, second.size());
+        assertEquals(1999, first.get(0).getYear());
+        assertEquals(2012, first.get(1).getYear());
+        assertEquals(2017, second.get(0).getYear());
+    }
+
+    @Test
+    public void shouldProject() {
+        Collection<String> names = bucketManager.project(Projections.singleAttribute("name"),
+                bucketManager.predicate("active = :active", singletonMap("active", true)));
+        assertThat(names).containsOnly("Star Wars: The Last Jedi", "Justice league");
+    }
+
 }
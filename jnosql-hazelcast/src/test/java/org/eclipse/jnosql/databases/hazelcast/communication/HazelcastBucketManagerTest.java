@@ -25,6 +25,7 @@ import org.eclipse.jnosql.databases.hazelcast.communication.util.KeyValueEntityM
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -85,6 +86,29 @@ public class HazelcastBucketManagerTest {
         assertEquals(userSoro, soro.get().get(User.class));
     }
 
+    @Test
+    public void shouldPutIterableKeyValueWithTTL() {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio), Duration.ofMinutes(1L));
+
+        Optional<Value> otavio = keyValueEntityManager.get("otavio");
+        assertTrue(otavio.isPresent());
+        assertEquals(userOtavio, otavio.get().get(User.class));
+
+        Optional<Value> soro = keyValueEntityManager.get("soro");
+        assertTrue(soro.isPresent());
+        assertEquals(userSoro, soro.get().get(User.class));
+    }
+
+    @Test
+    public void shouldMultiGetInKeyOrder() {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio));
+        Iterable<Value> values = keyValueEntityManager.get(asList("otavio", "not_found", "soro"));
+        assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class))
+                .collect(Collectors.toList()))
+                .containsExactly(userOtavio, userSoro);
+    }
+
     @Test
     public void shouldMultiGet() {
         User user = new User("otavio");
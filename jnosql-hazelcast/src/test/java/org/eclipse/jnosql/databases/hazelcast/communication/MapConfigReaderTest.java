@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hazelcast.communication;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.databases.hazelcast.communication.model.Movie;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static com.hazelcast.query.Predicates.greaterThan;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MapConfigReaderTest {
+
+    @Test
+    public void shouldApplyToEveryBucket() {
+        Settings settings = Settings.builder()
+                .put(HazelcastConfigurations.MAP_IN_MEMORY_FORMAT, "object")
+                .put(HazelcastConfigurations.MAP_BACKUP_COUNT, "2")
+                .build();
+        Config config = new Config();
+        MapConfigReader.apply(settings, config);
+
+        MapConfig movies = config.getMapConfig("movies");
+        assertEquals(InMemoryFormat.OBJECT, movies.getInMemoryFormat());
+        assertEquals(2, movies.getBackupCount());
+        assertNull(movies.getNearCacheConfig());
+    }
+
+    @Test
+    public void shouldApplyToBucket() {
+        Settings settings = Settings.builder()
+                .put(HazelcastConfigurations.MAP_IN_MEMORY_FORMAT.get() + ".movies", "OBJECT")
+                .put(HazelcastConfigurations.MAP_ASYNC_BACKUP_COUNT.get() + ".movies", "1")
+                .put(HazelcastConfigurations.MAP_SORTED_INDEX.get() + ".movies", "year, name")
+                .put(HazelcastConfigurations.MAP_HASH_INDEX.get() + ".movies", "active")
+                .put(HazelcastConfigurations.MAP_NEAR_CACHE_SIZE.get() + ".movies", "100")
+                .put(HazelcastConfigurations.MAP_NEAR_CACHE_EVICTION.get() + ".movies", "lfu")
+                .put(HazelcastConfigurations.MAP_NEAR_CACHE_INVALIDATE.get() + ".movies", "false")
+                .build();
+        Config config = new Config();
+        MapConfigReader.apply(settings, config);
+
+        MapConfig movies = config.getMapConfig("movies");
+        assertEquals(InMemoryFormat.OBJECT, movies.getInMemoryFormat());
+        assertEquals(1, movies.getAsyncBackupCount());
+        assertThat(movies.getIndexConfigs()).extracting(IndexConfig::getType, i -> i.getAttributes().get(0))
+                .containsExactlyInAnyOrder(tuple(IndexType.SORTED, "year"),
+                        tuple(IndexType.SORTED, "name"),
+                        tuple(IndexType.HASH, "active"));
+
+        NearCacheConfig nearCache = movies.getNearCacheConfig();
+        assertNotNull(nearCache);
+        assertEquals(100, nearCache.getEvictionConfig().getSize());
+        assertEquals(EvictionPolicy.LFU, nearCache.getEvictionConfig().getEvictionPolicy());
+        assertFalse(nearCache.isInvalidateOnChange());
+
+        MapConfig users = config.getMapConfig("users");
+        assertEquals(InMemoryFormat.BINARY, users.getInMemoryFormat());
+        assertTrue(users.getIndexConfigs().isEmpty());
+    }
+
+    @Test
+    public void shouldUseConfigurationOnEmbeddedMember() {
+        Settings settings = Settings.builder()
+                .put(HazelcastConfigurations.MAP_IN_MEMORY_FORMAT.get() + ".movies-config", "OBJECT")
+                .put(HazelcastConfigurations.MAP_SORTED_INDEX.get() + ".movies-config", "year")
+                .put(HazelcastConfigurations.MAP_NEAR_CACHE_SIZE.get() + ".movies-config", "100")
+                .put(HazelcastConfigurations.MAP_NEAR_CACHE_LOCAL_ENTRIES.get() + ".movies-config", "true")
+                .build();
+        Config config = new Config("map-config-reader");
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getAutoDetectionConfig().setEnabled(false);
+        MapConfigReader.apply(settings, config);
+
+        HazelcastInstance instance = Hazelcast.newHazelcastInstance(config);
+        try {
+            HazelcastBucketManager manager = new DefaultHazelcastBucketManagerFactory(instance).apply("movies-config");
+            manager.put("matrix", new Movie("Matrix", 1999, false));
+            manager.put("avengers", new Movie("The Avengers", 2012, false));
+
+            manager.get("matrix");
+            manager.get("matrix");
+            Collection<?> result = manager.sql(greaterThan("year", 2000));
+            assertEquals(1, result.size());
+
+            IMap<Object, Object> map = instance.getMap("movies-config");
+            assertThat(map.getLocalMapStats().getNearCacheStats().getHits()).isPositive();
+            assertThat(map.getLocalMapStats().getIndexStats()).isNotEmpty();
+        } finally {
+            instance.shutdown();
+        }
+    }
+}
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.mapping;
 
+import com.hazelcast.query.Predicate;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueWorkflow;
@@ -28,6 +29,7 @@ import java.util.Collection;
 
 import static com.hazelcast.query.Predicates.equal;
 import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -62,4 +64,10 @@ public class DefaultHazelcastTemplateTest {
         assertTrue(people.stream().allMatch(Person.class::isInstance));
     }
 
+    @Test
+    public void shouldCreatePredicate() {
+        Predicate<String, Person> predicate = template.predicate("age = :age", singletonMap("age", 10));
+        assertEquals(equal("age", 10), predicate);
+    }
+
 }
\ No newline at end of file
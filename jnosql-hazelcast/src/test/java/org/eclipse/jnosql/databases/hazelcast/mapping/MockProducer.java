@@ -16,6 +16,7 @@ package org.eclipse.jnosql.databases.hazelcast.mapping;
 
 
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Alternative;
@@ -50,6 +51,7 @@ public class MockProducer implements Supplier<HazelcastBucketManager> {
         when(manager.sql(anyString())).thenReturn(people);
         when(manager.sql(anyString(), any(Map.class))).thenReturn(people);
         when(manager.sql(any(Predicate.class))).thenReturn(people);
+        when(manager.predicate(anyString(), any(Map.class))).thenReturn(Predicates.equal("age", 10));
         return manager;
     }
 
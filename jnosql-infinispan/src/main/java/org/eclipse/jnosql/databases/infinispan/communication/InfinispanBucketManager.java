@@ -18,28 +18,47 @@ package org.eclipse.jnosql.databases.infinispan.communication;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.infinispan.Cache;
+import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.commons.api.BasicCache;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * The Infinispan implementation of {@link BucketManager}
  */
 public class InfinispanBucketManager implements BucketManager {
 
+    private static final int CHUNK_SIZE = 1_000;
+
     private final BasicCache cache;
 
     private final String bucket;
 
+    private final boolean bulk;
+
     InfinispanBucketManager(BasicCache cache, String bucket) {
         this.cache = cache;
         this.bucket = bucket;
+        this.bulk = isBulk(cache);
     }
 
     @Override
@@ -64,12 +83,24 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        requireNonNull(entities, "entities is required");
+        if (bulk) {
+            chunks(entities).forEach(cache::putAll);
+        } else {
+            entities.forEach(this::put);
+        }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(kv -> this.put(kv, ttl));
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        if (bulk) {
+            long millis = ttl.toMillis();
+            chunks(entities).forEach(values -> cache.putAll(values, millis, TimeUnit.MILLISECONDS));
+        } else {
+            entities.forEach(entity -> put(entity, ttl));
+        }
     }
 
     @Override
@@ -83,8 +114,25 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) cache::get).filter(Objects::nonNull)
-                .map(Value::of).collect(Collectors.toList());
+        requireNonNull(keys, "keys is required");
+        if (!bulk) {
+            return StreamSupport.stream(keys.spliterator(), false).map(cache::get).filter(Objects::nonNull)
+                    .map(Value::of).collect(Collectors.toList());
+        }
+        List<K> ids = StreamSupport.stream(keys.spliterator(), false).collect(Collectors.toList());
+        Map<Object, Object> values = new HashMap<>();
+        Set<Object> chunk = new HashSet<>();
+        for (K id : ids) {
+            chunk.add(id);
+            if (chunk.size() == CHUNK_SIZE) {
+                values.putAll(getAll(chunk));
+                chunk = new HashSet<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            values.putAll(getAll(chunk));
+        }
+        return ids.stream().map(values::get).filter(Objects::nonNull).map(Value::of).collect(Collectors.toList());
     }
 
     @Override
@@ -94,10 +142,216 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        requireNonNull(keys, "keys is required");
+        if (bulk) {
+            join(deleteAsync(keys).toCompletableFuture());
+        } else {
+            keys.forEach(cache::remove);
+        }
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously
+     *
+     * @param entity the entity to be put
+     * @return the {@link CompletionStage} that completes when the entity is saved
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return cache.putAsync(entity.key(), entity.value()).thenApply(v -> null);
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously with time to live
+     *
+     * @param entity the entity to be put
+     * @param ttl    the time to live
+     * @return the {@link CompletionStage} that completes when the entity is saved
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return cache.putAsync(entity.key(), entity.value(), ttl.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(v -> null);
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously using bulk operations of up to {@value #CHUNK_SIZE} entries,
+     * the bulk operations run concurrently.
+     *
+     * @param entities the entities to be put
+     * @return the {@link CompletionStage} that completes when all entities are saved
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<Void> putAsync(Iterable<KeyValueEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletableFuture.allOf(chunks(entities).stream()
+                .map(cache::putAllAsync)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously with time to live using bulk operations of up to
+     * {@value #CHUNK_SIZE} entries, the bulk operations run concurrently.
+     *
+     * @param entities the entities to be put
+     * @param ttl      the time to live
+     * @return the {@link CompletionStage} that completes when all entities are saved
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    public CompletionStage<Void> putAsync(Iterable<KeyValueEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        long millis = ttl.toMillis();
+        return CompletableFuture.allOf(chunks(entities).stream()
+                .map(values -> cache.putAllAsync(values, millis, TimeUnit.MILLISECONDS))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Finds the Value from a key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} with the {@link Optional} value
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Optional<Value>> getAsync(K key) {
+        requireNonNull(key, "key is required");
+        return cache.getAsync(key).thenApply(value -> Optional.ofNullable(value).map(Value::of));
+    }
+
+    /**
+     * Finds the values from the keys asynchronously in a single bulk operation, the result keeps the keys order
+     * and ignores the keys without value.
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} with the values
+     * @throws NullPointerException when keys is null
+     */
+    public <K> CompletionStage<Iterable<Value>> getAsync(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        List<K> ids = StreamSupport.stream(keys.spliterator(), false).collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        CompletableFuture<Map<Object, Object>> values = cache.getAllAsync(new HashSet<>(ids));
+        return values.thenApply(result -> ids.stream().map(result::get).filter(Objects::nonNull)
+                .map(Value::of).collect(Collectors.toList()));
+    }
+
+    /**
+     * Removes an entity from the key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} that completes when the key is removed
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        requireNonNull(key, "key is required");
+        return cache.removeAsync(key).thenApply(v -> null);
+    }
+
+    /**
+     * Removes the entities from the keys asynchronously. The removals are sent in chunks
+     * of {@value #CHUNK_SIZE} keys, each chunk waits for the previous one.
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} that completes when all keys are removed
+     * @throws NullPointerException when keys is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+        List<Object> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (K key : keys) {
+            chunk.add(key);
+            if (chunk.size() == CHUNK_SIZE) {
+                result = remove(result, chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result = remove(result, chunk);
+        }
+        return result;
     }
 
     @Override
     public void close() {
     }
+
+    /**
+     * The bulk operations save round trips, so they pay off on Hot Rod and on clustered caches. On a local embedded
+     * cache each operation is a call in the same JVM, where the operation per key is faster than the bulk one.
+     */
+    private static boolean isBulk(BasicCache cache) {
+        if (cache instanceof Cache) {
+            return ((Cache<?, ?>) cache).getCacheConfiguration().clustering().cacheMode().isClustered();
+        }
+        return true;
+    }
+
+    /**
+     * Both the embedded {@link org.infinispan.AdvancedCache} and the {@link RemoteCache} read many keys at once,
+     * {@link BasicCache} only has the async version.
+     */
+    private Map<Object, Object> getAll(Set<Object> keys) {
+        if (cache instanceof Cache) {
+            return ((Cache<Object, Object>) cache).getAdvancedCache().getAll(keys);
+        } else if (cache instanceof RemoteCache) {
+            return ((RemoteCache<Object, Object>) cache).getAll(keys);
+        }
+        Map<Object, Object> values = new HashMap<>();
+        for (Object key : keys) {
+            Object value = cache.get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    private CompletableFuture<Void> remove(CompletableFuture<Void> previous, List<Object> keys) {
+        return previous.thenCompose(v -> CompletableFuture.allOf(keys.stream()
+                .map(cache::removeAsync)
+                .toArray(CompletableFuture[]::new)));
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private static List<Map<Object, Object>> chunks(Iterable<KeyValueEntity> entities) {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        for (KeyValueEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            values.put(entity.key(), entity.value());
+        }
+        List<Map<Object, Object>> chunks = new ArrayList<>();
+        Map<Object, Object> chunk = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == CHUNK_SIZE) {
+                chunks.add(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
 }
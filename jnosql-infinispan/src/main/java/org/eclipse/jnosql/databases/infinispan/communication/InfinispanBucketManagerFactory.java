@@ -29,6 +29,8 @@ import java.util.Set;
  */
 public class InfinispanBucketManagerFactory implements BucketManagerFactory {
 
+    private static final String NAMESPACE = "jnosql:";
+
     private final BasicCacheContainer cacheContainer;
 
     InfinispanBucketManagerFactory(BasicCacheContainer cacheContainer) {
@@ -41,19 +43,58 @@ public class InfinispanBucketManagerFactory implements BucketManagerFactory {
         return new InfinispanBucketManager(cacheContainer.getCache(bucketName), bucketName);
     }
 
+    /**
+     * Returns a list kept at the cache named bucketName, one entry per element, see {@link InfinispanStructure}.
+     * The keys of the list start with {@code jnosql:list:} followed by the element class name, so each element
+     * type has its own list and the keys do not collide with the ones of the {@link InfinispanBucketManager}.
+     * The cache may be clustered and shared among several processes.
+     *
+     * @param bucketName the cache name
+     * @param clazz      the element type
+     * @param <T>        the element type
+     * @return the list
+     * @throws NullPointerException when either bucketName or clazz is null
+     */
     @Override
     public <T> List<T> getList(String bucketName, Class<T> clazz) {
-        throw new UnsupportedOperationException();
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(clazz, "clazz is required");
+        return new InfinispanList<>(InfinispanStructure.of(cacheContainer.getCache(bucketName),
+                namespace("list", clazz)));
     }
 
+    /**
+     * Returns a set kept at the cache named bucketName, under the {@code jnosql:set:} keys, see {@link #getList(String, Class)}.
+     *
+     * @param bucketName the cache name
+     * @param clazz      the element type
+     * @param <T>        the element type
+     * @return the set
+     * @throws NullPointerException when either bucketName or clazz is null
+     */
     @Override
     public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
-        throw new UnsupportedOperationException();
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(clazz, "clazz is required");
+        return new InfinispanSet<>(InfinispanStructure.indexed(cacheContainer.getCache(bucketName),
+                namespace("set", clazz)));
     }
 
+    /**
+     * Returns a queue kept at the cache named bucketName, under the {@code jnosql:queue:} keys, see {@link #getList(String, Class)}.
+     *
+     * @param bucketName the cache name
+     * @param clazz      the element type
+     * @param <T>        the element type
+     * @return the queue
+     * @throws NullPointerException when either bucketName or clazz is null
+     */
     @Override
     public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
-        throw new UnsupportedOperationException();
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(clazz, "clazz is required");
+        return new InfinispanQueue<>(InfinispanStructure.of(cacheContainer.getCache(bucketName),
+                namespace("queue", clazz)));
     }
 
     @Override
@@ -65,4 +106,8 @@ public class InfinispanBucketManagerFactory implements BucketManagerFactory {
     public void close() {
 
     }
+
+    private static String namespace(String structure, Class<?> clazz) {
+        return NAMESPACE + structure + ':' + clazz.getName();
+    }
 }
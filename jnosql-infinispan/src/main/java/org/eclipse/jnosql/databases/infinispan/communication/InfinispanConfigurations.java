@@ -26,13 +26,64 @@ import java.util.function.Supplier;
 public enum InfinispanConfigurations implements Supplier<String> {
 
     /**
-     * Database's host. It is a prefix to enumerate hosts. E.g.: jnosql.infinispan.host.1=HOST
+     * Database's host. It is a prefix to enumerate hosts. E.g.: jnosql.infinispan.host.1=HOST or
+     * jnosql.infinispan.host.1=HOST:PORT
      */
     HOST("jnosql.infinispan.host"),
     /**
      * The Infinispan configuration path. E.g.: jnosql.infinispan.config=infinispan.xml
      */
-    CONFIG("jnosql.infinispan.config");
+    CONFIG("jnosql.infinispan.config"),
+    /**
+     * The Hot Rod near cache mode: DISABLED or INVALIDATED.
+     */
+    NEAR_CACHE_MODE("jnosql.infinispan.near.cache.mode"),
+    /**
+     * The maximum number of entries in the Hot Rod near cache, a negative value means unbounded.
+     */
+    NEAR_CACHE_MAX_ENTRIES("jnosql.infinispan.near.cache.max.entries"),
+    /**
+     * The regular expression of the cache names that use the Hot Rod near cache, by default all caches.
+     */
+    NEAR_CACHE_NAME_PATTERN("jnosql.infinispan.near.cache.name.pattern"),
+    /**
+     * The Hot Rod marshaller class. E.g.: jnosql.infinispan.marshaller=org.infinispan.commons.marshall.ProtoStreamMarshaller
+     */
+    MARSHALLER("jnosql.infinispan.marshaller"),
+    /**
+     * The ProtoStream SerializationContextInitializer classes of the values. It is a prefix to enumerate them.
+     * E.g.: jnosql.infinispan.context.initializer.1=com.acme.BookSchemaImpl
+     */
+    CONTEXT_INITIALIZER("jnosql.infinispan.context.initializer"),
+    /**
+     * The regular expressions of the classes allowed by the Java serialization marshaller, separated by comma.
+     */
+    JAVA_SERIAL_ALLOW_LIST("jnosql.infinispan.java.serial.allow.list"),
+    /**
+     * The maximum number of connections per server in the Hot Rod connection pool.
+     */
+    CONNECTION_POOL_MAX_ACTIVE("jnosql.infinispan.connection.pool.max.active"),
+    /**
+     * The minimum number of idle connections per server in the Hot Rod connection pool.
+     */
+    CONNECTION_POOL_MIN_IDLE("jnosql.infinispan.connection.pool.min.idle"),
+    /**
+     * The time, in milliseconds, to wait for a connection when the Hot Rod connection pool is exhausted.
+     */
+    CONNECTION_POOL_MAX_WAIT("jnosql.infinispan.connection.pool.max.wait"),
+    /**
+     * The maximum number of requests waiting for a connection when the Hot Rod connection pool is exhausted.
+     */
+    CONNECTION_POOL_MAX_PENDING_REQUESTS("jnosql.infinispan.connection.pool.max.pending.requests"),
+    /**
+     * The number of threads of the Hot Rod async executor.
+     */
+    ASYNC_EXECUTOR_POOL_SIZE("jnosql.infinispan.async.executor.pool.size"),
+    /**
+     * The Hot Rod client intelligence: BASIC, TOPOLOGY_AWARE or HASH_DISTRIBUTION_AWARE, which sends each request
+     * to the server that owns the key.
+     */
+    CLIENT_INTELLIGENCE("jnosql.infinispan.client.intelligence");
 
     private final String configuration;
 
@@ -21,6 +21,9 @@ import org.eclipse.jnosql.communication.SettingsBuilder;
 
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.configuration.ClientIntelligence;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.impl.ConfigurationProperties;
 import org.infinispan.configuration.global.GlobalConfigurationBuilder;
 import org.infinispan.manager.DefaultCacheManager;
 
@@ -78,11 +81,7 @@ public class InfinispanKeyValueConfiguration implements KeyValueConfiguration {
         Optional<String> config = settings.get(InfinispanConfigurations.CONFIG)
                 .map(Object::toString);
         if (!servers.isEmpty()) {
-            org.infinispan.client.hotrod.configuration.ConfigurationBuilder builder = new org.infinispan.client.hotrod.configuration.ConfigurationBuilder();
-            for(String server : servers) {
-                builder.addServer().host(server);
-            }
-            return  new InfinispanBucketManagerFactory(new RemoteCacheManager(builder.build()));
+            return  new InfinispanBucketManagerFactory(new RemoteCacheManager(remoteConfiguration(servers, settings)));
         } else if (config.isPresent()) {
             try {
                 return new InfinispanBucketManagerFactory(new DefaultCacheManager(config.get()));
@@ -95,4 +94,78 @@ public class InfinispanKeyValueConfiguration implements KeyValueConfiguration {
             return new InfinispanBucketManagerFactory(new DefaultCacheManager(builder.build()));
         }
     }
+
+    org.infinispan.client.hotrod.configuration.Configuration remoteConfiguration(List<String> servers, Settings settings) {
+        org.infinispan.client.hotrod.configuration.ConfigurationBuilder builder = new org.infinispan.client.hotrod.configuration.ConfigurationBuilder();
+        for (String server : servers) {
+            int separator = server.lastIndexOf(':');
+            if (separator > 0) {
+                builder.addServer().host(server.substring(0, separator))
+                        .port(Integer.parseInt(server.substring(separator + 1)));
+            } else {
+                builder.addServer().host(server);
+            }
+        }
+
+        settings.get(InfinispanConfigurations.NEAR_CACHE_MODE)
+                .map(Object::toString)
+                .map(String::toUpperCase)
+                .map(NearCacheMode::valueOf)
+                .ifPresent(builder.nearCache()::mode);
+
+        settings.get(InfinispanConfigurations.NEAR_CACHE_MAX_ENTRIES)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .ifPresent(builder.nearCache()::maxEntries);
+
+        settings.get(InfinispanConfigurations.NEAR_CACHE_NAME_PATTERN)
+                .map(Object::toString)
+                .ifPresent(builder.nearCache()::cacheNamePattern);
+
+        settings.get(InfinispanConfigurations.MARSHALLER)
+                .map(Object::toString)
+                .ifPresent(builder::marshaller);
+
+        settings.prefix(InfinispanConfigurations.CONTEXT_INITIALIZER)
+                .stream().map(Object::toString)
+                .forEach(builder::addContextInitializer);
+
+        settings.get(InfinispanConfigurations.JAVA_SERIAL_ALLOW_LIST)
+                .map(Object::toString)
+                .map(list -> list.split(","))
+                .ifPresent(builder::addJavaSerialAllowList);
+
+        settings.get(InfinispanConfigurations.CONNECTION_POOL_MAX_ACTIVE)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .ifPresent(builder.connectionPool()::maxActive);
+
+        settings.get(InfinispanConfigurations.CONNECTION_POOL_MIN_IDLE)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .ifPresent(builder.connectionPool()::minIdle);
+
+        settings.get(InfinispanConfigurations.CONNECTION_POOL_MAX_WAIT)
+                .map(Object::toString)
+                .map(Long::parseLong)
+                .ifPresent(builder.connectionPool()::maxWait);
+
+        settings.get(InfinispanConfigurations.CONNECTION_POOL_MAX_PENDING_REQUESTS)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .ifPresent(builder.connectionPool()::maxPendingRequests);
+
+        settings.get(InfinispanConfigurations.ASYNC_EXECUTOR_POOL_SIZE)
+                .map(Object::toString)
+                .ifPresent(size -> builder.asyncExecutorFactory()
+                        .addExecutorProperty(ConfigurationProperties.DEFAULT_EXECUTOR_FACTORY_POOL_SIZE, size));
+
+        settings.get(InfinispanConfigurations.CLIENT_INTELLIGENCE)
+                .map(Object::toString)
+                .map(String::toUpperCase)
+                .map(ClientIntelligence::valueOf)
+                .ifPresent(builder::clientIntelligence);
+
+        return builder.build();
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   The Infinispan Team
+ */
+
+package org.eclipse.jnosql.databases.infinispan.communication;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/**
+ * A {@link List} kept at an Infinispan cache, one entry per element, see {@link InfinispanStructure}. The access by
+ * index reads a single entry, and adding or removing at either end takes a single position. The list iterator
+ * works on a snapshot of the list.
+ *
+ * @param <T> the element type
+ */
+final class InfinispanList<T> extends AbstractList<T> {
+
+    private final InfinispanStructure<T> structure;
+
+    InfinispanList(InfinispanStructure<T> structure) {
+        this.structure = structure;
+    }
+
+    @Override
+    public T get(int index) {
+        return structure.get(index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element, "element is required");
+        return structure.set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.requireNonNull(element, "element is required");
+        structure.add(index, element);
+    }
+
+    @Override
+    public T remove(int index) {
+        return structure.remove(index);
+    }
+
+    @Override
+    public boolean add(T element) {
+        Objects.requireNonNull(element, "element is required");
+        structure.add(element);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        return structure.remove(element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        List<T> values = new ArrayList<>(elements);
+        values.forEach(e -> Objects.requireNonNull(e, "element is required"));
+        structure.addAll(values);
+        return !values.isEmpty();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        Objects.requireNonNull(elements, "elements is required");
+        return structure.retain(e -> !elements.contains(e));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        Objects.requireNonNull(elements, "elements is required");
+        return structure.retain(elements::contains);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return structure.indexOf(element) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return structure.indexOf(element);
+    }
+
+    @Override
+    public int size() {
+        return structure.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return structure.size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        structure.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return structure.iterator(this::remove);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        List<T> snapshot = new ArrayList<>();
+        structure.iterator(e -> {
+        }).forEachRemaining(snapshot::add);
+        return List.copyOf(snapshot).listIterator(index);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   The Infinispan Team
+ */
+
+package org.eclipse.jnosql.databases.infinispan.communication;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * A FIFO {@link Queue} kept at an Infinispan cache, one entry per element, see {@link InfinispanStructure}.
+ * {@link #offer(Object)} and {@link #poll()} reserve a single position atomically, so concurrent consumers never
+ * take the same element. The iterator loads the elements in chunks.
+ *
+ * @param <T> the element type
+ */
+final class InfinispanQueue<T> extends AbstractQueue<T> {
+
+    private final InfinispanStructure<T> structure;
+
+    InfinispanQueue(InfinispanStructure<T> structure) {
+        this.structure = structure;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        Objects.requireNonNull(element, "element is required");
+        structure.add(element);
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        return structure.removeFirst();
+    }
+
+    @Override
+    public T peek() {
+        return structure.first();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        List<T> values = new ArrayList<>(elements);
+        values.forEach(e -> Objects.requireNonNull(e, "element is required"));
+        structure.addAll(values);
+        return !values.isEmpty();
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        return structure.remove(element);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        Objects.requireNonNull(elements, "elements is required");
+        return structure.retain(e -> !elements.contains(e));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        Objects.requireNonNull(elements, "elements is required");
+        return structure.retain(elements::contains);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return structure.indexOf(element) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return structure.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return structure.size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        structure.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return structure.iterator(this::remove);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   The Infinispan Team
+ */
+
+package org.eclipse.jnosql.databases.infinispan.communication;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link Set} kept at an Infinispan cache, one entry per element, see {@link InfinispanStructure}. The membership
+ * is indexed by the element hash, so adding, removing and checking an element read and write only the entries of
+ * that element. The iterator loads the elements in chunks.
+ *
+ * @param <T> the element type
+ */
+final class InfinispanSet<T> extends AbstractSet<T> {
+
+    private final InfinispanStructure<T> structure;
+
+    InfinispanSet(InfinispanStructure<T> structure) {
+        this.structure = structure;
+    }
+
+    @Override
+    public boolean add(T element) {
+        Objects.requireNonNull(element, "element is required");
+        return structure.addMember(element);
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        return structure.removeMember(element);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return structure.containsMember(element);
+    }
+
+    @Override
+    public int size() {
+        return structure.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return structure.size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        structure.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return structure.iterator(this::remove);
+    }
+}
@@ -0,0 +1,634 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.infinispan.communication;
+
+import org.infinispan.Cache;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.commons.api.BasicCache;
+import org.infinispan.functional.EntryView;
+import org.infinispan.functional.FunctionalMap;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+import org.infinispan.util.function.SerializableFunction;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * A sequence of elements kept at an Infinispan cache where each element is an entry of its own, so an operation
+ * moves only the elements it touches, never the whole structure. All the keys start with the structure namespace:
+ * <ul>
+ *     <li>{@code namespace} keeps the bounds, the head and tail positions and the number of gaps, as text, so any
+ *     marshaller reads them and the Hot Rod compute compares them by value;</li>
+ *     <li>{@code namespace:position} keeps the element at that position;</li>
+ *     <li>{@code namespace#hash} keeps, on a set, the positions of the elements with that hash.</li>
+ * </ul>
+ * The bounds and the set index change atomically: on an embedded cache through
+ * {@link FunctionalMap.ReadWriteMap#eval(Object, SerializableFunction)}, which in clustered mode runs on the owner of
+ * the entry, and on a remote cache through {@link BasicCache#compute(Object, java.util.function.BiFunction)}, which
+ * the Hot Rod client applies with a versioned replace of that small entry. Thus, adding and taking at both ends, and
+ * the set membership, are safe among several processes: a position is reserved once, so concurrent consumers never
+ * take the same element. The operations that move elements among positions, an insert or removal in the middle of
+ * a list, {@link #retain(Predicate)} and {@link #clear()}, are not isolated from concurrent changes of the same
+ * structure.
+ * The elements must be serializable, as must the operations on an embedded clustered cache.
+ *
+ * @param <E> the element type
+ */
+final class InfinispanStructure<E> {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private static final int HEAD = 0;
+
+    private static final int TAIL = 1;
+
+    private static final int GAPS = 2;
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final long AWAIT = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long PAUSE = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final BasicCache<String, Object> cache;
+
+    private final String namespace;
+
+    private final boolean indexed;
+
+    private final FunctionalMap.ReadWriteMap<String, Object> readWrite;
+
+    private InfinispanStructure(BasicCache<String, Object> cache, String namespace, boolean indexed) {
+        this.cache = cache;
+        this.namespace = namespace;
+        this.indexed = indexed;
+        if (cache instanceof Cache) {
+            this.readWrite = ReadWriteMapImpl.create(FunctionalMapImpl
+                    .create(((Cache<String, Object>) cache).getAdvancedCache()));
+        } else {
+            this.readWrite = null;
+        }
+    }
+
+    /**
+     * @return the number of elements
+     */
+    int size() {
+        long[] bounds = bounds(cache.get(namespace));
+        return (int) Math.min(Integer.MAX_VALUE, bounds[TAIL] - bounds[HEAD] - bounds[GAPS]);
+    }
+
+    /**
+     * Returns the element at the index, counted from the head.
+     *
+     * @param index the index
+     * @return the element
+     * @throws IndexOutOfBoundsException when the index is out of the bounds
+     */
+    E get(int index) {
+        return checkIndex(await(key(position(index, false))), index);
+    }
+
+    /**
+     * Replaces the element at the index atomically.
+     *
+     * @param index   the index
+     * @param element the element
+     * @return the previous element
+     * @throws IndexOutOfBoundsException when the index is out of the bounds
+     */
+    E set(int index, E element) {
+        String key = key(position(index, false));
+        return checkIndex((E) compute(key, value -> new Object[]{element, value}), index);
+    }
+
+    /**
+     * Returns the head without taking it.
+     *
+     * @return the head or null when it is empty
+     */
+    E first() {
+        for (long position = head(); position != NONE; position = head()) {
+            Object element = cache.get(key(position));
+            if (element != null) {
+                return (E) element;
+            }
+            if (position == head()) {
+                return await(key(position));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the element at the tail.
+     *
+     * @param element the element
+     */
+    void add(E element) {
+        cache.put(key(reserve(1)), element);
+    }
+
+    /**
+     * Adds the elements at the tail, reserving their positions at once.
+     *
+     * @param elements the elements
+     */
+    void addAll(Collection<? extends E> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        long position = reserve(elements.size());
+        Map<String, Object> chunk = new LinkedHashMap<>();
+        for (E element : elements) {
+            chunk.put(key(position++), element);
+            if (chunk.size() == CHUNK_SIZE) {
+                cache.putAll(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            cache.putAll(chunk);
+        }
+    }
+
+    /**
+     * Inserts the element at the index. The head and the tail take a single position, the middle moves the
+     * elements after the index.
+     *
+     * @param index   the index
+     * @param element the element
+     * @throws IndexOutOfBoundsException when the index is out of the bounds
+     */
+    void add(int index, E element) {
+        if (index == 0) {
+            cache.put(key(move(bounds -> --bounds[HEAD])), element);
+            return;
+        }
+        long position = position(index, true);
+        long tail = reserve(1);
+        for (long current = tail; current > position; current--) {
+            cache.put(key(current), await(key(current - 1)));
+        }
+        cache.put(key(position), element);
+    }
+
+    /**
+     * Takes the head atomically.
+     *
+     * @return the head or null when it is empty
+     */
+    E removeFirst() {
+        return take(bounds -> bounds[HEAD] < bounds[TAIL] ? bounds[HEAD]++ : NONE);
+    }
+
+    /**
+     * Takes the tail atomically.
+     *
+     * @return the tail or null when it is empty
+     */
+    E removeLast() {
+        return take(bounds -> bounds[HEAD] < bounds[TAIL] ? --bounds[TAIL] : NONE);
+    }
+
+    /**
+     * Removes the element at the index. The head and the tail are taken atomically, the middle moves the elements
+     * after the index.
+     *
+     * @param index the index
+     * @return the removed element
+     * @throws IndexOutOfBoundsException when the index is out of the bounds
+     */
+    E remove(int index) {
+        long position = position(index, false);
+        long[] bounds = bounds(cache.get(namespace));
+        if (position == bounds[HEAD]) {
+            return checkIndex(removeFirst(), index);
+        }
+        E element = checkIndex(await(key(position)), index);
+        for (long current = position; current < bounds[TAIL] - 1; current++) {
+            cache.put(key(current), await(key(current + 1)));
+        }
+        removeLast();
+        return element;
+    }
+
+    /**
+     * Removes the first occurrence of the element.
+     *
+     * @param element the element
+     * @return true when the element was removed
+     */
+    boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * @param element the element
+     * @return the index of the first occurrence of the element or -1
+     */
+    int indexOf(Object element) {
+        int index = 0;
+        for (Iterator<E> iterator = iterator(e -> {
+        }); iterator.hasNext(); index++) {
+            if (iterator.next().equals(element)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Keeps the elements that match the filter in a single pass that moves them towards the head and then
+     * shortens the tail.
+     *
+     * @param filter the filter of the elements to keep
+     * @return true when any element was removed
+     */
+    boolean retain(Predicate<? super E> filter) {
+        long[] bounds = bounds(cache.get(namespace));
+        long target = bounds[HEAD];
+        for (Iterator<Map.Entry<Long, E>> iterator = entries(bounds); iterator.hasNext(); ) {
+            Map.Entry<Long, E> entry = iterator.next();
+            if (filter.test(entry.getValue())) {
+                if (entry.getKey() != target) {
+                    cache.put(key(target), entry.getValue());
+                }
+                target++;
+            }
+        }
+        long removed = bounds[TAIL] - target;
+        if (removed == 0) {
+            return false;
+        }
+        for (long current = target; current < bounds[TAIL]; current++) {
+            cache.remove(key(current));
+        }
+        move(current -> current[TAIL] -= removed);
+        return true;
+    }
+
+    /**
+     * Adds the element to a set, when it is not there yet, and indexes its position.
+     *
+     * @param element the element
+     * @return true when the element was added
+     */
+    boolean addMember(E element) {
+        if (containsMember(element)) {
+            return false;
+        }
+        long position = reserve(1);
+        cache.put(key(position), element);
+        boolean added = compute(memberKey(element), value -> {
+            Map<Object, Long> members = value == null ? new HashMap<>() : new HashMap<>((Map<Object, Long>) value);
+            boolean absent = members.putIfAbsent(element, position) == null;
+            return new Object[]{members, absent};
+        });
+        if (!added) {
+            release(position);
+        }
+        return added;
+    }
+
+    /**
+     * Removes the element from a set, leaving a gap at its position that the iteration skips. The gap at the head
+     * moves the head instead.
+     *
+     * @param element the element
+     * @return true when the element was removed
+     */
+    boolean removeMember(Object element) {
+        if (element == null) {
+            return false;
+        }
+        Long position = compute(memberKey(element), value -> {
+            if (value == null) {
+                return new Object[]{null, null};
+            }
+            Map<Object, Long> members = new HashMap<>((Map<Object, Long>) value);
+            Long removed = members.remove(element);
+            return new Object[]{members.isEmpty() ? null : members, removed};
+        });
+        if (position == null) {
+            return false;
+        }
+        release(position);
+        return true;
+    }
+
+    /**
+     * @param element the element
+     * @return true when a set has the element
+     */
+    boolean containsMember(Object element) {
+        if (element == null) {
+            return false;
+        }
+        Map<Object, Long> members = (Map<Object, Long>) cache.get(memberKey(element));
+        return members != null && members.containsKey(element);
+    }
+
+    /**
+     * Returns an iterator that loads the elements in chunks of {@value #CHUNK_SIZE} positions, from the head to the
+     * tail at its creation, where {@link Iterator#remove()} goes to the given action.
+     *
+     * @param remove the remove action
+     * @return the iterator
+     */
+    Iterator<E> iterator(Consumer<E> remove) {
+        Iterator<Map.Entry<Long, E>> entries = entries(bounds(cache.get(namespace)));
+        return new Iterator<>() {
+
+            private E current;
+
+            private boolean removable;
+
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public E next() {
+                current = entries.next().getValue();
+                removable = true;
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (!removable) {
+                    throw new IllegalStateException("There is no element to remove");
+                }
+                removable = false;
+                remove.accept(current);
+            }
+        };
+    }
+
+    /**
+     * Removes the elements, and the set index, from the cache. The bounds are removed when no other process
+     * changed them meanwhile.
+     */
+    void clear() {
+        long[] bounds = bounds(cache.get(namespace));
+        for (Iterator<Map.Entry<Long, E>> iterator = entries(bounds); iterator.hasNext(); ) {
+            Map.Entry<Long, E> entry = iterator.next();
+            if (indexed) {
+                cache.remove(memberKey(entry.getValue()));
+            }
+            cache.remove(key(entry.getKey()));
+        }
+        long tail = bounds[TAIL];
+        compute(namespace, value -> {
+            long[] current = bounds(value);
+            current[HEAD] = Math.max(current[HEAD], tail);
+            current[GAPS] = 0;
+            return new Object[]{current[HEAD] >= current[TAIL] ? null : text(current), null};
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "InfinispanStructure{" +
+                "namespace='" + namespace + '\'' +
+                ", cache=" + cache.getName() +
+                '}';
+    }
+
+    static <E> InfinispanStructure<E> of(BasicCache<String, Object> cache, String namespace) {
+        return new InfinispanStructure<>(cache, namespace, false);
+    }
+
+    static <E> InfinispanStructure<E> indexed(BasicCache<String, Object> cache, String namespace) {
+        return new InfinispanStructure<>(cache, namespace, true);
+    }
+
+    private String key(long position) {
+        return namespace + ':' + position;
+    }
+
+    private String memberKey(Object element) {
+        return namespace + '#' + element.hashCode();
+    }
+
+    private long head() {
+        long[] bounds = bounds(cache.get(namespace));
+        return bounds[HEAD] < bounds[TAIL] ? bounds[HEAD] : NONE;
+    }
+
+    private long position(int index, boolean inclusive) {
+        long[] bounds = bounds(cache.get(namespace));
+        long size = bounds[TAIL] - bounds[HEAD];
+        if (index < 0 || index > size || (index == size && !inclusive)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return bounds[HEAD] + index;
+    }
+
+    private long reserve(int size) {
+        return move(bounds -> {
+            long position = bounds[TAIL];
+            bounds[TAIL] += size;
+            return position;
+        });
+    }
+
+    private void release(long position) {
+        cache.remove(key(position));
+        move(bounds -> position == bounds[HEAD] ? bounds[HEAD]++ : bounds[GAPS]++);
+    }
+
+    private E take(Move move) {
+        for (long position = move(move); position != NONE; position = move(move)) {
+            String key = key(position);
+            E element = await(key);
+            if (element != null) {
+                cache.remove(key);
+                return element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the element at the key, waiting for up to one second when a concurrent writer reserved its
+     * position but did not write it yet.
+     */
+    private E await(String key) {
+        long deadline = System.nanoTime() + AWAIT;
+        Object element = cache.get(key);
+        while (element == null && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(PAUSE);
+            element = cache.get(key);
+        }
+        return (E) element;
+    }
+
+    private Iterator<Map.Entry<Long, E>> entries(long[] bounds) {
+        long tail = bounds[TAIL];
+        return new Iterator<>() {
+
+            private long next = bounds[HEAD];
+
+            private Iterator<Map.Entry<Long, E>> chunk = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!chunk.hasNext() && next < tail) {
+                    long end = Math.min(tail, next + CHUNK_SIZE);
+                    Map<Long, E> elements = new LinkedHashMap<>();
+                    Map<String, Object> values = getAll(LongStream.range(next, end).mapToObj(InfinispanStructure.this::key)
+                            .collect(Collectors.toSet()));
+                    for (long position = next; position < end; position++) {
+                        Object value = values.get(key(position));
+                        if (value != null) {
+                            elements.put(position, (E) value);
+                        }
+                    }
+                    next = end;
+                    chunk = elements.entrySet().iterator();
+                }
+                return chunk.hasNext();
+            }
+
+            @Override
+            public Map.Entry<Long, E> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return chunk.next();
+            }
+        };
+    }
+
+    private Map<String, Object> getAll(Set<String> keys) {
+        if (cache instanceof Cache) {
+            return ((Cache<String, Object>) cache).getAdvancedCache().getAll(keys);
+        } else if (cache instanceof RemoteCache) {
+            return ((RemoteCache<String, Object>) cache).getAll(keys);
+        }
+        Map<String, Object> values = new HashMap<>();
+        keys.forEach(key -> {
+            Object value = cache.get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    private long move(Move move) {
+        return compute(namespace, value -> {
+            long[] bounds = bounds(value);
+            long result = move.apply(bounds);
+            return new Object[]{text(bounds), result};
+        });
+    }
+
+    /**
+     * Changes the entry atomically, where the change returns the new value, null removes the entry, followed by
+     * the result. Only the result travels back to the caller.
+     */
+    private <R> R compute(String key, Change change) {
+        if (readWrite == null) {
+            Object[] result = new Object[1];
+            cache.compute(key, (k, value) -> {
+                Object[] changed = change.apply(value);
+                result[0] = changed[1];
+                return changed[0];
+            });
+            return (R) result[0];
+        }
+        return join(readWrite.eval(key, (SerializableFunction<EntryView.ReadWriteEntryView<String, Object>, R>)
+                view -> {
+                    Object[] changed = change.apply(view.find().orElse(null));
+                    if (changed[0] != null) {
+                        view.set(changed[0]);
+                    } else if (view.find().isPresent()) {
+                        view.remove();
+                    }
+                    return (R) changed[1];
+                }));
+    }
+
+    private static long[] bounds(Object value) {
+        long[] bounds = new long[3];
+        if (value != null) {
+            String[] values = value.toString().split(":");
+            for (int index = 0; index < bounds.length; index++) {
+                bounds[index] = Long.parseLong(values[index]);
+            }
+        }
+        return bounds;
+    }
+
+    private static String text(long[] bounds) {
+        return bounds[HEAD] + ":" + bounds[TAIL] + ":" + bounds[GAPS];
+    }
+
+    private static <E> E checkIndex(E element, int index) {
+        if (element == null) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return element;
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Changes the bounds in place and returns the result.
+     */
+    @FunctionalInterface
+    private interface Move extends Serializable {
+        long apply(long[] bounds);
+    }
+
+    @FunctionalInterface
+    private interface Change extends Serializable {
+        Object[] apply(Object value);
+    }
+}
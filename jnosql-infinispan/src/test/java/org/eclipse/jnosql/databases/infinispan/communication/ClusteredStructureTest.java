@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   The Infinispan Team
+ */
+
+package org.eclipse.jnosql.databases.infinispan.communication;
+
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.databases.infinispan.communication.model.ProductCart;
+import org.infinispan.commons.marshall.JavaSerializationMarshaller;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClusteredStructureTest {
+
+    private static final String BUCKET = "clustered";
+
+    private static EmbeddedCacheManager first;
+
+    private static EmbeddedCacheManager second;
+
+    private static InfinispanBucketManagerFactory firstFactory;
+
+    private static InfinispanBucketManagerFactory secondFactory;
+
+    @BeforeAll
+    public static void startCluster() {
+        first = cacheManager("first");
+        second = cacheManager("second");
+        first.getCache(BUCKET);
+        second.getCache(BUCKET);
+        firstFactory = new InfinispanBucketManagerFactory(first);
+        secondFactory = new InfinispanBucketManagerFactory(second);
+    }
+
+    @AfterAll
+    public static void stopCluster() {
+        second.stop();
+        first.stop();
+    }
+
+    @AfterEach
+    public void dispose() {
+        firstFactory.getMap(BUCKET, String.class, Object.class).clear();
+    }
+
+    @Test
+    public void shouldShareList() {
+        List<ProductCart> firstList = firstFactory.getList(BUCKET, ProductCart.class);
+        List<ProductCart> secondList = secondFactory.getList(BUCKET, ProductCart.class);
+        firstList.addAll(List.of(new ProductCart("banana", BigDecimal.ONE),
+                new ProductCart("orange", BigDecimal.TEN)));
+        secondList.add(0, new ProductCart("melon", BigDecimal.ONE));
+
+        assertEquals(3, firstList.size());
+        assertEquals("melon", firstList.get(0).getName());
+        assertEquals("orange", secondList.get(2).getName());
+        assertTrue(secondList.removeAll(List.of(new ProductCart("banana", BigDecimal.ONE))));
+        assertEquals(List.of("melon", "orange"), firstList.stream().map(ProductCart::getName)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldShareSet() {
+        Set<String> firstSet = firstFactory.getSet(BUCKET, String.class);
+        Set<String> secondSet = secondFactory.getSet(BUCKET, String.class);
+        firstSet.addAll(List.of("otavio", "poliana"));
+        assertTrue(secondSet.add("ada"));
+        assertTrue(!secondSet.add("otavio"));
+        assertEquals(3, firstSet.size());
+        assertTrue(firstSet.retainAll(List.of("ada")));
+        assertEquals(Set.of("ada"), new HashSet<>(secondSet));
+    }
+
+    @Test
+    public void shouldNotPollTheSameElementTwice() {
+        Queue<Integer> firstQueue = firstFactory.getQueue(BUCKET, Integer.class);
+        Queue<Integer> secondQueue = secondFactory.getQueue(BUCKET, Integer.class);
+        firstQueue.addAll(IntStream.range(0, 200).boxed().collect(Collectors.toList()));
+
+        List<Integer> polled = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> firstConsumer = CompletableFuture.runAsync(() -> drain(firstQueue, polled));
+        CompletableFuture<Void> secondConsumer = CompletableFuture.runAsync(() -> drain(secondQueue, polled));
+        CompletableFuture.allOf(firstConsumer, secondConsumer).join();
+
+        assertEquals(200, polled.size());
+        assertEquals(200, new HashSet<>(polled).size());
+        assertTrue(firstQueue.isEmpty());
+    }
+
+    @Test
+    public void shouldDeleteManyKeysOnClusteredCache() {
+        InfinispanBucketManager manager = firstFactory.apply(BUCKET);
+        List<String> keys = IntStream.range(0, 2_500).mapToObj(index -> "key-" + index)
+                .collect(Collectors.toList());
+        manager.put(keys.stream().map(key -> KeyValueEntity.of(key, key)).collect(Collectors.toList()));
+
+        manager.delete(keys);
+
+        assertFalse(secondFactory.apply(BUCKET).get(keys).iterator().hasNext());
+    }
+
+    private static void drain(Queue<Integer> queue, List<Integer> polled) {
+        for (Integer element = queue.poll(); element != null; element = queue.poll()) {
+            polled.add(element);
+        }
+    }
+
+    private static EmbeddedCacheManager cacheManager(String node) {
+        GlobalConfigurationBuilder global = GlobalConfigurationBuilder.defaultClusteredBuilder();
+        global.transport().clusterName("jnosql-structures").nodeName(node)
+                .addProperty("configurationFile", "default-configs/default-jgroups-tcp.xml");
+        global.serialization().marshaller(new JavaSerializationMarshaller())
+                .allowList().addRegexps("java\\..*", "org\\.eclipse\\.jnosql\\..*");
+        ConfigurationBuilder configuration = new ConfigurationBuilder();
+        configuration.clustering().cacheMode(CacheMode.DIST_SYNC);
+        DefaultCacheManager cacheManager = new DefaultCacheManager(global.build());
+        cacheManager.defineConfiguration(BUCKET, configuration.build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.infinispan.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.configuration.ClientIntelligence;
+import org.infinispan.client.hotrod.configuration.Configuration;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.commons.marshall.JavaSerializationMarshaller;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.server.hotrod.HotRodServer;
+import org.infinispan.server.hotrod.configuration.HotRodServerConfigurationBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HotRodConfigurationTest {
+
+    private static final int PORT = 11322;
+
+    private static EmbeddedCacheManager cacheManager;
+
+    private static HotRodServer server;
+
+    @BeforeAll
+    public static void startServer() {
+        GlobalConfigurationBuilder global = new GlobalConfigurationBuilder();
+        global.defaultCacheName("default");
+        cacheManager = new DefaultCacheManager(global.build(), new ConfigurationBuilder().build());
+        cacheManager.defineConfiguration("hot-rod", new ConfigurationBuilder().build());
+        server = new HotRodServer();
+        server.start(new HotRodServerConfigurationBuilder().host("localhost").port(PORT).build(), cacheManager);
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.stop();
+        cacheManager.stop();
+    }
+
+    @Test
+    public void shouldReadSettings() {
+        Settings settings = Settings.builder()
+                .put(InfinispanConfigurations.NEAR_CACHE_MODE, "invalidated")
+                .put(InfinispanConfigurations.NEAR_CACHE_MAX_ENTRIES, "100")
+                .put(InfinispanConfigurations.MARSHALLER, JavaSerializationMarshaller.class.getName())
+                .put(InfinispanConfigurations.JAVA_SERIAL_ALLOW_LIST, "java.lang.*,org.eclipse.jnosql.*")
+                .put(InfinispanConfigurations.CONNECTION_POOL_MAX_ACTIVE, "8")
+                .put(InfinispanConfigurations.CONNECTION_POOL_MIN_IDLE, "2")
+                .put(InfinispanConfigurations.CONNECTION_POOL_MAX_WAIT, "500")
+                .put(InfinispanConfigurations.ASYNC_EXECUTOR_POOL_SIZE, "4")
+                .put(InfinispanConfigurations.CLIENT_INTELLIGENCE, "hash_distribution_aware")
+                .build();
+
+        Configuration configuration = new InfinispanKeyValueConfiguration()
+                .remoteConfiguration(List.of("localhost:" + PORT), settings);
+
+        assertEquals(PORT, configuration.servers().get(0).port());
+        assertEquals(NearCacheMode.INVALIDATED, configuration.nearCache().mode());
+        assertEquals(100, configuration.nearCache().maxEntries());
+        assertEquals(JavaSerializationMarshaller.class, configuration.marshallerClass());
+        assertEquals(8, configuration.connectionPool().maxActive());
+        assertEquals(2, configuration.connectionPool().minIdle());
+        assertEquals(500L, configuration.connectionPool().maxWait());
+        assertEquals("4", configuration.asyncExecutorFactory().properties()
+                .getProperty("infinispan.client.hotrod.default_executor_factory.pool_size"));
+        assertEquals(ClientIntelligence.HASH_DISTRIBUTION_AWARE, configuration.clientIntelligence());
+    }
+
+    @Test
+    public void shouldReadFromNearCache() {
+        Settings settings = Settings.builder()
+                .put(InfinispanConfigurations.HOST.get() + ".1", "localhost:" + PORT)
+                .put(InfinispanConfigurations.NEAR_CACHE_MODE, "INVALIDATED")
+                .put(InfinispanConfigurations.NEAR_CACHE_MAX_ENTRIES, "100")
+                .build();
+        InfinispanBucketManagerFactory factory = new InfinispanKeyValueConfiguration().apply(settings);
+        InfinispanBucketManager manager = factory.apply("hot-rod");
+        manager.put("otavio", "Otavio");
+
+        Optional<Value> first = manager.get("otavio");
+        Optional<Value> second = manager.get("otavio");
+        assertTrue(first.isPresent());
+        assertEquals("Otavio", second.map(Value::get).orElse(null));
+
+        RemoteCache<String, String> cache = (RemoteCache<String, String>) factory.getMap("hot-rod", String.class,
+                String.class);
+        assertTrue(cache.clientStatistics().getNearCacheHits() > 0);
+        factory.close();
+    }
+
+    @Test
+    public void shouldKeepTheQueueElementsAtTheirOwnEntries() {
+        Settings settings = Settings.builder()
+                .put(InfinispanConfigurations.HOST.get() + ".1", "localhost:" + PORT)
+                .put(InfinispanConfigurations.MARSHALLER, JavaSerializationMarshaller.class.getName())
+                .put(InfinispanConfigurations.JAVA_SERIAL_ALLOW_LIST, "java.*")
+                .build();
+        InfinispanBucketManagerFactory factory = new InfinispanKeyValueConfiguration().apply(settings);
+        Queue<String> queue = factory.getQueue("hot-rod", String.class);
+        queue.addAll(List.of("otavio", "ada"));
+        queue.offer("soro");
+
+        RemoteCache<String, Object> cache = (RemoteCache<String, Object>) factory.getMap("hot-rod", String.class,
+                Object.class);
+        assertEquals("otavio", cache.get("jnosql:queue:java.lang.String:0"));
+        assertEquals("soro", cache.get("jnosql:queue:java.lang.String:2"));
+        assertEquals(3, queue.size());
+        assertEquals("otavio", queue.peek());
+        assertEquals("otavio", queue.poll());
+        assertNull(cache.get("jnosql:queue:java.lang.String:0"));
+        assertEquals(List.of("ada", "soro"), List.copyOf(queue));
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertTrue(cache.keySet().stream().noneMatch(k -> k.startsWith("jnosql:queue:")));
+        factory.close();
+    }
+}
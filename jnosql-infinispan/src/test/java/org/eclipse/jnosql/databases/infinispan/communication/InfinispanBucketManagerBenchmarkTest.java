@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.infinispan.communication;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.databases.infinispan.communication.model.User;
+import org.infinispan.Cache;
+import org.infinispan.commons.marshall.JavaSerializationMarshaller;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the batch operations of {@link InfinispanBucketManager}, both the synchronous and the async ones, with
+ * a loop of one operation per key, which is how the batch operations worked before. It runs on a two nodes
+ * clustered embedded cache, {@link CacheMode#DIST_SYNC}, where the manager uses the bulk operations, and only with
+ * {@code -Djnosql.test.benchmark=true}. It logs the time of each round,
+ * E.g.: {@code mvn test -Dtest=InfinispanBucketManagerBenchmarkTest -Djnosql.test.benchmark=true}
+ */
+@EnabledIfSystemProperty(named = "jnosql.test.benchmark", matches = "true")
+class InfinispanBucketManagerBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(InfinispanBucketManagerBenchmarkTest.class.getName());
+
+    private static final String BUCKET = "benchmark";
+
+    private static final int SIZE = 20_000;
+
+    private static final int ROUNDS = 5;
+
+    private EmbeddedCacheManager first;
+
+    private EmbeddedCacheManager second;
+
+    private InfinispanBucketManager manager;
+
+    private Cache<String, User> cache;
+
+    private List<KeyValueEntity> entities;
+
+    private List<String> keys;
+
+    @BeforeEach
+    void setUp() {
+        first = cacheManager("first");
+        second = cacheManager("second");
+        cache = first.getCache(BUCKET);
+        second.getCache(BUCKET);
+        manager = new InfinispanBucketManagerFactory(first).apply(BUCKET);
+        keys = IntStream.range(0, SIZE).mapToObj(index -> "user-" + index).collect(Collectors.toList());
+        entities = keys.stream().map(key -> KeyValueEntity.of(key, new User(key))).collect(Collectors.toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        second.stop();
+        first.stop();
+    }
+
+    @Test
+    void shouldCompareLoopAndBatch() {
+        for (int round = 0; round < ROUNDS; round++) {
+            long loopPut = time(() -> entities.forEach(e -> cache.put(e.key(String.class), (User) e.value())));
+            long loopGet = time(() -> keys.stream().map(cache::get).filter(Objects::nonNull).map(Value::of)
+                    .collect(Collectors.toList()));
+            long loopDelete = time(() -> keys.forEach(cache::remove));
+
+            long batchPut = time(() -> manager.put(entities));
+            long batchGet = time(() -> manager.get(keys));
+            long batchDelete = time(() -> manager.delete(keys));
+
+            long asyncPut = time(() -> manager.putAsync(entities).toCompletableFuture().join());
+            long asyncGet = time(() -> manager.getAsync(keys).toCompletableFuture().join());
+            long asyncDelete = time(() -> manager.deleteAsync(keys).toCompletableFuture().join());
+
+            LOGGER.info(String.format("round %d, %d entries: loop put %d ms, get %d ms, delete %d ms;"
+                            + " batch put %d ms, get %d ms, delete %d ms; async put %d ms, get %d ms, delete %d ms",
+                    round, SIZE, loopPut, loopGet, loopDelete, batchPut, batchGet, batchDelete,
+                    asyncPut, asyncGet, asyncDelete));
+        }
+    }
+
+    private static long time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static EmbeddedCacheManager cacheManager(String node) {
+        GlobalConfigurationBuilder global = GlobalConfigurationBuilder.defaultClusteredBuilder();
+        global.transport().clusterName("jnosql-benchmark").nodeName(node)
+                .addProperty("configurationFile", "default-configs/default-jgroups-tcp.xml");
+        global.serialization().marshaller(new JavaSerializationMarshaller())
+                .allowList().addRegexps("java\\..*", "org\\.eclipse\\.jnosql\\..*");
+        ConfigurationBuilder configuration = new ConfigurationBuilder();
+        configuration.clustering().cacheMode(CacheMode.DIST_SYNC);
+        DefaultCacheManager cacheManager = new DefaultCacheManager(global.build());
+        cacheManager.defineConfiguration(BUCKET, configuration.build());
+        return cacheManager;
+    }
+}
@@ -24,7 +24,6 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 public class KeyValueEntityManagerFactoryTest {
@@ -55,17 +54,17 @@ public class KeyValueEntityManagerFactoryTest {
 
     @Test
     public void shouldCreateSet(){
-        assertThrows(UnsupportedOperationException.class, () -> managerFactory.getSet(BUCKET_NAME, String.class));
+        assertNotNull(managerFactory.getSet(BUCKET_NAME, String.class));
     }
 
     @Test
     public void shouldCreateList(){
-        assertThrows(UnsupportedOperationException.class, () -> managerFactory.getList(BUCKET_NAME, String.class));
+        assertNotNull(managerFactory.getList(BUCKET_NAME, String.class));
     }
 
     @Test
     public void shouldCreateQueue(){
-        assertThrows(UnsupportedOperationException.class, () -> managerFactory.getQueue(BUCKET_NAME, String.class));
+        assertNotNull(managerFactory.getQueue(BUCKET_NAME, String.class));
     }
 
 }
@@ -21,12 +21,18 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.databases.infinispan.communication.util.KeyValueEntityManagerFactoryUtils;
 import org.eclipse.jnosql.databases.infinispan.communication.model.User;
+import org.infinispan.commons.api.BasicCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -35,6 +41,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class KeyValueEntityManagerTest {
 
@@ -119,4 +128,69 @@ public class KeyValueEntityManagerTest {
         Iterable<Value> users = values;
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
+
+    @Test
+    public void shouldPutIterableKeyValueWithTTL() {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio), Duration.ofMinutes(1L));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        assertTrue(keyValueEntityManager.get("soro").isPresent());
+    }
+
+    @Test
+    public void shouldMultiGetInKeyOrder() {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio));
+        Iterable<Value> values = keyValueEntityManager.get(asList("soro", "not_found", "otavio"));
+        assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class))
+                .collect(Collectors.toList()))
+                .containsExactly(userSoro, userOtavio);
+    }
+
+    @Test
+    public void shouldRemoveManyKeys() {
+        List<KeyValueEntity> entities = IntStream.range(0, 2_500)
+                .mapToObj(index -> KeyValueEntity.of("user-" + index, new User("user-" + index)))
+                .collect(Collectors.toList());
+        keyValueEntityManager.put(entities);
+        List<String> keys = entities.stream().map(e -> e.key(String.class)).collect(Collectors.toList());
+        assertEquals(2_500L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
+
+        keyValueEntityManager.delete(keys);
+        assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldRunAsync() {
+        InfinispanBucketManager manager = (InfinispanBucketManager) keyValueEntityManager;
+        manager.putAsync(asList(keyValueSoro, keyValueOtavio)).toCompletableFuture().join();
+
+        Optional<Value> otavio = manager.getAsync("otavio").toCompletableFuture().join();
+        assertTrue(otavio.isPresent());
+        assertEquals(userOtavio, otavio.get().get(User.class));
+
+        Iterable<Value> values = manager.getAsync(asList("otavio", "soro")).toCompletableFuture().join();
+        assertEquals(2L, StreamSupport.stream(values.spliterator(), false).count());
+
+        manager.deleteAsync("otavio").toCompletableFuture().join();
+        assertFalse(manager.getAsync("otavio").toCompletableFuture().join().isPresent());
+
+        manager.putAsync(keyValueOtavio, Duration.ofMinutes(1L)).toCompletableFuture().join();
+        manager.deleteAsync(asList("otavio", "soro")).toCompletableFuture().join();
+        assertFalse(manager.get("otavio").isPresent());
+        assertFalse(manager.get("soro").isPresent());
+    }
+
+    @Test
+    public void shouldUseBulkOperationsOnRemoteCache() {
+        BasicCache<Object, Object> cache = Mockito.mock(BasicCache.class);
+        InfinispanBucketManager manager = new InfinispanBucketManager(cache, "users-entity");
+
+        manager.put(asList(keyValueSoro, keyValueOtavio));
+        manager.put(asList(keyValueSoro, keyValueOtavio), Duration.ofMinutes(1L));
+
+        Map<Object, Object> values = Map.of("soro", keyValueSoro.value(), "otavio", keyValueOtavio.value());
+        verify(cache).putAll(values);
+        verify(cache).putAll(values, 60_000L, TimeUnit.MILLISECONDS);
+        verify(cache, never()).put(any(), any());
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   The Infinispan Team
+ */
+
+package org.eclipse.jnosql.databases.infinispan.communication;
+
+
+import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.databases.infinispan.communication.model.User;
+import org.eclipse.jnosql.databases.infinispan.communication.util.KeyValueEntityManagerFactoryUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SetTest {
+
+
+    private BucketManagerFactory keyValueEntityManagerFactory;
+    private User userOtavioJava = new User("otaviojava");
+    private User felipe = new User("ffrancesquini");
+    private Set<User> users;
+
+    @BeforeEach
+    public void init() {
+        keyValueEntityManagerFactory =  KeyValueEntityManagerFactoryUtils.get();
+        users = keyValueEntityManagerFactory.getSet("social-media", User.class);
+    }
+
+    @Test
+    public void shouldAddUsers() {
+        assertTrue(users.isEmpty());
+        users.add(userOtavioJava);
+        assertEquals(1, users.size());
+
+        users.remove(userOtavioJava);
+        assertTrue(users.isEmpty());
+    }
+
+
+    @SuppressWarnings("unused")
+    @Test
+    public void shouldIterate() {
+
+        users.add(userOtavioJava);
+        users.add(userOtavioJava);
+        users.add(felipe);
+        users.add(userOtavioJava);
+        users.add(felipe);
+        int count = 0;
+        for (User user: users) {
+            count++;
+        }
+        assertEquals(2, count);
+        users.remove(userOtavioJava);
+        users.remove(felipe);
+        count = 0;
+        for (User user: users) {
+            count++;
+        }
+        assertEquals(0, count);
+    }
+
+    @Test
+    public void shouldReuseTheHeadAfterRemoval() {
+        users.add(userOtavioJava);
+        users.add(felipe);
+        assertTrue(users.remove(userOtavioJava));
+        assertFalse(users.remove(userOtavioJava));
+        assertTrue(users.add(userOtavioJava));
+        assertEquals(2, users.size());
+        assertTrue(users.contains(felipe));
+        assertEquals(Set.of(felipe, userOtavioJava), new HashSet<>(users));
+    }
+
+    @AfterEach
+    public void dispose() {
+        users.clear();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.TranscoderUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.logging.Logger;
+
+/**
+ * A compact binary transcoder: strings, numbers, booleans, dates and byte arrays are written as raw bytes typed by
+ * the entry flags, the same layout of the spymemcached {@link net.spy.memcached.transcoders.SerializingTranscoder}
+ * for these types, while any other value is written as JSON instead of Java serialization.
+ * An entry written with Java serialization is not read, it is a cache miss.
+ */
+final class BinaryTranscoder extends CompressingTranscoder {
+
+    private static final Logger LOGGER = Logger.getLogger(BinaryTranscoder.class.getName());
+
+    private static final int SERIALIZED = 1;
+    private static final int TYPE_MASK = 0xff00;
+    private static final int STRING = 0;
+    private static final int BOOLEAN = 1 << 8;
+    private static final int INT = 2 << 8;
+    private static final int LONG = 3 << 8;
+    private static final int DATE = 4 << 8;
+    private static final int BYTE = 5 << 8;
+    private static final int FLOAT = 6 << 8;
+    private static final int DOUBLE = 7 << 8;
+    private static final int BYTE_ARRAY = 8 << 8;
+
+    private final TranscoderUtils utils = new TranscoderUtils(true);
+
+    BinaryTranscoder(Compression compression, int threshold) {
+        super(compression, threshold);
+    }
+
+    @Override
+    CachedData serialize(Object value) {
+        if (value instanceof String) {
+            return data(STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            return data(INT, utils.encodeInt((Integer) value));
+        } else if (value instanceof Long) {
+            return data(LONG, utils.encodeLong((Long) value));
+        } else if (value instanceof Boolean) {
+            return data(BOOLEAN, utils.encodeBoolean((Boolean) value));
+        } else if (value instanceof Byte) {
+            return data(BYTE, utils.encodeByte((Byte) value));
+        } else if (value instanceof Float) {
+            return data(FLOAT, utils.encodeInt(Float.floatToRawIntBits((Float) value)));
+        } else if (value instanceof Double) {
+            return data(DOUBLE, utils.encodeLong(Double.doubleToRawLongBits((Double) value)));
+        } else if (value instanceof Date) {
+            return data(DATE, utils.encodeLong(((Date) value).getTime()));
+        } else if (value instanceof byte[]) {
+            return data(BYTE_ARRAY, (byte[]) value);
+        }
+        return data(JsonTranscoder.JSON, JsonTranscoder.toJson(value));
+    }
+
+    @Override
+    Object deserialize(int flags, byte[] data) {
+        if ((flags & SERIALIZED) != 0) {
+            LOGGER.warning("The entry was written with Java serialization, it is ignored");
+            return null;
+        }
+        switch (flags & TYPE_MASK) {
+            case STRING:
+                return new String(data, StandardCharsets.UTF_8);
+            case INT:
+                return utils.decodeInt(data);
+            case LONG:
+                return utils.decodeLong(data);
+            case BOOLEAN:
+                return utils.decodeBoolean(data);
+            case BYTE:
+                return utils.decodeByte(data);
+            case FLOAT:
+                return Float.intBitsToFloat(utils.decodeInt(data));
+            case DOUBLE:
+                return Double.longBitsToDouble(utils.decodeLong(data));
+            case DATE:
+                return new Date(utils.decodeLong(data));
+            case BYTE_ARRAY:
+                return data;
+            case JsonTranscoder.JSON:
+                return JsonTranscoder.fromJson(data);
+            default:
+                LOGGER.warning("The entry has unknown flags " + flags + ", it is ignored");
+                return null;
+        }
+    }
+
+    private CachedData data(int flags, byte[] data) {
+        return new CachedData(flags, data, getMaxSize());
+    }
+}
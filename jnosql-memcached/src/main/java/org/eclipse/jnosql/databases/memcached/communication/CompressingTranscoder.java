@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.Transcoder;
+
+import java.util.Objects;
+
+/**
+ * The base of the transcoders that compress the encoded values larger than a threshold. A value is kept
+ * uncompressed when the compression does not make it smaller.
+ */
+abstract class CompressingTranscoder implements Transcoder<Object> {
+
+    /**
+     * The default threshold in bytes, the same of the spymemcached transcoders.
+     */
+    static final int DEFAULT_THRESHOLD = 16_384;
+
+    private final Compression compression;
+
+    private final int threshold;
+
+    CompressingTranscoder(Compression compression, int threshold) {
+        this.compression = Objects.requireNonNull(compression, "compression is required");
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The compression threshold must be positive: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Encodes the value without compression
+     *
+     * @param value the value
+     * @return the data
+     */
+    abstract CachedData serialize(Object value);
+
+    /**
+     * Decodes the data already decompressed
+     *
+     * @param flags the flags without the compression bits
+     * @param data  the data
+     * @return the value
+     */
+    abstract Object deserialize(int flags, byte[] data);
+
+    @Override
+    public final CachedData encode(Object value) {
+        CachedData data = serialize(value);
+        byte[] bytes = data.getData();
+        if (compression != Compression.NONE && bytes.length > threshold) {
+            byte[] compressed = compression.compress(bytes);
+            if (compressed.length < bytes.length) {
+                return new CachedData(data.getFlags() | compression.flag(), compressed, getMaxSize());
+            }
+        }
+        return data;
+    }
+
+    @Override
+    public final Object decode(CachedData data) {
+        int flags = data.getFlags();
+        byte[] bytes = Compression.of(flags).decompress(data.getData());
+        return deserialize(flags & ~Compression.MASK, bytes);
+    }
+
+    @Override
+    public boolean asyncDecode(CachedData data) {
+        return false;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return CachedData.MAX_SIZE;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "compression=" + compression +
+                ", threshold=" + threshold +
+                '}';
+    }
+}
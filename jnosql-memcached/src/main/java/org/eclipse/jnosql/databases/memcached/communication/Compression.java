@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression algorithms of the values, each one marks the value flags with its own bit, so a value
+ * is always read back with the algorithm that wrote it. GZIP uses the same bit as the spymemcached
+ * {@link net.spy.memcached.transcoders.SerializingTranscoder}. LZ4 and Zstd use the frame format, which any LZ4 or
+ * Zstd library reads, and they require the optional lz4-java and zstd-jni dependencies, which are only loaded when
+ * a value uses them, see {@link Lz4Streams} and {@link ZstdStreams}.
+ */
+enum Compression {
+
+    NONE(0, null) {
+        @Override
+        OutputStream compressor(OutputStream output) {
+            return output;
+        }
+
+        @Override
+        InputStream decompressor(InputStream input) {
+            return input;
+        }
+    },
+    GZIP(2, null) {
+        @Override
+        OutputStream compressor(OutputStream output) throws IOException {
+            return new GZIPOutputStream(output);
+        }
+
+        @Override
+        InputStream decompressor(InputStream input) throws IOException {
+            return new GZIPInputStream(input);
+        }
+    },
+    LZ4(1 << 4, "net.jpountz.lz4.LZ4FrameOutputStream") {
+        @Override
+        OutputStream compressor(OutputStream output) throws IOException {
+            return Lz4Streams.compressor(output);
+        }
+
+        @Override
+        InputStream decompressor(InputStream input) throws IOException {
+            return Lz4Streams.decompressor(input);
+        }
+    },
+    ZSTD(1 << 5, "com.github.luben.zstd.ZstdOutputStream") {
+        @Override
+        OutputStream compressor(OutputStream output) throws IOException {
+            return ZstdStreams.compressor(output);
+        }
+
+        @Override
+        InputStream decompressor(InputStream input) throws IOException {
+            return ZstdStreams.decompressor(input);
+        }
+    };
+
+    static final int MASK = GZIP.flag | LZ4.flag | ZSTD.flag;
+
+    private final int flag;
+
+    private final String library;
+
+    Compression(int flag, String library) {
+        this.flag = flag;
+        this.library = library;
+    }
+
+    int flag() {
+        return flag;
+    }
+
+    abstract OutputStream compressor(OutputStream output) throws IOException;
+
+    abstract InputStream decompressor(InputStream input) throws IOException;
+
+    byte[] compress(byte[] data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2);
+        try (OutputStream compressor = compressor(output)) {
+            compressor.write(data);
+        } catch (IOException exception) {
+            throw new MemcachedException("There is an error when compressing with " + this, exception);
+        } catch (NoClassDefFoundError error) {
+            throw missing(error);
+        }
+        return output.toByteArray();
+    }
+
+    byte[] decompress(byte[] data) {
+        try (InputStream decompressor = decompressor(new ByteArrayInputStream(data))) {
+            return decompressor.readAllBytes();
+        } catch (IOException exception) {
+            throw new MemcachedException("There is an error when decompressing with " + this, exception);
+        } catch (NoClassDefFoundError error) {
+            throw missing(error);
+        }
+    }
+
+    /**
+     * Returns the compression from the value flags
+     *
+     * @param flags the flags
+     * @return the compression
+     */
+    static Compression of(int flags) {
+        int flag = flags & MASK;
+        return Stream.of(values()).filter(c -> c.flag == flag).findFirst().orElse(NONE);
+    }
+
+    /**
+     * Returns the compression from its name, checking its library is available.
+     *
+     * @param name the name
+     * @return the compression
+     * @throws MemcachedException when the name is not valid or the library is missing
+     */
+    static Compression parse(String name) {
+        Compression compression;
+        try {
+            compression = valueOf(name.trim().toUpperCase(Locale.US));
+        } catch (IllegalArgumentException exception) {
+            throw new MemcachedException("The compression " + name + " is not valid, the options are: "
+                    + Stream.of(values()).map(Compression::name).reduce((a, b) -> a + ", " + b).orElse(""), exception);
+        }
+        if (compression.library != null) {
+            try {
+                Class.forName(compression.library, false, Compression.class.getClassLoader());
+            } catch (ClassNotFoundException exception) {
+                throw compression.missing(exception);
+            }
+        }
+        return compression;
+    }
+
+    private MemcachedException missing(Throwable cause) {
+        return new MemcachedException("The compression " + this + " requires the class " + library
+                + " at the classpath", cause);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import jakarta.json.bind.Jsonb;
+import net.spy.memcached.CachedData;
+import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * A transcoder that writes every value as UTF-8 JSON through JSON-B, so services in other languages read and write
+ * the same entries. The values are read back as a {@link JsonValue}, whatever the flags of the entry, thus an entry
+ * written as plain JSON by another client is read as well.
+ */
+final class JsonTranscoder extends CompressingTranscoder {
+
+    static final int JSON = 16 << 8;
+
+    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+
+    JsonTranscoder(Compression compression, int threshold) {
+        super(compression, threshold);
+    }
+
+    @Override
+    CachedData serialize(Object value) {
+        return new CachedData(JSON, toJson(value), getMaxSize());
+    }
+
+    @Override
+    Object deserialize(int flags, byte[] data) {
+        return fromJson(data);
+    }
+
+    static byte[] toJson(Object value) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JSONB.toJson(value, output);
+        return output.toByteArray();
+    }
+
+    static JsonValue fromJson(byte[] data) {
+        return new JsonValue(JSONB, data);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import jakarta.json.bind.Jsonb;
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A {@link Value} that keeps the JSON bytes read from Memcached, the typed reads bind the bytes straight to
+ * the requested type.
+ */
+final class JsonValue implements Value {
+
+    private final Jsonb jsonb;
+
+    private final byte[] json;
+
+    JsonValue(Jsonb jsonb, byte[] json) {
+        this.jsonb = jsonb;
+        this.json = json;
+    }
+
+    @Override
+    public Object get() {
+        return jsonb.fromJson(new ByteArrayInputStream(json), Object.class);
+    }
+
+    @Override
+    public <T> T get(Class<T> clazz) {
+        Objects.requireNonNull(clazz, "clazz is required");
+        return jsonb.fromJson(new ByteArrayInputStream(json), clazz);
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> typeSupplier) {
+        Objects.requireNonNull(typeSupplier, "typeSupplier is required");
+        return jsonb.fromJson(new ByteArrayInputStream(json), typeSupplier.get());
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> typeClass) {
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        return typeClass.isInstance(get());
+    }
+
+    @Override
+    public String toString() {
+        return "JsonValue{" +
+                "json=" + new String(json, StandardCharsets.UTF_8) +
+                '}';
+    }
+}
@@ -18,16 +18,36 @@ import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import net.spy.memcached.MemcachedClient;
+import net.spy.memcached.internal.OperationFuture;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.StreamSupport.stream;
 
-final class MemcachedBucketManager implements BucketManager {
+/**
+ * The memcached implementation of {@link BucketManager}. The batch operations are pipelined: a batch read is a
+ * single multi-get, and a batch write sends every operation before waiting for any of them, then awaits them all
+ * within a single operation timeout.
+ */
+public final class MemcachedBucketManager implements BucketManager {
 
     private static final int NO_EXP = 0;
     private final MemcachedClient client;
@@ -69,31 +89,30 @@ final class MemcachedBucketManager implements BucketManager {
     @Override
     public void put(Iterable<KeyValueEntity> entities) {
         requireNonNull(entities, "entities is required");
-        entities.forEach(this::put);
+        await(set(entities, NO_EXP), "put", Boolean.TRUE::equals);
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        entities.forEach(e -> this.put(e, ttl));
+        await(set(entities, (int) ttl.getSeconds()), "put", Boolean.TRUE::equals);
     }
 
     @Override
     public <K> Optional<Value> get(K key) {
         requireNonNull(key, "key is required");
-        return ofNullable(client.get(getKey(key))).map(Value::of);
+        return ofNullable(client.get(getKey(key))).map(MemcachedBucketManager::toValue);
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-
-        return stream(keys.spliterator(), false)
-                .map(this::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        List<String> memcachedKeys = getKeys(keys);
+        if (memcachedKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return values(memcachedKeys, client.getBulk(new LinkedHashSet<>(memcachedKeys)));
     }
 
     @Override
@@ -105,7 +124,121 @@ final class MemcachedBucketManager implements BucketManager {
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        stream(keys.spliterator(), false).forEach(this::delete);
+        await(getKeys(keys).stream().map(client::delete).collect(Collectors.toList()), "delete", deleted -> true);
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously
+     *
+     * @param entity the entity to be put
+     * @return the {@link CompletionStage} that completes when the entity is saved
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return stored(set(entity.key(), entity.value(), NO_EXP));
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously with time to live
+     *
+     * @param entity the entity to be put
+     * @param ttl    the time to live
+     * @return the {@link CompletionStage} that completes when the entity is saved
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return stored(set(entity.key(), entity.value(), (int) ttl.getSeconds()));
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously, all the operations are sent at once
+     *
+     * @param entities the entities to be put
+     * @return the {@link CompletionStage} that completes when all entities are saved
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<Void> putAsync(Iterable<KeyValueEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        return allOf(set(entities, NO_EXP), this::stored);
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously with time to live, all the operations are sent at once
+     *
+     * @param entities the entities to be put
+     * @param ttl      the time to live
+     * @return the {@link CompletionStage} that completes when all entities are saved
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    public CompletionStage<Void> putAsync(Iterable<KeyValueEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return allOf(set(entities, (int) ttl.getSeconds()), this::stored);
+    }
+
+    /**
+     * Finds the Value from a key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} with the {@link Optional} value
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Optional<Value>> getAsync(K key) {
+        requireNonNull(key, "key is required");
+        CompletableFuture<Optional<Value>> stage = new CompletableFuture<>();
+        client.asyncGet(getKey(key)).addListener(f -> complete(stage, f, v -> ofNullable(v).map(MemcachedBucketManager::toValue)));
+        return stage;
+    }
+
+    /**
+     * Finds the values from the keys asynchronously in a single multi-get, the result keeps the keys order
+     * and ignores the keys without value.
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} with the values
+     * @throws NullPointerException when keys is null
+     */
+    public <K> CompletionStage<Iterable<Value>> getAsync(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        List<String> memcachedKeys = getKeys(keys);
+        if (memcachedKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        CompletableFuture<Iterable<Value>> stage = new CompletableFuture<>();
+        client.asyncGetBulk(new LinkedHashSet<>(memcachedKeys))
+                .addListener(f -> complete(stage, f, v -> values(memcachedKeys, (Map<String, Object>) v)));
+        return stage;
+    }
+
+    /**
+     * Removes an entity from the key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} that completes when the key is removed
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        requireNonNull(key, "key is required");
+        return deleted(client.delete(getKey(key)));
+    }
+
+    /**
+     * Removes the entities from the keys asynchronously, all the operations are sent at once
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} that completes when all keys are removed
+     * @throws NullPointerException when keys is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return allOf(getKeys(keys).stream().map(client::delete).collect(Collectors.toList()), this::deleted);
     }
 
     @Override
@@ -116,7 +249,106 @@ final class MemcachedBucketManager implements BucketManager {
         return bucketName + ':' + key.toString();
     }
 
-    private void set(Object key, Object value, int exp) {
-        client.set(getKey(key), exp, value);
+    private <K> List<String> getKeys(Iterable<K> keys) {
+        return stream(keys.spliterator(), false)
+                .map(k -> getKey(requireNonNull(k, "key is required")))
+                .collect(Collectors.toList());
+    }
+
+    private OperationFuture<Boolean> set(Object key, Object value, int exp) {
+        return client.set(getKey(key), exp, value);
+    }
+
+    private List<OperationFuture<Boolean>> set(Iterable<KeyValueEntity> entities, int exp) {
+        List<OperationFuture<Boolean>> futures = new ArrayList<>();
+        for (KeyValueEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            futures.add(set(entity.key(), entity.value(), exp));
+        }
+        return futures;
+    }
+
+    private static List<Value> values(List<String> keys, Map<String, Object> values) {
+        return keys.stream()
+                .map(values::get)
+                .filter(Objects::nonNull)
+                .map(MemcachedBucketManager::toValue)
+                .collect(Collectors.toList());
+    }
+
+    private static Value toValue(Object value) {
+        if (value instanceof Value) {
+            return (Value) value;
+        }
+        return Value.of(value);
+    }
+
+    /**
+     * Awaits every operation within a single operation timeout, the operations are already on their way,
+     * so the wait for one overlaps the others. A result that does not match succeeded is an error, e.g. a set
+     * that the server did not store, whereas a delete of a key that does not exist is not.
+     *
+     * @param futures   the operations
+     * @param operation the operation name to the error messages
+     * @param succeeded the check of each operation result
+     */
+    private void await(List<OperationFuture<Boolean>> futures, String operation, Predicate<Boolean> succeeded) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(client.getOperationTimeout());
+        for (OperationFuture<Boolean> future : futures) {
+            try {
+                Boolean result = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!succeeded.test(result)) {
+                    throw new MemcachedException("The " + operation + " operation failed at the key " + future.getKey()
+                            + ": " + future.getStatus().getMessage(), null);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(false));
+                throw new MemcachedException("The " + operation + " operation was interrupted", exception);
+            } catch (TimeoutException exception) {
+                futures.forEach(f -> f.cancel(false));
+                throw new MemcachedException("The " + operation + " operation timed out at the key "
+                        + future.getKey(), exception);
+            } catch (ExecutionException exception) {
+                throw new MemcachedException("The " + operation + " operation failed at the key "
+                        + future.getKey(), exception.getCause());
+            }
+        }
+    }
+
+    private CompletableFuture<Void> stored(OperationFuture<Boolean> future) {
+        CompletableFuture<Void> stage = new CompletableFuture<>();
+        future.addListener(f -> complete(stage, f, stored -> {
+            if (!Boolean.TRUE.equals(stored)) {
+                throw new MemcachedException("The put operation failed at the key " + future.getKey()
+                        + ": " + f.getStatus().getMessage(), null);
+            }
+            return null;
+        }));
+        return stage;
+    }
+
+    private CompletableFuture<Void> deleted(OperationFuture<Boolean> future) {
+        CompletableFuture<Void> stage = new CompletableFuture<>();
+        future.addListener(f -> complete(stage, f, deleted -> null));
+        return stage;
+    }
+
+    private static CompletableFuture<Void> allOf(List<OperationFuture<Boolean>> futures,
+                                                 Function<OperationFuture<Boolean>, CompletableFuture<Void>> stage) {
+        return CompletableFuture.allOf(futures.stream().map(stage).toArray(CompletableFuture[]::new));
+    }
+
+    private static <T> void complete(CompletableFuture<T> stage, Future<?> future, Function<Object, T> mapper) {
+        try {
+            stage.complete(mapper.apply(future.get()));
+        } catch (ExecutionException exception) {
+            stage.completeExceptionally(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            stage.completeExceptionally(exception);
+        } catch (RuntimeException exception) {
+            stage.completeExceptionally(exception);
+        }
     }
 }
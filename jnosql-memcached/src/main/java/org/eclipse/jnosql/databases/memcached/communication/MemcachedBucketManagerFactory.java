@@ -23,7 +23,10 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 
-final class MemcachedBucketManagerFactory implements BucketManagerFactory {
+/**
+ * The memcached implementation of {@link BucketManagerFactory}
+ */
+public final class MemcachedBucketManagerFactory implements BucketManagerFactory {
 
     private final MemcachedClient client;
 
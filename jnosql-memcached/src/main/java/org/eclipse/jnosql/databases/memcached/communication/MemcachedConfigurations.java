@@ -38,9 +38,39 @@ public enum MemcachedConfigurations implements Supplier<String> {
      */
     PROTOCOL("jnosql.memcached.protocol"),
     /**
-     * The locator type {@link  net.spy.memcached.ConnectionFactoryBuilder.Locator}
+     * The locator type {@link  net.spy.memcached.ConnectionFactoryBuilder.Locator}. The CONSISTENT locator is
+     * the Ketama consistent hashing, where adding or removing a node remaps only the keys of that node instead
+     * of almost every key as the default ARRAY_MOD does. It keeps the {@link #HASH_ALGORITHM} default, so set
+     * KETAMA_HASH as well to place the keys on the same nodes as the other Ketama clients.
      */
     LOCATOR("jnosql.memcached.locator"),
+    /**
+     * The key hash algorithm {@link net.spy.memcached.DefaultHashAlgorithm}, E.g.: KETAMA_HASH or FNV1A_32_HASH.
+     * It defaults to NATIVE_HASH, whatever the locator is.
+     */
+    HASH_ALGORITHM("jnosql.memcached.hash.algorithm"),
+    /**
+     * What happens to the operations of a node that is down {@link net.spy.memcached.FailureMode}:
+     * redistribute, which moves them to the next node; retry, which waits for the node; or cancel.
+     */
+    FAILURE_MODE("jnosql.memcached.failure.mode"),
+    /**
+     * The type of the operation queues without a size: array, which keeps the client defaults; or linked,
+     * which makes them unbounded. A queue with a size is always a bounded array queue.
+     */
+    OPERATION_QUEUE("jnosql.memcached.operation.queue"),
+    /**
+     * The size of the queue of the operations waiting to be sent, the default is 16384.
+     */
+    OPERATION_QUEUE_SIZE("jnosql.memcached.operation.queue.size"),
+    /**
+     * The size of the queue of the operations waiting for their response.
+     */
+    READ_QUEUE_SIZE("jnosql.memcached.read.queue.size"),
+    /**
+     * The size of the queue of the operations being written.
+     */
+    WRITE_QUEUE_SIZE("jnosql.memcached.write.queue.size"),
     /**
      * Custom wait time for the authentication on connect/reconnect.
      */
@@ -81,7 +111,24 @@ public enum MemcachedConfigurations implements Supplier<String> {
     /**
      * Database's host. It is a prefix to enumerate hosts. E.g.: jnosql.memcached.host.1=localhost:11211
      */
-    HOST("jnosql.memcached.host");
+    HOST("jnosql.memcached.host"),
+    /**
+     * The transcoder that writes and reads the values: <b>serializing</b>, the spymemcached default that uses Java
+     * serialization; <b>json</b>, which writes every value as JSON through JSON-B; <b>binary</b>, which writes
+     * strings, numbers, booleans, dates and byte arrays as raw bytes and any other value as JSON; or the class name
+     * of a {@link net.spy.memcached.transcoders.Transcoder} implementation with a public no-arg constructor.
+     */
+    TRANSCODER("jnosql.memcached.transcoder"),
+    /**
+     * The compression of the values larger than the {@link #COMPRESSION_THRESHOLD}: none, gzip, lz4 or zstd.
+     * The lz4 and zstd options require the lz4-java and zstd-jni libraries. The serializing transcoder
+     * only supports gzip, its default, whereas the json and binary transcoders default to none.
+     */
+    COMPRESSION("jnosql.memcached.compression"),
+    /**
+     * The size in bytes above which a value is compressed, the default is 16384.
+     */
+    COMPRESSION_THRESHOLD("jnosql.memcached.compression.threshold");
 
     private final String configuration;
 
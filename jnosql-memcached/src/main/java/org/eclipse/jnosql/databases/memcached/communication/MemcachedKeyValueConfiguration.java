@@ -23,6 +23,8 @@ import net.spy.memcached.ConnectionFactory;
 import net.spy.memcached.ConnectionFactoryBuilder;
 import net.spy.memcached.ConnectionFactoryBuilder.Locator;
 import net.spy.memcached.ConnectionFactoryBuilder.Protocol;
+import net.spy.memcached.DefaultHashAlgorithm;
+import net.spy.memcached.FailureMode;
 import net.spy.memcached.MemcachedClient;
 import net.spy.memcached.auth.AuthDescriptor;
 
@@ -32,6 +34,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
@@ -49,6 +52,23 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
     @Override
     public MemcachedBucketManagerFactory apply(Settings settings) {
         requireNonNull(settings, "settings is required");
+        ConnectionFactory connectionFactory = connectionFactory(settings);
+
+        List<String> hots = settings.prefixSupplier(asList(MemcachedConfigurations.HOST, Configurations.HOST))
+                .stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+
+        List<InetSocketAddress> addresses = hots.isEmpty() ? Collections.emptyList() : AddrUtil.getAddresses(hots);
+
+        try {
+            return new MemcachedBucketManagerFactory(new MemcachedClient(connectionFactory, addresses));
+        } catch (IOException e) {
+            throw new MemcachedException("There is an error when try to create da BucketManager", e);
+        }
+    }
+
+    ConnectionFactory connectionFactory(Settings settings) {
         ConnectionFactoryBuilder factoryBuilder = new ConnectionFactoryBuilder();
 
         settings.get(MemcachedConfigurations.DAEMON, Boolean.class)
@@ -60,9 +80,20 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
         settings.get(MemcachedConfigurations.PROTOCOL, Protocol.class)
                 .ifPresent(factoryBuilder::setProtocol);
 
-        settings.get(MemcachedConfigurations.LOCATOR, Locator.class)
+        settings.get(MemcachedConfigurations.LOCATOR)
+                .map(Object::toString).map(l -> parse(Locator.class, l))
                 .ifPresent(factoryBuilder::setLocatorType);
 
+        settings.get(MemcachedConfigurations.HASH_ALGORITHM)
+                .map(Object::toString).map(h -> parse(DefaultHashAlgorithm.class, h))
+                .ifPresent(factoryBuilder::setHashAlg);
+
+        settings.get(MemcachedConfigurations.FAILURE_MODE)
+                .map(Object::toString).map(f -> parse(FailureMode.class, f))
+                .ifPresent(factoryBuilder::setFailureMode);
+
+        OperationQueues.of(settings).apply(factoryBuilder);
+
         settings.get(MemcachedConfigurations.AUTH_WAIT_TIME, Long.class)
                 .ifPresent(factoryBuilder::setAuthWaitTime);
 
@@ -84,6 +115,8 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
         settings.get(MemcachedConfigurations.USE_NAGLE_ALGORITHM, Boolean.class)
                 .ifPresent(factoryBuilder::setUseNagleAlgorithm);
 
+        Transcoders.of(settings).ifPresent(factoryBuilder::setTranscoder);
+
         settings.getSupplier(asList(MemcachedConfigurations.USER, Configurations.USER))
                 .map(Object::toString)
                 .ifPresent(u -> {
@@ -94,19 +127,16 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
                 });
 
 
-        List<String> hots = settings.prefixSupplier(asList(MemcachedConfigurations.HOST, Configurations.HOST))
-                .stream()
-                .map(Object::toString)
-                .collect(Collectors.toList());
-
-        List<InetSocketAddress> addresses = hots.isEmpty() ? Collections.emptyList() : AddrUtil.getAddresses(hots);
-        ConnectionFactory connectionFactory = factoryBuilder.build();
+        return factoryBuilder.build();
+    }
 
-        try {
-            return new MemcachedBucketManagerFactory(new MemcachedClient(connectionFactory, addresses));
-        } catch (IOException e) {
-            throw new MemcachedException("There is an error when try to create da BucketManager", e);
-        }
+    private static <T extends Enum<T>> T parse(Class<T> type, String value) {
+        return Stream.of(type.getEnumConstants())
+                .filter(c -> c.name().replace("_", "").equalsIgnoreCase(value.trim().replace("_", "")))
+                .findFirst()
+                .orElseThrow(() -> new MemcachedException("The value " + value + " is not valid to "
+                        + type.getSimpleName() + ", the options are: " + Stream.of(type.getEnumConstants())
+                        .map(Enum::name).collect(Collectors.joining(", ")), null));
     }
 
     /**
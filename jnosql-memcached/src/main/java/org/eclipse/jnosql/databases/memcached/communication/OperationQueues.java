@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import net.spy.memcached.ConnectionFactoryBuilder;
+import net.spy.memcached.ops.ArrayOperationQueueFactory;
+import net.spy.memcached.ops.LinkedOperationQueueFactory;
+import net.spy.memcached.ops.OperationQueueFactory;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Reads the operation queue settings of {@link MemcachedConfigurations}: the queue type and the sizes
+ * of the operation, read and write queues. A queue with a size is a bounded array queue, a queue without size is
+ * unbounded when the type is linked, otherwise it keeps the client default.
+ */
+final class OperationQueues {
+
+    private final boolean linked;
+
+    private final Optional<Integer> operationSize;
+
+    private final Optional<Integer> readSize;
+
+    private final Optional<Integer> writeSize;
+
+    private OperationQueues(boolean linked, Optional<Integer> operationSize, Optional<Integer> readSize,
+                            Optional<Integer> writeSize) {
+        this.linked = linked;
+        this.operationSize = operationSize;
+        this.readSize = readSize;
+        this.writeSize = writeSize;
+    }
+
+    void apply(ConnectionFactoryBuilder builder) {
+        factory(operationSize).ifPresent(builder::setOpQueueFactory);
+        factory(readSize).ifPresent(builder::setReadOpQueueFactory);
+        factory(writeSize).ifPresent(builder::setWriteOpQueueFactory);
+    }
+
+    private Optional<OperationQueueFactory> factory(Optional<Integer> size) {
+        if (size.isPresent()) {
+            if (size.get() <= 0) {
+                throw new MemcachedException("The queue size must be greater than zero: " + size.get(), null);
+            }
+            return Optional.of(new ArrayOperationQueueFactory(size.get()));
+        } else if (linked) {
+            return Optional.of(new LinkedOperationQueueFactory());
+        }
+        return Optional.empty();
+    }
+
+    static OperationQueues of(Settings settings) {
+        boolean linked = settings.get(MemcachedConfigurations.OPERATION_QUEUE)
+                .map(Object::toString)
+                .map(t -> t.trim().toLowerCase(Locale.US))
+                .map(t -> {
+                    if (!"array".equals(t) && !"linked".equals(t)) {
+                        throw new MemcachedException("The operation queue " + t
+                                + " is not valid, the options are: array, linked", null);
+                    }
+                    return "linked".equals(t);
+                }).orElse(false);
+        return new OperationQueues(linked, size(settings, MemcachedConfigurations.OPERATION_QUEUE_SIZE),
+                size(settings, MemcachedConfigurations.READ_QUEUE_SIZE),
+                size(settings, MemcachedConfigurations.WRITE_QUEUE_SIZE));
+    }
+
+    private static Optional<Integer> size(Settings settings, MemcachedConfigurations configuration) {
+        return settings.get(configuration).map(Object::toString).map(String::trim).map(Integer::parseInt);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import net.spy.memcached.transcoders.SerializingTranscoder;
+import net.spy.memcached.transcoders.Transcoder;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Creates the {@link Transcoder} from the {@link MemcachedConfigurations#TRANSCODER},
+ * {@link MemcachedConfigurations#COMPRESSION} and {@link MemcachedConfigurations#COMPRESSION_THRESHOLD} settings.
+ */
+final class Transcoders {
+
+    static final String SERIALIZING = "serializing";
+    static final String JSON = "json";
+    static final String BINARY = "binary";
+
+    private Transcoders() {
+    }
+
+    /**
+     * Returns the transcoder from the settings, or empty when there is no transcoder setting,
+     * so the client keeps its default.
+     *
+     * @param settings the settings
+     * @return the transcoder
+     * @throws MemcachedException when the settings are not valid
+     */
+    static Optional<Transcoder<Object>> of(Settings settings) {
+        Optional<String> name = settings.get(MemcachedConfigurations.TRANSCODER).map(Object::toString);
+        Optional<Compression> compression = settings.get(MemcachedConfigurations.COMPRESSION)
+                .map(Object::toString).map(Compression::parse);
+        Optional<Integer> threshold = settings.get(MemcachedConfigurations.COMPRESSION_THRESHOLD)
+                .map(Object::toString).map(Integer::parseInt);
+        if (name.isEmpty() && compression.isEmpty() && threshold.isEmpty()) {
+            return Optional.empty();
+        }
+        String transcoder = name.orElse(SERIALIZING);
+        switch (transcoder.trim().toLowerCase(Locale.US)) {
+            case SERIALIZING:
+                return Optional.of(serializing(compression.orElse(Compression.GZIP), threshold));
+            case JSON:
+                return Optional.of(new JsonTranscoder(compression.orElse(Compression.NONE),
+                        threshold.orElse(CompressingTranscoder.DEFAULT_THRESHOLD)));
+            case BINARY:
+                return Optional.of(new BinaryTranscoder(compression.orElse(Compression.NONE),
+                        threshold.orElse(CompressingTranscoder.DEFAULT_THRESHOLD)));
+            default:
+                return Optional.of(custom(transcoder.trim()));
+        }
+    }
+
+    private static Transcoder<Object> serializing(Compression compression, Optional<Integer> threshold) {
+        SerializingTranscoder transcoder = new SerializingTranscoder();
+        if (compression == Compression.NONE) {
+            transcoder.setCompressionThreshold(Integer.MAX_VALUE);
+        } else if (compression == Compression.GZIP) {
+            threshold.ifPresent(transcoder::setCompressionThreshold);
+        } else {
+            throw new MemcachedException("The " + SERIALIZING + " transcoder only supports the GZIP compression, "
+                    + "use the " + JSON + " or " + BINARY + " transcoder to " + compression, null);
+        }
+        return transcoder;
+    }
+
+    private static Transcoder<Object> custom(String className) {
+        try {
+            Class<?> type = Class.forName(className);
+            if (!Transcoder.class.isAssignableFrom(type)) {
+                throw new MemcachedException("The class " + className + " does not implement "
+                        + Transcoder.class.getName(), null);
+            }
+            return (Transcoder<Object>) type.getConstructor().newInstance();
+        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException
+                 | IllegalAccessException | InvocationTargetException exception) {
+            throw new MemcachedException("There is an error when creating the transcoder " + className, exception);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The Zstd frame streams of {@link Compression#ZSTD}. They live apart from the enum, so the optional zstd-jni
+ * library is only loaded when a value uses Zstd.
+ */
+final class ZstdStreams {
+
+    private ZstdStreams() {
+    }
+
+    static OutputStream compressor(OutputStream output) throws IOException {
+        return new ZstdOutputStream(output);
+    }
+
+    static InputStream decompressor(InputStream input) throws IOException {
+        return new ZstdInputStream(input);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.Transcoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CompressionTest {
+
+    @Test
+    public void shouldReadAndWriteWithoutTheOptionalLibraries() throws Exception {
+        ClassLoader loader = new WithoutCodecsClassLoader(CompressionTest.class.getClassLoader());
+        assertThrows(ClassNotFoundException.class, () -> loader.loadClass("net.jpountz.lz4.LZ4FrameOutputStream"));
+        assertThrows(ClassNotFoundException.class, () -> loader.loadClass("com.github.luben.zstd.ZstdOutputStream"));
+
+        Callable<String> roundTrip = (Callable<String>) loader.loadClass(RoundTrip.class.getName())
+                .getDeclaredConstructor().newInstance();
+
+        assertEquals("gzip:otavio, none:otavio, lz4:error", roundTrip.call());
+    }
+
+    /**
+     * Runs at the {@link WithoutCodecsClassLoader}, where neither lz4-java nor zstd-jni is available.
+     */
+    public static class RoundTrip implements Callable<String> {
+
+        @Override
+        public String call() {
+            String value = "otavio".repeat(100);
+            Transcoder<Object> gzip = new BinaryTranscoder(Compression.GZIP, 0);
+            Transcoder<Object> none = new BinaryTranscoder(Compression.NONE, 0);
+            CachedData compressed = gzip.encode(value);
+            CachedData plain = none.encode(value);
+            String lz4;
+            try {
+                Compression.parse("lz4");
+                lz4 = "available";
+            } catch (MemcachedException exception) {
+                lz4 = "error";
+            }
+            try {
+                none.decode(new CachedData(Compression.LZ4.flag(), new byte[]{1}, CachedData.MAX_SIZE));
+                lz4 += " decoded";
+            } catch (MemcachedException exception) {
+                lz4 += exception.getMessage().contains("net.jpountz") ? "" : " wrong message";
+            }
+            return "gzip:" + name(none.decode(compressed), compressed, Compression.GZIP)
+                    + ", none:" + name(gzip.decode(plain), plain, Compression.NONE)
+                    + ", lz4:" + lz4;
+        }
+
+        private static String name(Object value, CachedData data, Compression compression) {
+            if ((data.getFlags() & Compression.MASK) != compression.flag()) {
+                return "wrong flags";
+            }
+            return value.toString().substring(0, 6);
+        }
+    }
+
+    /**
+     * Defines the classes of this package itself and hides the optional compression libraries.
+     */
+    private static final class WithoutCodecsClassLoader extends ClassLoader {
+
+        private static final String PACKAGE = CompressionTest.class.getPackageName() + '.';
+
+        private WithoutCodecsClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("net.jpountz.") || name.startsWith("com.github.luben.")) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith(PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    if (input == null) {
+                        throw new ClassNotFoundException(name);
+                    }
+                    byte[] bytes = input.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException exception) {
+                    throw new ClassNotFoundException(name, exception);
+                }
+            }
+        }
+    }
+}
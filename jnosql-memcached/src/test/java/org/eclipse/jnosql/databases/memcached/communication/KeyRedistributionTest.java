@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import net.spy.memcached.KetamaNodeLocator;
+import net.spy.memcached.MemcachedClient;
+import net.spy.memcached.NodeLocator;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures how many keys move to another node when a node joins the cluster. The nodes are local stand-in
+ * servers that only accept connections, which is all the node locators need.
+ */
+public class KeyRedistributionTest {
+
+    private static final int KEYS = 10_000;
+
+    private final List<ServerSocket> servers = new ArrayList<>();
+
+    @BeforeEach
+    public void startServers() throws IOException {
+        for (int index = 0; index < 5; index++) {
+            servers.add(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+        }
+    }
+
+    @AfterEach
+    public void stopServers() throws IOException {
+        for (ServerSocket server : servers) {
+            server.close();
+        }
+    }
+
+    @Test
+    public void shouldMoveFewKeysWithKetama() throws IOException {
+        double moved = redistribution("CONSISTENT");
+        assertTrue(moved < 0.3, "Ketama moved " + percent(moved) + " of the keys");
+    }
+
+    @Test
+    public void shouldMoveMostKeysWithArrayMod() throws IOException {
+        double moved = redistribution("ARRAY_MOD");
+        assertTrue(moved > 0.6, "Array mod moved " + percent(moved) + " of the keys");
+    }
+
+    @Test
+    public void shouldUseKetamaLocator() throws IOException {
+        MemcachedClient client = client("CONSISTENT", servers.size());
+        try {
+            assertInstanceOf(KetamaNodeLocator.class, client.getNodeLocator());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * Returns the share of the keys whose node changes when the cluster grows from four to five nodes,
+     * the ideal is one fifth, 20%.
+     */
+    private double redistribution(String locator) throws IOException {
+        Map<String, SocketAddress> before = nodes(locator, servers.size() - 1);
+        Map<String, SocketAddress> after = nodes(locator, servers.size());
+        long moved = before.keySet().stream().filter(key -> !before.get(key).equals(after.get(key))).count();
+        return (double) moved / KEYS;
+    }
+
+    private Map<String, SocketAddress> nodes(String locator, int nodes) throws IOException {
+        MemcachedClient client = client(locator, nodes);
+        try {
+            NodeLocator nodeLocator = client.getNodeLocator();
+            return IntStream.range(0, KEYS).mapToObj(index -> "users:" + index)
+                    .collect(Collectors.toMap(Function.identity(),
+                            key -> nodeLocator.getPrimary(key).getSocketAddress()));
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private MemcachedClient client(String locator, int nodes) throws IOException {
+        Settings settings = Settings.builder().put(MemcachedConfigurations.LOCATOR, locator)
+                .put(MemcachedConfigurations.HASH_ALGORITHM, "KETAMA_HASH").build();
+        List<InetSocketAddress> addresses = servers.subList(0, nodes).stream()
+                .map(server -> new InetSocketAddress(server.getInetAddress(), server.getLocalPort()))
+                .collect(Collectors.toList());
+        return new MemcachedClient(new MemcachedKeyValueConfiguration().connectionFactory(settings), addresses);
+    }
+
+    private static String percent(double share) {
+        return String.format("%.1f%%", share * 100);
+    }
+}
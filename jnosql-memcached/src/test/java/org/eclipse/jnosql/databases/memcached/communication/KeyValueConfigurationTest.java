@@ -14,6 +14,9 @@
  */
 package org.eclipse.jnosql.databases.memcached.communication;
 
+import net.spy.memcached.ConnectionFactory;
+import net.spy.memcached.DefaultHashAlgorithm;
+import net.spy.memcached.FailureMode;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
@@ -24,7 +27,9 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class KeyValueConfigurationTest {
 
@@ -43,6 +48,49 @@ public class KeyValueConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldReadLocatorSettings() {
+        Settings settings = Settings.builder()
+                .put(MemcachedConfigurations.LOCATOR, "consistent")
+                .put(MemcachedConfigurations.FAILURE_MODE, "retry")
+                .build();
+        ConnectionFactory factory = configuration.connectionFactory(settings);
+        assertEquals(DefaultHashAlgorithm.NATIVE_HASH, factory.getHashAlg());
+        assertEquals(FailureMode.Retry, factory.getFailureMode());
+
+        factory = configuration.connectionFactory(Settings.builder()
+                .put(MemcachedConfigurations.LOCATOR, "CONSISTENT")
+                .put(MemcachedConfigurations.HASH_ALGORITHM, "ketama_hash").build());
+        assertEquals(DefaultHashAlgorithm.KETAMA_HASH, factory.getHashAlg());
+
+        factory = configuration.connectionFactory(Settings.builder()
+                .put(MemcachedConfigurations.LOCATOR, "CONSISTENT")
+                .put(MemcachedConfigurations.HASH_ALGORITHM, "fnv1a_32_hash").build());
+        assertEquals(DefaultHashAlgorithm.FNV1A_32_HASH, factory.getHashAlg());
+    }
+
+    @Test
+    public void shouldReadQueueSettings() {
+        Settings settings = Settings.builder()
+                .put(MemcachedConfigurations.OPERATION_QUEUE, "linked")
+                .put(MemcachedConfigurations.OPERATION_QUEUE_SIZE, "100")
+                .build();
+        ConnectionFactory factory = configuration.connectionFactory(settings);
+        assertEquals(100, factory.createOperationQueue().remainingCapacity());
+        assertEquals(Integer.MAX_VALUE, factory.createReadOperationQueue().remainingCapacity());
+        assertEquals(Integer.MAX_VALUE, factory.createWriteOperationQueue().remainingCapacity());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSettingIsInvalid() {
+        assertThrows(MemcachedException.class, () -> configuration.connectionFactory(Settings.builder()
+                .put(MemcachedConfigurations.FAILURE_MODE, "ignore").build()));
+        assertThrows(MemcachedException.class, () -> configuration.connectionFactory(Settings.builder()
+                .put(MemcachedConfigurations.OPERATION_QUEUE, "priority").build()));
+        assertThrows(MemcachedException.class, () -> configuration.connectionFactory(Settings.builder()
+                .put(MemcachedConfigurations.READ_QUEUE_SIZE, "0").build()));
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         KeyValueConfiguration configuration = KeyValueConfiguration.getConfiguration();
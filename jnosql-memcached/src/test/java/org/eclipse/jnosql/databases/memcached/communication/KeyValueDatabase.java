@@ -19,6 +19,8 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.Supplier;
 
 public enum KeyValueDatabase implements Supplier<BucketManagerFactory> {
@@ -36,8 +38,13 @@ public enum KeyValueDatabase implements Supplier<BucketManagerFactory> {
 
     @Override
     public BucketManagerFactory get() {
+        return get(Collections.emptyMap());
+    }
+
+    public BucketManagerFactory get(Map<String, Object> properties) {
         String host  = memcached.getHost() +':' + memcached.getFirstMappedPort();
-        Settings settings = Settings.builder().put(MemcachedConfigurations.HOST.get()+".1", host).build();
+        Settings settings = Settings.builder().putAll(properties)
+                .put(MemcachedConfigurations.HOST.get()+".1", host).build();
         MemcachedKeyValueConfiguration configuration = new MemcachedKeyValueConfiguration();
         return configuration.apply(settings);
     }
@@ -26,9 +26,11 @@ import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -133,5 +135,68 @@ public class MemcachedBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldMultiGetInTheKeysOrder() {
+        List<KeyValueEntity> entities = IntStream.range(0, 200)
+                .mapToObj(i -> KeyValueEntity.of("user-" + i, Value.of(new User("user-" + i))))
+                .collect(Collectors.toList());
+        keyValueEntityManager.put(entities);
+
+        List<String> keys = IntStream.range(0, 201).map(i -> 200 - i)
+                .mapToObj(i -> "user-" + i).collect(Collectors.toList());
+        List<User> users = StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false)
+                .map(value -> value.get(User.class)).collect(Collectors.toList());
+        assertEquals(200, users.size());
+        assertEquals(new User("user-199"), users.get(0));
+        assertEquals(new User("user-0"), users.get(199));
+
+        keyValueEntityManager.delete(keys);
+        assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldPutAndGetAsync() {
+        MemcachedBucketManager manager = (MemcachedBucketManager) keyValueEntityManager;
+        manager.putAsync(asList(entitySoro, entityOtavio)).toCompletableFuture().join();
+
+        Optional<Value> otavio = manager.getAsync("otavio").toCompletableFuture().join();
+        assertTrue(otavio.isPresent());
+        assertEquals(this.otavio, otavio.get().get(User.class));
+
+        Iterable<Value> values = manager.getAsync(asList("soro", "otavio", "unknown")).toCompletableFuture().join();
+        assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class)).collect(Collectors.toList()))
+                .containsExactly(soro, this.otavio);
+
+        manager.deleteAsync(asList("soro", "otavio", "unknown")).toCompletableFuture().join();
+        assertFalse(manager.getAsync("otavio").toCompletableFuture().join().isPresent());
+    }
+
+    @Test
+    public void shouldReadTypedValuesWithJsonTranscoder() {
+        BucketManager manager = KeyValueDatabase.INSTANCE.get(Map.of(MemcachedConfigurations.TRANSCODER.get(), "json",
+                        MemcachedConfigurations.COMPRESSION.get(), "lz4",
+                        MemcachedConfigurations.COMPRESSION_THRESHOLD.get(), "64"))
+                .apply("books");
+        Book book = new Book("Effective Java", 412);
+        Book large = new Book("a".repeat(1_000), 1);
+        manager.put(asList(KeyValueEntity.of("book", book), KeyValueEntity.of("large", large)));
+
+        assertEquals(book, manager.get("book").map(value -> value.get(Book.class)).orElse(null));
+        assertThat(StreamSupport.stream(manager.get(asList("large", "book")).spliterator(), false)
+                .map(value -> value.get(Book.class)).collect(Collectors.toList()))
+                .containsExactly(large, book);
+        manager.delete(asList("book", "large"));
+    }
+
+    @Test
+    public void shouldPutAsyncWithTTL() throws InterruptedException {
+        MemcachedBucketManager manager = (MemcachedBucketManager) keyValueEntityManager;
+        manager.putAsync(entityOtavio, Duration.ofSeconds(1L)).toCompletableFuture().join();
+        assertTrue(manager.get("otavio").isPresent());
+        TimeUnit.SECONDS.sleep(3L);
+        assertFalse(manager.get("otavio").isPresent());
+    }
+
 
 }
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.SerializingTranscoder;
+import net.spy.memcached.transcoders.Transcoder;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.SettingsBuilder;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TranscodersTest {
+
+    private final Book book = new Book("Effective Java", 412);
+
+    @Test
+    public void shouldKeepTheClientDefault() {
+        assertFalse(Transcoders.of(Settings.builder().build()).isPresent());
+    }
+
+    @Test
+    public void shouldCreateTranscoders() {
+        assertInstanceOf(JsonTranscoder.class, transcoder("json", null));
+        assertInstanceOf(BinaryTranscoder.class, transcoder("BINARY", "zstd"));
+        assertInstanceOf(SerializingTranscoder.class, transcoder("serializing", "gzip"));
+        assertInstanceOf(SerializingTranscoder.class, transcoder(null, "none"));
+        assertInstanceOf(SerializingTranscoder.class, transcoder(SerializingTranscoder.class.getName(), null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSettingsAreInvalid() {
+        assertThrows(MemcachedException.class, () -> transcoder("serializing", "lz4"));
+        assertThrows(MemcachedException.class, () -> transcoder("json", "snappy"));
+        assertThrows(MemcachedException.class, () -> transcoder(String.class.getName(), null));
+        assertThrows(MemcachedException.class, () -> transcoder("org.jnosql.Unknown", null));
+    }
+
+    @Test
+    public void shouldWriteJson() {
+        Transcoder<Object> transcoder = transcoder("json", null);
+        CachedData data = transcoder.encode(book);
+        assertEquals(JsonTranscoder.JSON, data.getFlags());
+        assertTrue(new String(data.getData(), StandardCharsets.UTF_8).contains("\"title\":\"Effective Java\""));
+
+        Value value = (Value) transcoder.decode(data);
+        assertEquals(book, value.get(Book.class));
+        assertEquals("Effective Java", ((Map<?, ?>) value.get()).get("title"));
+    }
+
+    @Test
+    public void shouldReadJsonWrittenByOtherClients() {
+        Transcoder<Object> transcoder = transcoder("json", null);
+        byte[] json = "{\"title\":\"Clean Code\",\"pages\":464}".getBytes(StandardCharsets.UTF_8);
+        Value value = (Value) transcoder.decode(new CachedData(0, json, CachedData.MAX_SIZE));
+        assertEquals(new Book("Clean Code", 464), value.get(Book.class));
+    }
+
+    @Test
+    public void shouldWriteBinary() {
+        Transcoder<Object> transcoder = transcoder("binary", null);
+        for (Object value : List.of("otavio", 10, 10L, true, (byte) 1, 1.5F, 2.5D, new Date(1_000L))) {
+            assertEquals(value, transcoder.decode(transcoder.encode(value)));
+        }
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) transcoder.decode(transcoder.encode(new byte[]{1, 2, 3})));
+
+        Value value = (Value) transcoder.decode(transcoder.encode(book));
+        assertEquals(book, value.get(Book.class));
+    }
+
+    @Test
+    public void shouldShareTheLayoutWithSerializingTranscoder() {
+        Transcoder<Object> transcoder = transcoder("binary", null);
+        SerializingTranscoder serializing = new SerializingTranscoder();
+        for (Object value : List.of("otavio", 10, 10L, true, 2.5D)) {
+            assertEquals(value, transcoder.decode(serializing.encode(value)));
+            assertEquals(value, serializing.decode(transcoder.encode(value)));
+        }
+        assertNull(transcoder.decode(serializing.encode(new User("otavio"))));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = {"GZIP", "LZ4", "ZSTD"})
+    public void shouldCompressAboveThreshold(Compression compression) {
+        Transcoder<Object> transcoder = transcoder("binary", compression.name(), 100);
+        String small = "a".repeat(100);
+        String large = "a".repeat(10_000);
+
+        CachedData smallData = transcoder.encode(small);
+        assertEquals(0, smallData.getFlags() & Compression.MASK);
+        assertEquals(small, transcoder.decode(smallData));
+
+        CachedData largeData = transcoder.encode(large);
+        assertEquals(compression.flag(), largeData.getFlags() & Compression.MASK);
+        assertTrue(largeData.getData().length < 1_000);
+        assertEquals(large, transcoder.decode(largeData));
+        assertEquals(large, transcoder("binary", null).decode(largeData));
+    }
+
+    @Test
+    public void shouldNotCompressWhenItIsNotSmaller() {
+        Transcoder<Object> transcoder = transcoder("json", "lz4", 0);
+        CachedData data = transcoder.encode(1);
+        assertEquals(0, data.getFlags() & Compression.MASK);
+    }
+
+    private Transcoder<Object> transcoder(String name, String compression) {
+        return transcoder(name, compression, null);
+    }
+
+    private Transcoder<Object> transcoder(String name, String compression, Integer threshold) {
+        SettingsBuilder builder = Settings.builder();
+        if (name != null) {
+            builder.put(MemcachedConfigurations.TRANSCODER, name);
+        }
+        if (compression != null) {
+            builder.put(MemcachedConfigurations.COMPRESSION, compression);
+        }
+        if (threshold != null) {
+            builder.put(MemcachedConfigurations.COMPRESSION_THRESHOLD, threshold);
+        }
+        return Transcoders.of(builder.build()).orElseThrow();
+    }
+}
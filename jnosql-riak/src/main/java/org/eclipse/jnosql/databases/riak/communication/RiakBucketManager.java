@@ -16,11 +16,16 @@ package org.eclipse.jnosql.databases.riak.communication;
 
 
 import com.basho.riak.client.api.RiakClient;
+import com.basho.riak.client.api.RiakCommand;
 import com.basho.riak.client.api.cap.UnresolvedConflictException;
 import com.basho.riak.client.api.commands.kv.DeleteValue;
 import com.basho.riak.client.api.commands.kv.FetchValue;
 import com.basho.riak.client.api.commands.kv.FetchValue.Response;
+import com.basho.riak.client.api.commands.kv.MultiDelete;
+import com.basho.riak.client.api.commands.kv.MultiFetch;
 import com.basho.riak.client.api.commands.kv.StoreValue;
+import com.basho.riak.client.core.RiakFuture;
+import com.basho.riak.client.core.query.Location;
 import com.basho.riak.client.core.query.Namespace;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
@@ -28,25 +33,42 @@ import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.communication.driver.ValueJSON;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
 
+/**
+ * The riak implementation to {@link BucketManager}. The batch operations send their requests concurrently,
+ * keeping up to the max in flight requests at the same time: the reads and the removals go through
+ * {@link MultiFetch} and {@link MultiDelete}, and the writes through {@link RiakClient#executeAsync(RiakCommand)}.
+ *
+ * @see RiakConfigurations#MAX_IN_FLIGHT
+ */
 public class RiakBucketManager implements BucketManager {
 
+    static final int DEFAULT_MAX_IN_FLIGHT = 10;
+
     private final RiakClient client;
 
     private final Namespace nameSpace;
 
     private final String bucketName;
 
-    RiakBucketManager(RiakClient client, Namespace nameSpace, String bucketName) {
+    private final int maxInFlight;
+
+    RiakBucketManager(RiakClient client, Namespace nameSpace, String bucketName, int maxInFlight) {
         this.client = client;
         this.nameSpace = nameSpace;
         this.bucketName = bucketName;
+        this.maxInFlight = maxInFlight;
     }
 
     @Override
@@ -82,14 +104,18 @@ public class RiakBucketManager implements BucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        put(entities, Duration.ZERO);
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl)
             throws NullPointerException, UnsupportedOperationException {
-
-        StreamSupport.stream(entities.spliterator(), false).forEach(e -> put(e, ttl));
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<StoreValue> commands = StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> RiakUtils.createStoreValue(e.key(), e.value(), nameSpace, ttl))
+                .collect(toList());
+        executeAll(commands);
     }
 
     @Override
@@ -103,44 +129,33 @@ public class RiakBucketManager implements BucketManager {
         try {
 
             FetchValue.Response response = client.execute(fetchValue);
-
-            String valueFetch = response.getValue(String.class);
-            if (Objects.nonNull(valueFetch) && !valueFetch.isEmpty()) {
-                return Optional.of(ValueJSON.of(valueFetch));
-            }
+            return toValue(response);
 
         } catch (ExecutionException | InterruptedException e) {
             throw new RiakCommunicationException(e.getMessage(), e);
         }
-        return Optional.empty();
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> RiakUtils.createLocation(nameSpace, k))
-                .map(l -> new FetchValue.Builder(l).build())
-                .map(f -> {
-                            try {
-                                return client.execute(f);
-                            } catch (ExecutionException | InterruptedException e) {
-                                throw new RiakCommunicationException(e.getMessage(), e);
-                            }
-                        }
-                )
-                .filter(Response::hasValues)
-                .map(r -> {
-
-                    try {
-                        return r.getValue(String.class);
-                    } catch (UnresolvedConflictException e) {
-                        throw new RiakCommunicationException(e.getMessage(), e);
-                    }
-
-                })
-                .filter(s -> Objects.nonNull(s) && !s.isEmpty()).map(ValueJSON::of)
-                .collect(toList());
+        Objects.requireNonNull(keys, "keys is required");
+        List<Location> locations = locations(keys);
+        if (locations.isEmpty()) {
+            return new ArrayList<>();
+        }
+        MultiFetch multiFetch = new MultiFetch.Builder()
+                .addLocations(locations)
+                .withMaxInFlight(maxInFlight)
+                .build();
+        try {
+            List<Value> values = new ArrayList<>();
+            for (RiakFuture<Response, Location> future : client.execute(multiFetch)) {
+                toValue(future.get()).ifPresent(values::add);
+            }
+            return values;
+        } catch (ExecutionException | InterruptedException e) {
+            throw new RiakCommunicationException(e.getMessage(), e);
+        }
     }
 
 
@@ -158,11 +173,138 @@ public class RiakBucketManager implements BucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        Objects.requireNonNull(keys, "keys is required");
+        List<Location> locations = locations(keys);
+        if (locations.isEmpty()) {
+            return;
+        }
+        MultiDelete multiDelete = new MultiDelete.Builder()
+                .addLocations(locations)
+                .withMaxInFlight(maxInFlight)
+                .build();
+        try {
+            for (RiakFuture<Void, Location> future : client.execute(multiDelete)) {
+                future.get();
+            }
+        } catch (ExecutionException | InterruptedException e) {
+            throw new RiakCommunicationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously
+     *
+     * @param entity the entity to be put
+     * @return the {@link CompletionStage} that completes when the entity is saved
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity) {
+        return putAsync(entity, Duration.ZERO);
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously with time to live
+     *
+     * @param entity the entity to be put
+     * @param ttl    the time to live
+     * @return the {@link CompletionStage} that completes when the entity is saved
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        StoreValue storeValue = RiakUtils.createStoreValue(entity.key(), entity.value(), nameSpace, ttl);
+        return toStage(client.executeAsync(storeValue)).thenApply(r -> null);
+    }
+
+    /**
+     * Finds the Value from a key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} with the {@link Optional} value
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Optional<Value>> getAsync(K key) {
+        Objects.requireNonNull(key, "key is required");
+        FetchValue fetchValue = RiakUtils.createFetchValue(nameSpace, key);
+        return toStage(client.executeAsync(fetchValue)).thenApply(RiakBucketManager::toValue);
+    }
+
+    /**
+     * Removes an entity from the key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} that completes when the key is removed
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        Objects.requireNonNull(key, "key is required");
+        DeleteValue deleteValue = RiakUtils.createDeleteValue(nameSpace, key);
+        return toStage(client.executeAsync(deleteValue));
     }
 
     @Override
     public void close() {
-        client.shutdown();
+    }
+
+    private <K> List<Location> locations(Iterable<K> keys) {
+        return StreamSupport.stream(keys.spliterator(), false)
+                .map(k -> RiakUtils.createLocation(nameSpace, k))
+                .collect(toList());
+    }
+
+    /**
+     * Sends the commands keeping up to the max in flight requests at the same time, and waits for all of them.
+     */
+    private <T, S> void executeAll(List<? extends RiakCommand<T, S>> commands) {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<CompletableFuture<T>> futures = new ArrayList<>(commands.size());
+        try {
+            for (RiakCommand<T, S> command : commands) {
+                inFlight.acquire();
+                CompletableFuture<T> future = toStage(client.executeAsync(command));
+                future.whenComplete((r, e) -> inFlight.release());
+                futures.add(future);
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RiakCommunicationException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RiakCommunicationException) {
+                throw (RiakCommunicationException) e.getCause();
+            }
+            throw new RiakCommunicationException(e.getMessage(), e);
+        }
+    }
+
+    private static <T, S> CompletableFuture<T> toStage(RiakFuture<T, S> future) {
+        CompletableFuture<T> stage = new CompletableFuture<>();
+        future.addListener(f -> {
+            if (f.isSuccess()) {
+                stage.complete(f.getNow());
+            } else {
+                stage.completeExceptionally(new RiakCommunicationException(String.valueOf(f.cause().getMessage()),
+                        f.cause()));
+            }
+        });
+        return stage;
+    }
+
+    private static Optional<Value> toValue(Response response) {
+        if (!response.hasValues()) {
+            return Optional.empty();
+        }
+        try {
+            String value = response.getValue(String.class);
+            if (Objects.nonNull(value) && !value.isEmpty()) {
+                return Optional.of(ValueJSON.of(value));
+            }
+            return Optional.empty();
+        } catch (UnresolvedConflictException e) {
+            throw new RiakCommunicationException(e.getMessage(), e);
+        }
     }
 }
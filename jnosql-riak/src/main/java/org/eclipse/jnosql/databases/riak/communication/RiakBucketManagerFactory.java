@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The riak implementation to {@link BucketManagerFactory} that returns {@link RiakBucketManager}
@@ -38,18 +39,39 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
 
     private final RiakCluster cluster;
 
-    RiakBucketManagerFactory(RiakCluster cluster) {
+    private final RiakClient client;
+
+    private final int maxInFlight;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    RiakBucketManagerFactory(RiakCluster cluster, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("The max in flight must be greater than zero: " + maxInFlight);
+        }
         this.cluster = cluster;
+        this.client = new RiakClient(cluster);
+        this.maxInFlight = maxInFlight;
     }
 
+    /**
+     * Returns a {@link RiakBucketManager} of the bucket. The cluster starts at the first call, and all the bucket
+     * managers share it and its client, so closing a bucket manager keeps the cluster running until this factory
+     * is closed.
+     *
+     * @param bucketName the bucket name
+     * @return the {@link RiakBucketManager}
+     * @throws NullPointerException when bucketName is null
+     */
     @Override
     public RiakBucketManager apply(String bucketName) throws UnsupportedOperationException {
         Objects.requireNonNull(bucketName, "bucketName is required");
-        cluster.start();
-        RiakClient riakClient = new RiakClient(cluster);
+        if (started.compareAndSet(false, true)) {
+            cluster.start();
+        }
         Namespace quotesBucket = new Namespace(bucketName);
 
-        return new RiakBucketManager(riakClient, quotesBucket, bucketName);
+        return new RiakBucketManager(client, quotesBucket, bucketName, maxInFlight);
     }
 
     @Override
@@ -75,7 +97,9 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
 
     @Override
     public void close() {
-        cluster.shutdown();
+        if (started.get()) {
+            cluster.shutdown();
+        }
     }
 
 }
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.riak.communication;
+
+import java.util.function.Supplier;
+
+/**
+ * An enumeration to show the available options to connect to the Riak database.
+ * It implements {@link Supplier}, where its it returns the property name that might be
+ * overwritten by the system environment using Eclipse Microprofile or Jakarta Config API.
+ *
+ * @see org.eclipse.jnosql.communication.Settings
+ */
+public enum RiakConfigurations implements Supplier<String> {
+
+    /**
+     * Database's host. It is a prefix to enumerate hosts. E.g.: jnosql.riak.host.1=localhost:8087
+     */
+    HOST("jnosql.riak.host"),
+    /**
+     * The maximum number of requests in flight at the same time of a batch operation, the default is 10.
+     */
+    MAX_IN_FLIGHT("jnosql.riak.max.in.flight");
+
+    private final String configuration;
+
+    RiakConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+}
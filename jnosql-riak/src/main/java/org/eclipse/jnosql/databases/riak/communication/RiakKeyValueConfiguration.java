@@ -31,12 +31,12 @@ import static java.util.Objects.requireNonNull;
 /**
  * The riak implementation to {@link KeyValueConfiguration} that returns {@link RiakBucketManagerFactory}.
  * <p>riak.host-: The prefix to host. eg: riak.server.host.1= host1</p>
+ *
+ * @see RiakConfigurations
  */
 public class RiakKeyValueConfiguration implements KeyValueConfiguration {
 
 
-    private static final String SERVER_PREFIX = "jnosql.riak.host";
-
     private static final RiakNode DEFAULT_NODE = new RiakNode.Builder()
             .withRemoteAddress("127.0.0.1").build();
 
@@ -71,7 +71,7 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         requireNonNull(settings, "settings is required");
         List<RiakNode> nodes = new ArrayList<>();
 
-        settings.prefix(asList(SERVER_PREFIX, Configurations.HOST.get()))
+        settings.prefix(asList(RiakConfigurations.HOST.get(), Configurations.HOST.get()))
                 .stream()
                 .map(Object::toString)
                 .map(toNode())
@@ -83,7 +83,11 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         RiakCluster cluster = new RiakCluster.Builder(nodes)
                 .build();
 
-        return new RiakBucketManagerFactory(cluster);
+        int maxInFlight = settings.get(RiakConfigurations.MAX_IN_FLIGHT)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(RiakBucketManager.DEFAULT_MAX_IN_FLIGHT);
+        return new RiakBucketManagerFactory(cluster, maxInFlight);
     }
 
     private Function<String, RiakNode> toNode() {
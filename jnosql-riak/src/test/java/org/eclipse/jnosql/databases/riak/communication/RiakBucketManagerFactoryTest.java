@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.riak.communication;
+
+import com.basho.riak.client.core.RiakCluster;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RiakBucketManagerFactoryTest {
+
+    @Test
+    void shouldReturnErrorWhenMaxInFlightIsNotPositive() {
+        RiakCluster cluster = Mockito.mock(RiakCluster.class);
+        assertThrows(IllegalArgumentException.class, () -> new RiakBucketManagerFactory(cluster, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RiakBucketManagerFactory(cluster, -1));
+    }
+
+    @Test
+    void shouldStartTheClusterOnce() {
+        RiakCluster cluster = Mockito.mock(RiakCluster.class);
+        RiakBucketManagerFactory factory = new RiakBucketManagerFactory(cluster, 10);
+        RiakBucketManager users = factory.apply("users");
+        RiakBucketManager books = factory.apply("books");
+        factory.apply("users");
+
+        assertEquals("users", users.name());
+        assertEquals("books", books.name());
+        verify(cluster, times(1)).start();
+    }
+
+    @Test
+    void shouldKeepTheClusterWhenTheBucketManagerIsClosed() {
+        RiakCluster cluster = Mockito.mock(RiakCluster.class);
+        RiakBucketManagerFactory factory = new RiakBucketManagerFactory(cluster, 10);
+        factory.apply("users").close();
+        verify(cluster, never()).shutdown();
+
+        factory.close();
+        verify(cluster, times(1)).shutdown();
+    }
+
+    @Test
+    void shouldNotShutdownTheClusterNeverStarted() {
+        RiakCluster cluster = Mockito.mock(RiakCluster.class);
+        new RiakBucketManagerFactory(cluster, 10).close();
+        verify(cluster, never()).shutdown();
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -119,4 +120,25 @@ public class RiakBucketManagerTest {
         Iterable<Value> users = values;
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldMultiGetKeepingTheKeysOrder() {
+        RiakBucketManager manager = (RiakBucketManager) keyValueEntityManager;
+        manager.put(asList(keyValueSoro, keyValueOtavio));
+        Iterable<Value> values = manager.get(asList("soro", "unknown", "otavio"));
+        assertThat(StreamSupport.stream(values.spliterator(), false).map(value -> value.get(User.class))
+                .collect(Collectors.toList())).containsExactly(userSoro, userOtavio);
+    }
+
+    @Test
+    public void shouldPutGetAndDeleteAsync() throws Exception {
+        RiakBucketManager manager = (RiakBucketManager) keyValueEntityManager;
+        manager.putAsync(keyValueOtavio).toCompletableFuture().get(2, TimeUnit.SECONDS);
+        Optional<Value> otavio = manager.getAsync("otavio").toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertTrue(otavio.isPresent());
+        assertEquals(userOtavio, otavio.get().get(User.class));
+
+        manager.deleteAsync("otavio").toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertFalse(manager.getAsync("otavio").toCompletableFuture().get(2, TimeUnit.SECONDS).isPresent());
+    }
+}